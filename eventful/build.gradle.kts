@@ -40,6 +40,9 @@ dependencies {
     //스웨거
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.13")
 
+    // 초대 코드 조회 캐시
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // Session
     implementation("org.springframework.session:spring-session-core")
     implementation("org.springframework.session:spring-session-jdbc")
@@ -5,6 +5,7 @@ import lombok.Getter;
 import side.eventful.domain.member.Member;
 
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * Controller → Facade 요청 객체
@@ -30,5 +31,122 @@ public class EventCriteria {
                 eventDate, placeId, creator);
         }
     }
-}
 
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class Participate {
+        private Long eventId;
+        private Member member;
+
+        public static Participate of(Long eventId, Member member) {
+            return new Participate(eventId, member);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class CancelParticipation {
+        private Long eventId;
+        private Member member;
+
+        public static CancelParticipation of(Long eventId, Member member) {
+            return new CancelParticipation(eventId, member);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class GetWaitlistPosition {
+        private Long eventId;
+        private Member member;
+
+        public static GetWaitlistPosition of(Long eventId, Member member) {
+            return new GetWaitlistPosition(eventId, member);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class Get {
+        private Long eventId;
+        private Member member;
+
+        public static Get of(Long eventId, Member member) {
+            return new Get(eventId, member);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class GetList {
+        private Long eventGroupId;
+        private Member member;
+        private Long afterEventId;
+        private Long beforeEventId;
+        private LocalDate from;
+        private LocalDate to;
+        private int size;
+
+        public static GetList of(Long eventGroupId, Member member, Long afterEventId, Long beforeEventId,
+                                 LocalDate from, LocalDate to, int size) {
+            return new GetList(eventGroupId, member, afterEventId, beforeEventId, from, to, size);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class IssueShareLink {
+        private Long eventId;
+        private Member member;
+
+        public static IssueShareLink of(Long eventId, Member member) {
+            return new IssueShareLink(eventId, member);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class AddParticipants {
+        private Long eventId;
+        private Member requester;
+        private List<Long> memberIds;
+
+        public static AddParticipants of(Long eventId, Member requester, List<Long> memberIds) {
+            return new AddParticipants(eventId, requester, memberIds);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class GetParticipants {
+        private Long eventId;
+        private Member member;
+
+        public static GetParticipants of(Long eventId, Member member) {
+            return new GetParticipants(eventId, member);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class Delete {
+        private Long eventId;
+        private Member member;
+
+        public static Delete of(Long eventId, Member member) {
+            return new Delete(eventId, member);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class GetCalendar {
+        private Member member;
+        private LocalDate from;
+        private LocalDate to;
+
+        public static GetCalendar of(Member member, LocalDate from, LocalDate to) {
+            return new GetCalendar(member, from, to);
+        }
+    }
+}
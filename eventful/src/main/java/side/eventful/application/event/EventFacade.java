@@ -2,12 +2,30 @@ package side.eventful.application.event;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import side.eventful.domain.event.Event;
+import side.eventful.domain.event.EventCalendarEntry;
 import side.eventful.domain.event.EventCommand;
 import side.eventful.domain.event.EventService;
+import side.eventful.domain.event.EventSummary;
+import side.eventful.domain.event.EventTimeline;
+import side.eventful.domain.event.ParticipationStatus;
 import side.eventful.domain.eventgroup.EventGroup;
 import side.eventful.domain.eventgroup.EventGroupService;
+import side.eventful.domain.member.Member;
+import side.eventful.domain.schedule.ScheduleService;
+import side.eventful.domain.schedule.ScheduleSummary;
+import side.eventful.domain.vote.VoteService;
+import side.eventful.domain.vote.VoteSummary;
+import side.eventful.global.transaction.RetryOnConflictExecutor;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Event 관련 도메인 간 협력을 조율하는 Facade
@@ -22,8 +40,14 @@ import side.eventful.domain.eventgroup.EventGroupService;
 @Transactional(readOnly = true)
 public class EventFacade {
 
+    // 그룹 삭제 시 한 트랜잭션에서 지울 이벤트 수
+    private static final int EVENT_DELETE_CHUNK_SIZE = 100;
+
     private final EventService eventService;
     private final EventGroupService eventGroupService;
+    private final ScheduleService scheduleService;
+    private final VoteService voteService;
+    private final RetryOnConflictExecutor retryExecutor;
 
     /**
      * 이벤트 생성 (Controller에서 호출)
@@ -77,5 +101,261 @@ public class EventFacade {
         // 2. Event 도메인: 이벤트 생성
         return eventService.create(eventGroup, command);
     }
+
+    /**
+     * 이벤트 참여
+     *
+     * <p>1. EventService를 통해 이벤트 조회
+     * <p>2. EventGroupService를 통해 그룹원 여부 확인
+     * <p>3. EventService를 통해 정원 안에서 참여 처리 (정원이 찼으면 대기열 등록)
+     *
+     * @param criteria 참여 요청
+     * @return 참여 상태와 대기 순번 (대기 중일 때만)
+     * @throws IllegalArgumentException 이벤트가 없거나, 그룹원이 아니거나, 이미 참여/대기 중인 경우
+     */
+    @Transactional
+    public EventResult.Participate participate(EventCriteria.Participate criteria) {
+        Event event = eventService.getEvent(criteria.getEventId());
+
+        if (!eventGroupService.isGroupMember(event.getEventGroup().getId(), criteria.getMember())) {
+            throw new IllegalArgumentException("그룹원만 이벤트에 참여할 수 있습니다.");
+        }
+
+        ParticipationStatus status = eventService.participate(event, criteria.getMember());
+        Long waitlistPosition = status == ParticipationStatus.WAITLISTED
+            ? eventService.getWaitlistPosition(event, criteria.getMember())
+            : null;
+
+        return EventResult.Participate.of(criteria.getEventId(), status, waitlistPosition);
+    }
+
+    /**
+     * 이벤트 참여 취소
+     * 참여자가 취소하면 대기열 맨 앞 회원이 같은 트랜잭션에서 승격되고,
+     * 진행 중인 투표에 남긴 표는 같은 트랜잭션에서 무효 처리된다.
+     *
+     * @param criteria 참여 취소 요청
+     * @throws IllegalArgumentException 이벤트가 없거나 참여/대기 중이 아닌 회원인 경우
+     */
+    @Transactional
+    public void cancelParticipation(EventCriteria.CancelParticipation criteria) {
+        Event event = eventService.getEvent(criteria.getEventId());
+        eventService.cancelParticipation(event, criteria.getMember());
+        voteService.voidInProgressVotes(criteria.getEventId(), criteria.getMember());
+    }
+
+    /**
+     * 참여자 일괄 등록 (기존 그룹 이전용)
+     *
+     * <p>1. 요청 ID의 중복을 메모리에서 제거 (요청 순서 유지)
+     * <p>2. EventGroupService를 통해 그룹원 여부를 IN 조회 한 번으로 확인
+     * <p>3. EventService를 통해 이미 참여 중인 회원을 제외하고 JDBC 배치로 등록
+     *
+     * <p>그룹원이 아니거나 이미 참여 중인 회원은 건너뛰고 결과에 따로 담는다.</p>
+     *
+     * @param criteria 일괄 등록 요청
+     * @return 등록된 회원과 건너뛴 회원
+     * @throws IllegalArgumentException 이벤트가 없거나, 생성자가 아니거나, 남은 자리가 모자란 경우
+     */
+    @Transactional
+    public EventResult.AddParticipants addParticipants(EventCriteria.AddParticipants criteria) {
+        Event event = eventService.getEvent(criteria.getEventId());
+
+        Set<Long> requested = new LinkedHashSet<>(criteria.getMemberIds());
+        Set<Long> groupMemberIds = eventGroupService.findGroupMemberIds(event.getEventGroup().getId(), requested);
+        List<Long> candidates = requested.stream().filter(groupMemberIds::contains).toList();
+        List<Long> notGroupMemberIds = requested.stream().filter(id -> !groupMemberIds.contains(id)).toList();
+
+        List<Long> added = eventService.addParticipants(event, criteria.getRequester(), candidates);
+        Set<Long> addedIds = new HashSet<>(added);
+        List<Long> alreadyParticipating = candidates.stream().filter(id -> !addedIds.contains(id)).toList();
+
+        return EventResult.AddParticipants.of(criteria.getEventId(), added, alreadyParticipating, notGroupMemberIds);
+    }
+
+    /**
+     * 참여자 목록 조회 (내보내기용)
+     *
+     * @throws IllegalArgumentException 이벤트가 없거나 그룹원이 아닌 경우
+     */
+    public EventResult.Participants getParticipants(EventCriteria.GetParticipants criteria) {
+        EventSummary event = eventService.getEventSummary(criteria.getEventId());
+        validateGroupMember(event.eventGroupId(), criteria.getMember());
+
+        return EventResult.Participants.of(criteria.getEventId(),
+            eventService.getParticipantSummaries(criteria.getEventId()).stream()
+                .map(p -> EventResult.ParticipantItem.of(p.memberId(), p.nickname(), p.role().name(), p.joinedAt()))
+                .toList());
+    }
+
+    /**
+     * 내 대기 순번 조회
+     *
+     * @param criteria 대기 순번 조회 요청
+     * @return 1부터 시작하는 대기 순번
+     * @throws IllegalArgumentException 이벤트가 없거나 대기 중이 아닌 경우
+     */
+    public EventResult.WaitlistPosition getWaitlistPosition(EventCriteria.GetWaitlistPosition criteria) {
+        Event event = eventService.getEvent(criteria.getEventId());
+        long position = eventService.getWaitlistPosition(event, criteria.getMember());
+        return EventResult.WaitlistPosition.of(criteria.getEventId(), position);
+    }
+
+    /**
+     * 이벤트 상세 조회
+     *
+     * <p>이벤트, 일정 요약, 투표 요약을 각각 한 번씩 조회해 조합한다.
+     * 참여 인원은 이벤트 행의 participant_count를 그대로 쓴다.</p>
+     *
+     * @throws IllegalArgumentException 이벤트가 없거나 그룹원이 아닌 경우
+     */
+    public EventResult.Detail getEvent(EventCriteria.Get criteria) {
+        EventSummary event = eventService.getEventSummary(criteria.getEventId());
+        validateGroupMember(event.eventGroupId(), criteria.getMember());
+
+        List<Long> eventIds = List.of(event.eventId());
+        return toDetail(event,
+            scheduleService.getScheduleSummaries(eventIds),
+            voteService.getVoteSummaries(eventIds));
+    }
+
+    /**
+     * 그룹의 이벤트 타임라인 조회 (날짜순 키셋 페이지)
+     *
+     * <p>한 페이지를 이벤트 1회, 일정 1회, 투표 1회로 조회한 뒤
+     * 이벤트 ID로 묶어서 조합한다.</p>
+     *
+     * @throws IllegalArgumentException 그룹원이 아니거나 페이지 조건이 잘못된 경우
+     */
+    public EventResult.GetList getEvents(EventCriteria.GetList criteria) {
+        validateGroupMember(criteria.getEventGroupId(), criteria.getMember());
+
+        EventTimeline timeline = eventService.getTimeline(EventCommand.GetTimeline.of(
+            criteria.getEventGroupId(),
+            criteria.getAfterEventId(),
+            criteria.getBeforeEventId(),
+            criteria.getFrom(),
+            criteria.getTo(),
+            criteria.getSize()
+        ));
+        List<EventSummary> events = timeline.events();
+        List<Long> eventIds = events.stream().map(EventSummary::eventId).toList();
+
+        Map<Long, List<ScheduleSummary>> schedulesByEvent = scheduleService.getScheduleSummaries(eventIds).stream()
+            .collect(Collectors.groupingBy(ScheduleSummary::eventId));
+        Map<Long, List<VoteSummary>> votesByEvent = voteService.getVoteSummaries(eventIds).stream()
+            .collect(Collectors.groupingBy(VoteSummary::eventId));
+
+        return EventResult.GetList.of(events.stream()
+            .map(event -> toDetail(event,
+                schedulesByEvent.getOrDefault(event.eventId(), List.of()),
+                votesByEvent.getOrDefault(event.eventId(), List.of())))
+            .toList(),
+            timeline.prevCursor(),
+            timeline.nextCursor());
+    }
+
+    /**
+     * 내 일정 조회 (참여 중인 모든 그룹의 이벤트, 날짜순)
+     *
+     * <p>본인이 참여한 이벤트만 조회하므로 그룹원 검증을 따로 하지 않는다.</p>
+     *
+     * @throws IllegalArgumentException 날짜 범위가 잘못된 경우
+     */
+    public EventResult.Calendar getCalendar(EventCriteria.GetCalendar criteria) {
+        List<EventCalendarEntry> entries = eventService.getCalendar(EventCommand.GetCalendar.of(
+            criteria.getMember().getId(),
+            criteria.getFrom(),
+            criteria.getTo()
+        ));
+
+        return EventResult.Calendar.of(entries.stream()
+            .map(e -> EventResult.CalendarItem.of(e.eventId(), e.eventGroupId(), e.eventGroupName(), e.name(),
+                e.eventDate(), e.placeId(), e.role().name()))
+            .toList());
+    }
+
+    /**
+     * 공개 공유 링크 토큰 조회 (없으면 발급)
+     *
+     * @throws IllegalArgumentException 이벤트가 없거나 그룹원이 아닌 경우
+     */
+    @Transactional
+    public EventResult.ShareLink issueShareLink(EventCriteria.IssueShareLink criteria) {
+        Event event = eventService.getEvent(criteria.getEventId());
+        validateGroupMember(event.getEventGroup().getId(), criteria.getMember());
+
+        return EventResult.ShareLink.of(criteria.getEventId(), eventService.issueShareToken(event));
+    }
+
+    /**
+     * 이벤트 삭제 (생성자 전용)
+     *
+     * <p>일정, 투표(선택지/기록), 대기열, 참여자를 엔티티로 로딩하지 않고
+     * 참조하는 쪽부터 테이블마다 DELETE 한 문장으로 지운다.</p>
+     *
+     * @throws IllegalArgumentException 이벤트가 없거나 생성자가 아닌 경우
+     */
+    @Transactional
+    public void deleteEvent(EventCriteria.Delete criteria) {
+        Event event = eventService.getEvent(criteria.getEventId());
+        event.validateDeletePermission(criteria.getMember());
+
+        deleteEventTrees(List.of(criteria.getEventId()));
+    }
+
+    /**
+     * 그룹의 이벤트를 하위 데이터까지 모두 삭제 (그룹 삭제 전 단계)
+     *
+     * <p>이벤트를 {@value #EVENT_DELETE_CHUNK_SIZE}개씩 끊어 각각 짧은 트랜잭션에서 지운다.
+     * 오래된 큰 그룹이라도 한 트랜잭션이 모든 행의 락을 오래 잡고 있지 않으며,
+     * 중간에 실패해도 이미 지운 이벤트는 그대로 두고 다시 시도하면 남은 이벤트부터 이어서 지운다.</p>
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void deleteGroupEvents(Long eventGroupId) {
+        int deleted;
+        do {
+            deleted = retryExecutor.execute(() -> {
+                List<Long> eventIds = eventService.findEventIds(eventGroupId, EVENT_DELETE_CHUNK_SIZE);
+                deleteEventTrees(eventIds);
+                return eventIds.size();
+            });
+        } while (deleted == EVENT_DELETE_CHUNK_SIZE);
+    }
+
+    // 외래 키 순서: 일정, 투표 → 대기열, 참여자 → 이벤트
+    private void deleteEventTrees(List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        scheduleService.deleteAllByEventIds(eventIds);
+        voteService.deleteAllByEventIds(eventIds);
+        eventService.deleteAll(eventIds);
+    }
+
+    private void validateGroupMember(Long eventGroupId, Member member) {
+        if (!eventGroupService.isGroupMember(eventGroupId, member)) {
+            throw new IllegalArgumentException("그룹원만 이벤트를 조회할 수 있습니다.");
+        }
+    }
+
+    private EventResult.Detail toDetail(EventSummary event, List<ScheduleSummary> schedules, List<VoteSummary> votes) {
+        return EventResult.Detail.of(
+            event.eventId(),
+            event.eventGroupId(),
+            event.name(),
+            event.description(),
+            event.maxParticipants(),
+            event.participantCount(),
+            event.eventDate(),
+            event.placeId(),
+            schedules.stream()
+                .map(s -> EventResult.ScheduleItem.of(s.scheduleId(), s.name(), s.startTime(), s.endTime(), s.location()))
+                .toList(),
+            votes.stream()
+                .map(v -> EventResult.VoteItem.of(v.voteId(), v.name(), v.startTime(), v.endTime(), v.status().name()))
+                .toList()
+        );
+    }
 }
 
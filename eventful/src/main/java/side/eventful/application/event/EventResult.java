@@ -2,8 +2,12 @@ package side.eventful.application.event;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import side.eventful.domain.event.ParticipationStatus;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
 
 /**
  * Facade → Controller 응답 객체
@@ -29,5 +33,167 @@ public class EventResult {
                 maxParticipants, eventDate, placeId);
         }
     }
-}
 
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class Participate {
+        private Long eventId;
+        private ParticipationStatus status;
+        private Long waitlistPosition;
+
+        public static Participate of(Long eventId, ParticipationStatus status, Long waitlistPosition) {
+            return new Participate(eventId, status, waitlistPosition);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class WaitlistPosition {
+        private Long eventId;
+        private long position;
+
+        public static WaitlistPosition of(Long eventId, long position) {
+            return new WaitlistPosition(eventId, position);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class Detail {
+        private Long eventId;
+        private Long eventGroupId;
+        private String name;
+        private String description;
+        private Integer maxParticipants;
+        private int participantCount;
+        private LocalDate eventDate;
+        private String placeId;
+        private List<ScheduleItem> schedules;
+        private List<VoteItem> votes;
+
+        public static Detail of(Long eventId, Long eventGroupId, String name, String description,
+                                Integer maxParticipants, int participantCount, LocalDate eventDate,
+                                String placeId, List<ScheduleItem> schedules, List<VoteItem> votes) {
+            return new Detail(eventId, eventGroupId, name, description, maxParticipants,
+                participantCount, eventDate, placeId, schedules, votes);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class ScheduleItem {
+        private Long scheduleId;
+        private String name;
+        private LocalTime startTime;
+        private LocalTime endTime;
+        private String location;
+
+        public static ScheduleItem of(Long scheduleId, String name, LocalTime startTime,
+                                      LocalTime endTime, String location) {
+            return new ScheduleItem(scheduleId, name, startTime, endTime, location);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class VoteItem {
+        private Long voteId;
+        private String name;
+        private LocalTime startTime;
+        private LocalTime endTime;
+        private String status;
+
+        public static VoteItem of(Long voteId, String name, LocalTime startTime,
+                                  LocalTime endTime, String status) {
+            return new VoteItem(voteId, name, startTime, endTime, status);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class GetList {
+        private List<Detail> events;
+        private Long prevCursor;
+        private Long nextCursor;
+
+        public static GetList of(List<Detail> events, Long prevCursor, Long nextCursor) {
+            return new GetList(events, prevCursor, nextCursor);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class ShareLink {
+        private Long eventId;
+        private String shareToken;
+
+        public static ShareLink of(Long eventId, String shareToken) {
+            return new ShareLink(eventId, shareToken);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class AddParticipants {
+        private Long eventId;
+        private List<Long> addedMemberIds;
+        private List<Long> alreadyParticipatingMemberIds;
+        private List<Long> notGroupMemberIds;
+
+        public static AddParticipants of(Long eventId, List<Long> addedMemberIds,
+                                         List<Long> alreadyParticipatingMemberIds, List<Long> notGroupMemberIds) {
+            return new AddParticipants(eventId, addedMemberIds, alreadyParticipatingMemberIds, notGroupMemberIds);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class ParticipantItem {
+        private Long memberId;
+        private String nickname;
+        private String role;
+        private LocalDateTime joinedAt;
+
+        public static ParticipantItem of(Long memberId, String nickname, String role, LocalDateTime joinedAt) {
+            return new ParticipantItem(memberId, nickname, role, joinedAt);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class Participants {
+        private Long eventId;
+        private List<ParticipantItem> participants;
+
+        public static Participants of(Long eventId, List<ParticipantItem> participants) {
+            return new Participants(eventId, participants);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class CalendarItem {
+        private Long eventId;
+        private Long eventGroupId;
+        private String eventGroupName;
+        private String name;
+        private LocalDate eventDate;
+        private String placeId;
+        private String role;
+
+        public static CalendarItem of(Long eventId, Long eventGroupId, String eventGroupName, String name,
+                                      LocalDate eventDate, String placeId, String role) {
+            return new CalendarItem(eventId, eventGroupId, eventGroupName, name, eventDate, placeId, role);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class Calendar {
+        private List<CalendarItem> events;
+
+        public static Calendar of(List<CalendarItem> events) {
+            return new Calendar(events);
+        }
+    }
+}
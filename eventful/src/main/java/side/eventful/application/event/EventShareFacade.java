@@ -0,0 +1,122 @@
+package side.eventful.application.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import side.eventful.domain.event.EventContentChanged;
+import side.eventful.domain.event.EventService;
+import side.eventful.domain.event.EventSnapshot;
+import side.eventful.domain.event.EventSnapshotCache;
+import side.eventful.domain.event.EventSummary;
+import side.eventful.domain.event.EventsDeleted;
+import side.eventful.domain.schedule.ScheduleService;
+import side.eventful.domain.vote.VoteOptionTally;
+import side.eventful.domain.vote.VoteService;
+import side.eventful.global.response.ApiResponse;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 공개 이벤트 공유 링크를 스냅샷으로 제공하는 Facade
+ *
+ * <p>공유 링크는 로그인 없이 여러 사람이 한꺼번에 여는 화면이므로, 이벤트·일정·투표 결과를
+ * 조회할 때마다 조립하지 않고 직렬화된 JSON 스냅샷을 캐시에서 그대로 내려준다.</p>
+ * <ul>
+ *   <li>EventService, ScheduleService, VoteService가 이벤트 내용을 바꾸면 커밋 후 해당 이벤트 스냅샷만 다시 만든다.</li>
+ *   <li>ETag는 본문 해시이므로 내용이 같으면 재생성해도 값이 바뀌지 않는다.</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+public class EventShareFacade {
+
+    private final EventService eventService;
+    private final ScheduleService scheduleService;
+    private final VoteService voteService;
+    private final EventSnapshotCache snapshotCache;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 공유 토큰으로 이벤트 스냅샷 조회
+     *
+     * @throws IllegalArgumentException 없는 공유 토큰인 경우
+     */
+    public EventSnapshot getSnapshot(String shareToken) {
+        Long eventId = snapshotCache.getEventId(shareToken, eventService::findEventIdByShareToken)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 공유 링크입니다."));
+        return snapshotCache.getSnapshot(eventId, this::buildSnapshot);
+    }
+
+    /**
+     * 이벤트 내용 변경 커밋 후 스냅샷 갱신
+     * 커밋이 끝난 뒤라 원래 트랜잭션에 참여할 수 없으므로 읽기 전용 새 트랜잭션에서 조회한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onEventContentChanged(EventContentChanged changed) {
+        snapshotCache.refreshIfPresent(changed.eventId(), this::buildSnapshot);
+    }
+
+    /**
+     * 이벤트 삭제 커밋 후 스냅샷 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsDeleted(EventsDeleted deleted) {
+        deleted.eventIds().forEach(snapshotCache::evict);
+    }
+
+    private EventSnapshot buildSnapshot(Long eventId) {
+        EventSummary event = eventService.getEventSummary(eventId);
+        List<Long> eventIds = List.of(eventId);
+        Map<Long, List<VoteOptionTally>> talliesByVote = voteService.getOptionTallies(eventId).stream()
+            .collect(Collectors.groupingBy(VoteOptionTally::voteId));
+
+        EventShareView view = new EventShareView(
+            event.name(),
+            event.description(),
+            event.eventDate(),
+            event.placeId(),
+            event.maxParticipants(),
+            event.participantCount(),
+            scheduleService.getScheduleSummaries(eventIds).stream()
+                .map(s -> new EventShareView.ScheduleView(s.name(), s.startTime(), s.endTime(), s.location()))
+                .toList(),
+            voteService.getVoteSummaries(eventIds).stream()
+                .map(v -> new EventShareView.VoteView(v.name(), v.startTime(), v.endTime(), v.status().name(),
+                    talliesByVote.getOrDefault(v.voteId(), List.of()).stream()
+                        .map(t -> new EventShareView.OptionView(t.locationName(), t.voteCount()))
+                        .toList()))
+                .toList()
+        );
+
+        byte[] body = serialize(ApiResponse.ok(view));
+        return new EventSnapshot(body, etagOf(body));
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("공유 링크 응답을 만들지 못했습니다.", e);
+        }
+    }
+
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
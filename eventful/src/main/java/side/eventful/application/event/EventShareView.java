@@ -0,0 +1,44 @@
+package side.eventful.application.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 공개 공유 링크 응답 본문
+ * 스냅샷으로 한 번 직렬화해 두고 그대로 내려준다 (필드명은 전역 SNAKE_CASE 설정을 따른다).
+ */
+public record EventShareView(
+    String eventName,
+    String eventDescription,
+    LocalDate eventDate,
+    String placeId,
+    Integer eventMaxMember,
+    int eventMemberCount,
+    List<ScheduleView> schedules,
+    List<VoteView> votes
+) {
+
+    public record ScheduleView(
+        String scheduleName,
+        LocalTime startTime,
+        LocalTime endTime,
+        String location
+    ) {
+    }
+
+    public record VoteView(
+        String voteName,
+        LocalTime startTime,
+        LocalTime endTime,
+        String status,
+        List<OptionView> options
+    ) {
+    }
+
+    public record OptionView(
+        String locationName,
+        long voteCount
+    ) {
+    }
+}
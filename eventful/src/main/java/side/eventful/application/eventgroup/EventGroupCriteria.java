@@ -51,6 +51,18 @@ public class EventGroupCriteria {
         }
     }
 
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class GetMembers {
+        private Long eventGroupId;
+        private Long afterMemberId;
+        private int size;
+
+        public static GetMembers create(Long eventGroupId, Long afterMemberId, int size) {
+            return new GetMembers(eventGroupId, afterMemberId, size);
+        }
+    }
+
     @Getter
     @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
     public static class VerifyCode {
@@ -1,10 +1,15 @@
 package side.eventful.application.eventgroup;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import side.eventful.application.event.EventFacade;
 import side.eventful.domain.eventgroup.EventGroupCommand;
 import side.eventful.domain.eventgroup.EventGroupService;
 import side.eventful.domain.eventgroup.EventGroup;
+import side.eventful.domain.eventgroup.EventGroupMemberSummary;
+import side.eventful.domain.eventgroup.EventGroupSummary;
+import side.eventful.domain.eventgroup.JoinCodeGroup;
 import side.eventful.domain.member.Member;
 import side.eventful.domain.member.auth.AuthService;
 
@@ -12,7 +17,11 @@ import side.eventful.domain.member.auth.AuthService;
 @RequiredArgsConstructor
 public class EventGroupFacade {
 
+    // 그룹 삭제 도중 새 이벤트 생성 등으로 충돌했을 때 처음부터 다시 시도하는 최대 횟수
+    private static final int MAX_DELETE_ATTEMPTS = 3;
+
     private final EventGroupService eventGroupService;
+    private final EventFacade eventFacade;
     private final AuthService authService;
 
     public EventGroupResult.Create create(EventGroupCriteria.Create criteria) {
@@ -68,13 +77,13 @@ public class EventGroupFacade {
 
         EventGroup eventGroup = eventGroupService.getGroup(command);
 
-        // 멤버 목록을 정렬하여 변환
-        java.util.List<EventGroupResult.GroupMember> groupMembers = eventGroup.getMembersOrderedByLeaderAndName()
+        // 그룹장 먼저, 닉네임 순으로 DB에서 정렬된 프로젝션을 그대로 변환
+        java.util.List<EventGroupResult.GroupMember> groupMembers = eventGroupService.getMemberSummaries(criteria.getEventGroupId())
                 .stream()
                 .map(m -> EventGroupResult.GroupMember.create(
-                    m.getId(),
-                    m.getNickname(),
-                    eventGroup.isLeader(m)
+                    m.memberId(),
+                    m.nickname(),
+                    m.leader()
                 ))
                 .toList();
 
@@ -82,24 +91,48 @@ public class EventGroupFacade {
             eventGroup.getName(),
             eventGroup.getDescription(),
             eventGroup.isLeader(member),
-            eventGroup.getMemberCount(),
+            groupMembers.size(),
             eventGroup.getJoinCode(), // 실제 joinCode 필드 사용
             eventGroup.getJoinPassword(),
             groupMembers
         );
     }
 
+    public EventGroupResult.GetMembers getGroupMembers(EventGroupCriteria.GetMembers criteria) {
+        Member member = authService.getAuthenticatedMember();
+
+        EventGroupCommand.GetMembers command = EventGroupCommand.GetMembers.create(
+            criteria.getEventGroupId(),
+            member,
+            criteria.getAfterMemberId(),
+            criteria.getSize()
+        );
+
+        java.util.List<EventGroupMemberSummary> members = eventGroupService.getGroupMembers(command);
+
+        java.util.List<EventGroupResult.GroupMember> groupMembers = members.stream()
+                .map(m -> EventGroupResult.GroupMember.create(m.memberId(), m.nickname(), m.leader()))
+                .toList();
+
+        // 요청한 크기만큼 채워졌으면 다음 페이지가 있을 수 있으므로 마지막 회원 ID를 커서로 반환
+        Long nextCursor = members.size() == criteria.getSize()
+                ? members.get(members.size() - 1).memberId()
+                : null;
+
+        return EventGroupResult.GetMembers.create(groupMembers, nextCursor);
+    }
+
     public EventGroupResult.VerifyCode verifyJoinCode(EventGroupCriteria.VerifyCode criteria) {
         EventGroupCommand.VerifyCode command = EventGroupCommand.VerifyCode.create(
             criteria.getJoinCode()
         );
 
-        EventGroup eventGroup = eventGroupService.verifyJoinCode(command);
+        JoinCodeGroup group = eventGroupService.verifyJoinCode(command);
 
         return EventGroupResult.VerifyCode.create(
-            eventGroup.getId(),
-            eventGroup.getName(),
-            eventGroup.getDescription()
+            group.groupId(),
+            group.name(),
+            group.description()
         );
     }
 
@@ -129,6 +162,7 @@ public class EventGroupFacade {
     }
 
     // 그룹 삭제 처리 (페이사드)
+    // 이벤트를 지우는 사이 새 이벤트가 생성되면 그룹 버전이 올라가 3단계가 충돌하므로, 그룹을 다시 읽어 남은 이벤트부터 다시 지운다
     public void deleteGroup(EventGroupCriteria.Delete criteria) {
         Member requestMember = authService.getAuthenticatedMember();
 
@@ -137,7 +171,23 @@ public class EventGroupFacade {
             requestMember
         );
 
-        eventGroupService.deleteGroup(command);
+        for (int attempt = 1; ; attempt++) {
+            // 1. 그룹장인지 먼저 확인하고, 이벤트를 지우기 전의 그룹 버전을 읽어 둠
+            EventGroup eventGroup = eventGroupService.getGroupForDeletion(command);
+            // 2. 그룹의 이벤트를 하위 데이터까지 짧은 트랜잭션 여러 개로 나눠 삭제
+            eventFacade.deleteGroupEvents(criteria.getEventGroupId());
+            // 3. 그룹원과 그룹 삭제 (1에서 읽은 버전일 때만)
+            try {
+                eventGroupService.deleteGroup(eventGroup);
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_DELETE_ATTEMPTS) {
+                    throw e;
+                }
+                continue;
+            }
+            eventGroupService.evictJoinCode(eventGroup.getJoinCode());
+            return;
+        }
     }
 
     public EventGroupResult.GetList getGroupList(EventGroupCriteria.GetList criteria) {
@@ -145,15 +195,15 @@ public class EventGroupFacade {
 
         EventGroupCommand.GetList command = EventGroupCommand.GetList.create(member);
 
-        java.util.List<EventGroup> eventGroups = eventGroupService.getGroupList(command);
+        java.util.List<EventGroupSummary> eventGroups = eventGroupService.getGroupList(command);
 
         java.util.List<EventGroupResult.GroupSummary> groupSummaries = eventGroups.stream()
                 .map(group -> EventGroupResult.GroupSummary.create(
-                    group.getId(),
-                    group.getName(),
-                    group.getDescription(),
-                    group.getImageUrl(),
-                    group.getMemberCount()
+                    group.groupId(),
+                    group.name(),
+                    group.description(),
+                    group.imageUrl(),
+                    (int) group.memberCount()
                 ))
                 .toList();
 
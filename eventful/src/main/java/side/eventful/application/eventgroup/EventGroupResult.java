@@ -69,6 +69,21 @@ public class EventGroupResult {
         }
     }
 
+    @Getter
+    public static class GetMembers {
+        private final java.util.List<GroupMember> groupMembers;
+        private final Long nextCursor;
+
+        private GetMembers(java.util.List<GroupMember> groupMembers, Long nextCursor) {
+            this.groupMembers = groupMembers;
+            this.nextCursor = nextCursor;
+        }
+
+        public static GetMembers create(java.util.List<GroupMember> groupMembers, Long nextCursor) {
+            return new GetMembers(groupMembers, nextCursor);
+        }
+    }
+
     @Getter
     public static class VerifyCode {
         private final Long groupId;
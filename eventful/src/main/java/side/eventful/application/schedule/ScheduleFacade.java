@@ -2,9 +2,8 @@ package side.eventful.application.schedule;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import side.eventful.domain.event.Event;
-import side.eventful.domain.event.EventRepository;
 import side.eventful.domain.member.Member;
 import side.eventful.domain.schedule.Schedule;
 import side.eventful.domain.schedule.ScheduleCommand;
@@ -17,7 +16,7 @@ import java.util.stream.Collectors;
 /**
  * Schedule 관련 도메인 간 협력을 조율하는 Facade
  *
- * <p>여러 도메인 서비스(ScheduleService, EventRepository)를 조합하여
+ * <p>여러 도메인 서비스(ScheduleService)를 조합하여
  * 하나의 유스케이스를 완성합니다.</p>
  *
  * <p>Controller는 이 Facade를 통해 Schedule 관련 기능을 호출합니다.</p>
@@ -28,7 +27,6 @@ import java.util.stream.Collectors;
 public class ScheduleFacade {
 
     private final ScheduleService scheduleService;
-    private final EventRepository eventRepository;
     private final ScheduleRepository scheduleRepository;
 
     /**
@@ -37,13 +35,9 @@ public class ScheduleFacade {
      * @param criteria Controller에서 전달받은 요청 객체
      * @return 생성된 일정 결과
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ScheduleResult.Create createSchedule(ScheduleCriteria.Create criteria) {
-        // 1. Event 조회
-        Event event = eventRepository.findById(criteria.getEventId())
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 이벤트입니다."));
-
-        // 2. Schedule 생성
+        // 이벤트 조회와 생성은 ScheduleService가 충돌 시 재시도하는 트랜잭션 안에서 수행
         ScheduleCommand.CreateSchedule command = new ScheduleCommand.CreateSchedule(
             criteria.getName(),
             criteria.getMemo(),
@@ -52,7 +46,7 @@ public class ScheduleFacade {
             criteria.getLocation()
         );
 
-        Schedule schedule = scheduleService.createSchedule(event, criteria.getCreator(), command);
+        Schedule schedule = scheduleService.createSchedule(criteria.getEventId(), criteria.getCreator(), command);
 
         return ScheduleResult.Create.of(
             schedule.getId(),
@@ -0,0 +1,48 @@
+package side.eventful.application.vote;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import side.eventful.domain.vote.VoteService;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마감 시각이 지난 투표를 주기적으로 마감하고 일정으로 변환
+ *
+ * <p>한 번 실행할 때 묶음 단위 트랜잭션을 밀린 투표가 없을 때까지(최대 MAX_BATCHES_PER_RUN 번) 반복한다.
+ * 인스턴스마다 실행되어도 VoteService가 잠긴 투표를 건너뛰므로 나눠서 처리된다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "eventful.vote-closing.enabled", havingValue = "true", matchIfMissing = true)
+public class VoteClosingScheduler {
+
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final VoteService voteService;
+    private final int batchSize;
+
+    public VoteClosingScheduler(VoteService voteService,
+                                @Value("${eventful.vote-closing.batch-size:50}") int batchSize) {
+        this.voteService = voteService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${eventful.vote-closing.interval:30s}")
+    public void closeDueVotes() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+                if (voteService.closeDueVotes(now, batchSize) < batchSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도
+            log.warn("투표 자동 마감 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package side.eventful.application.vote;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import side.eventful.domain.member.Member;
+
+/**
+ * Controller → Facade 요청 객체
+ * Request DTO에서 변환된 애플리케이션 레이어용 객체
+ */
+public class VoteCriteria {
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class CastVote {
+        private Long voteId;
+        private Long optionId;
+        private Member member;
+
+        public static CastVote of(Long voteId, Long optionId, Member member) {
+            return new CastVote(voteId, optionId, member);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package side.eventful.application.vote;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import side.eventful.domain.vote.BallotBuffer;
+import side.eventful.domain.vote.VoteCommand;
+import side.eventful.domain.vote.VoteService;
+
+import java.util.Optional;
+
+/**
+ * Vote 관련 도메인 간 협력을 조율하는 Facade
+ *
+ * <p>eventful.vote-ingest.mode 값으로 투표 반영 방식을 선택한다.</p>
+ * <ul>
+ *   <li>direct (기본값): 표마다 트랜잭션 하나로 바로 반영한다.</li>
+ *   <li>buffered: 검증만 먼저 하고 표를 버퍼에 넣어 여러 표를 한 트랜잭션으로 반영한다.
+ *   투표가 열리자마자 몰리는 경우 커밋 수를 줄이지만, 응답이 최대 flush-interval 만큼 늦어진다.</li>
+ * </ul>
+ */
+@Service
+public class VoteFacade {
+
+    private final VoteService voteService;
+    private final Optional<BallotBuffer> ballotBuffer;
+
+    public VoteFacade(VoteService voteService, Optional<BallotBuffer> ballotBuffer) {
+        this.voteService = voteService;
+        this.ballotBuffer = ballotBuffer;
+    }
+
+    /**
+     * 투표하기
+     *
+     * @param criteria 투표 요청
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void castVote(VoteCriteria.CastVote criteria) {
+        VoteCommand.CastVote command = new VoteCommand.CastVote(criteria.getOptionId());
+        ballotBuffer.ifPresentOrElse(
+            buffer -> buffer.submit(voteService.validateBallot(criteria.getVoteId(), criteria.getMember(), command)),
+            () -> voteService.castVote(criteria.getVoteId(), criteria.getMember(), command)
+        );
+    }
+}
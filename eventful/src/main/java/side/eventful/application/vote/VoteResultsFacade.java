@@ -0,0 +1,73 @@
+package side.eventful.application.vote;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import side.eventful.domain.member.Member;
+import side.eventful.domain.vote.VoteParticipantLeft;
+import side.eventful.domain.vote.VoteResultsChanged;
+import side.eventful.domain.vote.VoteResultsHub;
+import side.eventful.domain.vote.VoteResultsSubscriber;
+import side.eventful.domain.vote.VoteResultsSubscription;
+import side.eventful.domain.vote.VoteService;
+
+/**
+ * 투표 결과를 실시간으로 내려주는 Facade
+ *
+ * <p>클라이언트가 주기적으로 결과를 조회하지 않고 연결 하나로 변경을 받는다.</p>
+ * <ul>
+ *   <li>VoteService가 투표 결과를 바꾸면 커밋 후 득표수를 한 번만 읽어 모든 구독자에게 보낸다.</li>
+ *   <li>구독자가 없는 투표는 다시 읽지 않는다.</li>
+ *   <li>참여를 취소한 회원의 구독은 닫는다.</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+public class VoteResultsFacade {
+
+    private final VoteService voteService;
+    private final VoteResultsHub resultsHub;
+
+    /**
+     * 투표 결과 구독
+     * 구독자를 먼저 등록한 뒤 현재 결과를 읽는다. 읽은 뒤 커밋된 변경은 등록된 구독자에게 알림으로 오므로 놓치지 않는다.
+     *
+     * @throws IllegalArgumentException 없는 투표이거나 이벤트 참여자가 아닌 경우
+     */
+    @Transactional(readOnly = true)
+    public void subscribe(Long voteId, Member member, VoteResultsSubscriber subscriber) {
+        Long eventId = voteService.validateResultsViewer(voteId, member);
+        VoteResultsSubscription subscription = resultsHub.subscribe(subscriber, voteId, eventId, member.getId());
+        try {
+            voteService.findVoteResults(voteId)
+                .ifPresentOrElse(subscription::sendInitial, subscription::cancel);
+        } catch (RuntimeException e) {
+            subscription.cancel();
+            throw e;
+        }
+    }
+
+    /**
+     * 투표 결과 변경 커밋 후 구독자에게 전송
+     * 커밋이 끝난 뒤라 원래 트랜잭션에 참여할 수 없으므로 읽기 전용 새 트랜잭션에서 조회한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onVoteResultsChanged(VoteResultsChanged changed) {
+        if (!resultsHub.hasSubscribers(changed.voteId())) {
+            return;
+        }
+        voteService.findVoteResults(changed.voteId())
+            .ifPresentOrElse(resultsHub::publish, () -> resultsHub.close(changed.voteId()));
+    }
+
+    /**
+     * 참여 취소 커밋 후 해당 회원의 구독 종료
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteParticipantLeft(VoteParticipantLeft left) {
+        resultsHub.closeMember(left.eventId(), left.memberId());
+    }
+}
@@ -14,9 +14,11 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_event_group_date_id", columnList = "event_group_id, event_date, id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class Event extends BaseEntity {
@@ -41,6 +43,22 @@ public class Event extends BaseEntity {
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<EventParticipant> participants = new ArrayList<>();
 
+    // 현재 참여 인원 (생성자 포함)
+    // 참여/취소 시 조건부 UPDATE로만 증감하며, 엔티티 변경 감지로 덮어쓰지 않도록 updatable = false
+    // 기존 이벤트는 생성자만 참여 중이므로 기본값 1
+    @Column(updatable = false, columnDefinition = "integer default 1 not null")
+    private int participantCount;
+
+    // 공개 공유 링크 토큰 (추측할 수 없는 임의 값)
+    // 이 기능 이전에 만든 이벤트는 비어 있으며 처음 링크를 요청할 때 발급
+    @Column(unique = true, length = 32)
+    private String shareToken;
+
+    // 동시 수정 감지용 버전 (기존 행은 0부터 시작)
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private Long version;
+
     private Event(EventGroup eventGroup, String name, String description, Integer maxParticipants, LocalDate eventDate, String placeId, Member creator) {
         this.eventGroup = eventGroup;
         this.name = name;
@@ -49,6 +67,7 @@ public class Event extends BaseEntity {
         this.eventDate = eventDate;
         this.placeId = placeId;
         this.creator = creator;
+        this.shareToken = newShareToken();
     }
 
     public static Event create(EventGroup eventGroup, String name, String description, Integer maxParticipants, LocalDate eventDate, String placeId, Member creator) {
@@ -85,56 +104,35 @@ public class Event extends BaseEntity {
             LocalDateTime.now()
         );
         this.participants.add(creatorParticipant);
-    }
-
-    public boolean isFull() {
-        if (maxParticipants == null) return false;
-        return maxParticipants <= participants.size();
+        this.participantCount = 1;
     }
 
     /**
-     * 이벤트에 일반 회원을 참여시킨다
-     *
-     * <p>주의: 이 메서드는 Event 집합체 내부의 규칙만 검증합니다.
-     * <strong>그룹원 여부 검증은 서비스 레이어에서 수행해야 합니다.</strong></p>
-     *
-     * <pre>
-     * // ✅ 올바른 사용 (Service Layer)
-     * Event event = eventRepository.findById(eventId).orElseThrow();
-     * if (!event.getEventGroup().isMember(member)) {
-     *     throw new IllegalArgumentException("그룹원만 참여 가능합니다.");
-     * }
-     * event.addParticipant(member, ParticipantRole.PARTICIPANT, LocalDateTime.now());
-     * </pre>
-     *
-     * @param member 참여할 회원
-     * @param role 참여자 역할 (PARTICIPANT)
-     * @param joinedAt 참여 시각
-     * @throws IllegalArgumentException 최대 인원 초과 또는 중복 참여 시
+     * 공유 링크 토큰을 돌려준다. 토큰이 없는 기존 이벤트는 이때 발급한다.
      */
-    public void addParticipant(Member member, ParticipantRole role, LocalDateTime joinedAt) {
-        if (isFull()) {
-            throw new IllegalArgumentException("최대 참여 인원을 초과했습니다.");
+    public String issueShareToken() {
+        if (this.shareToken == null) {
+            this.shareToken = newShareToken();
         }
+        return this.shareToken;
+    }
 
-        boolean alreadyParticipating = this.participants.stream()
-            .anyMatch(p -> p.getMember().equals(member));
+    private static String newShareToken() {
+        // UUID v4는 SecureRandom으로 만든 122비트 임의 값
+        return UUID.randomUUID().toString().replace("-", "");
+    }
 
-        if (alreadyParticipating) {
-            throw new IllegalArgumentException("이미 참여 중인 회원입니다.");
+    // 이벤트 삭제 권한 검증
+    public void validateDeletePermission(Member requestMember) {
+        if (!this.creator.equals(requestMember)) {
+            throw new IllegalArgumentException("이벤트 생성자만 이벤트를 삭제할 수 있습니다.");
         }
-
-        EventParticipant eventParticipant = EventParticipant.of(this, member, role, joinedAt);
-        this.participants.add(eventParticipant);
     }
 
-    public void removeParticipant(Member member) {
-        EventParticipant target = this.participants.stream()
-            .filter(participant -> participant.getMember().equals(member))
-            .findFirst()
-            .orElseThrow(() -> new IllegalArgumentException("참여하지 않은 회원입니다."));
-
-        this.participants.remove(target);
+    // 참여/취소는 participant_count를 조건부 UPDATE로 바꾸는 EventService.participate / cancelParticipation을 사용한다
+    public boolean isFull() {
+        if (maxParticipants == null) return false;
+        return maxParticipants <= participantCount;
     }
 
     @Override
@@ -0,0 +1,19 @@
+package side.eventful.domain.event;
+
+import java.time.LocalDate;
+
+/**
+ * 내 일정(캘린더) 화면의 이벤트 한 줄
+ *
+ * <p>회원이 참여 중인 이벤트를 그룹과 관계없이 event_participant 조인 한 번으로 조회한다.</p>
+ */
+public record EventCalendarEntry(
+    Long eventId,
+    Long eventGroupId,
+    String eventGroupName,
+    String name,
+    LocalDate eventDate,
+    String placeId,
+    ParticipantRole role
+) {
+}
@@ -25,5 +25,32 @@ public class EventCommand {
             return new Create(eventGroupId, name, description, maxParticipants, eventDate, placeId, creator);
         }
     }
-}
 
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class GetTimeline {
+        private Long eventGroupId;
+        private Long afterEventId;   // 이 이벤트 다음(이후 날짜)부터
+        private Long beforeEventId;  // 이 이벤트 이전(앞선 날짜)까지
+        private LocalDate from;      // 포함, 없으면 제한 없음
+        private LocalDate to;        // 포함, 없으면 제한 없음
+        private int size;
+
+        public static GetTimeline of(Long eventGroupId, Long afterEventId, Long beforeEventId,
+                                     LocalDate from, LocalDate to, int size) {
+            return new GetTimeline(eventGroupId, afterEventId, beforeEventId, from, to, size);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class GetCalendar {
+        private Long memberId;
+        private LocalDate from;      // 포함, 없으면 오늘
+        private LocalDate to;        // 포함, 없으면 시작일로부터 한 달
+
+        public static GetCalendar of(Long memberId, LocalDate from, LocalDate to) {
+            return new GetCalendar(memberId, from, to);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package side.eventful.domain.event;
+
+/**
+ * 이벤트 내용(참여 인원, 일정, 투표)이 바뀌었음을 알리는 애플리케이션 이벤트
+ *
+ * <p>변경한 트랜잭션이 커밋된 뒤 공유 링크 스냅샷을 다시 만드는 데 쓴다.</p>
+ */
+public record EventContentChanged(Long eventId) {
+}
@@ -10,6 +10,15 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
+@Table(
+    name = "event_participant",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_event_participant_event_member",
+        columnNames = {"event_id", "member_id"}
+    ),
+    // 내 일정 조회: 회원 ID로 참여 이벤트를 찾는 방향
+    indexes = @Index(name = "idx_event_participant_member_event", columnList = "member_id, event_id")
+)
 @Getter
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 public class EventParticipant extends BaseEntity {
@@ -0,0 +1,15 @@
+package side.eventful.domain.event;
+
+/**
+ * 이벤트 참여 여부 조회
+ *
+ * <p>participants 컬렉션을 로딩하지 않고 (event_id, member_id) 유니크 인덱스로 확인한다.
+ * 한 요청 안에서 같은 (이벤트, 회원)을 여러 번 물어도 DB는 한 번만 조회한다.</p>
+ */
+public interface EventParticipantLookup {
+
+    boolean isParticipant(Long eventId, Long memberId);
+
+    // 참여/취소/승격으로 참여자가 바뀐 이벤트의 기억된 결과를 버림
+    void evict(Long eventId);
+}
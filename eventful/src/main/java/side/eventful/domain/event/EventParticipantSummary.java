@@ -0,0 +1,16 @@
+package side.eventful.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 참여자 목록(내보내기)용 한 줄
+ *
+ * <p>participants 컬렉션을 로딩하지 않고 event_participant와 member를 조인해 한 번에 조회한다.</p>
+ */
+public record EventParticipantSummary(
+    Long memberId,
+    String nickname,
+    ParticipantRole role,
+    LocalDateTime joinedAt
+) {
+}
@@ -1,10 +1,62 @@
 package side.eventful.domain.event;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface EventRepository {
     Event save(Event event);
     Optional<Event> findById(Long id);
+    Optional<Event> findByIdWithVersionIncrement(Long id);
+    // 참여/취소 직렬화용 행 잠금 (PESSIMISTIC_WRITE), 트랜잭션이 끝날 때까지 유지
+    Optional<Event> findByIdForUpdate(Long id);
     void delete(Event event);
+
+    // 하위 데이터 일괄 삭제: 엔티티를 로딩하지 않고 테이블별 DELETE 한 문장씩
+    // 일정/투표는 각 도메인에서 먼저 지운 뒤 대기열 → 참여자 → 이벤트 순서로 삭제
+    List<Long> findIdsByEventGroupId(Long eventGroupId, int limit);
+    void deleteAllWithParticipants(Collection<Long> eventIds);
+
+    Optional<EventSummary> findSummary(Long eventId);
+    Optional<Long> findIdByShareToken(String shareToken);
+
+    // (event_group_id, event_date, id) 키셋 페이지
+    // after/before 모두 null이면 첫 페이지, before는 커서 바로 앞 limit개를 날짜 오름차순으로 반환
+    List<EventSummary> findTimelineFirst(Long eventGroupId, LocalDate from, LocalDate to, int limit);
+    List<EventSummary> findTimelineAfter(Long eventGroupId, LocalDate from, LocalDate to, EventSummary after, int limit);
+    // 회원이 참여 중인 이벤트를 그룹과 관계없이 날짜 범위로 조회 (날짜, ID 오름차순)
+    List<EventCalendarEntry> findCalendar(Long memberId, LocalDate from, LocalDate to);
+
+    List<EventSummary> findTimelineBefore(Long eventGroupId, LocalDate from, LocalDate to, EventSummary before, int limit);
+
+    // (event_id, member_id) 유니크 키로 저장, 이미 참여 중이면 false
+    boolean addParticipant(EventParticipant participant);
+    boolean existsParticipant(Long eventId, Long memberId);
+    int deleteParticipant(Long eventId, Long memberId);
+    List<EventParticipantSummary> findParticipantSummaries(Long eventId);
+
+    // 일괄 등록: 이미 참여 중인 회원은 IN 조회 한 번으로 걸러내고, 나머지는 JDBC 배치로 저장
+    // 그 사이 같은 회원이 따로 참여해 유니크 키가 겹치면 false
+    Set<Long> findParticipantMemberIds(Long eventId, Collection<Long> memberIds);
+    boolean addParticipants(Long eventId, Collection<Long> memberIds, ParticipantRole role, LocalDateTime joinedAt);
+
+    // 대기열: (event_id, member_id) 유니크 키로 저장, 이미 대기 중이면 false
+    boolean addWaitlistEntry(EventWaitlistEntry entry);
+    Optional<EventWaitlistEntry> findWaitlistHead(Long eventId);
+    // 다른 요청이 먼저 꺼내 갔으면 false
+    boolean removeWaitlistEntry(Long entryId);
+    int deleteWaitlistEntry(Long eventId, Long memberId);
+    int deleteWaitlistEntries(Long eventId, Collection<Long> memberIds);
+    // 1부터 시작하는 대기 순번, 대기 중이 아니면 empty (내 앞 항목 수만큼 인덱스 범위를 읽음)
+    Optional<Long> findWaitlistPosition(Long eventId, Long memberId);
+
+    // 정원이 남아 있고 대기열이 비었거나 이 회원이 맨 앞일 때만 1 증가, 갱신된 행 수 반환 (0이면 대기)
+    int increaseParticipantCountFor(Long eventId, Long memberId);
+    // 남은 자리가 amount 이상이고 대기자가 없을 때만 한 번에 증가
+    int increaseParticipantCount(Long eventId, int amount);
+    int decreaseParticipantCount(Long eventId);
 }
 
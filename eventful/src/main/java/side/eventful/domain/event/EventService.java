@@ -1,11 +1,19 @@
 package side.eventful.domain.event;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import side.eventful.domain.eventgroup.EventGroup;
 import side.eventful.domain.member.Member;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 /**
  * Event 도메인 서비스
  * Event 집합체 내부의 비즈니스 로직만 담당
@@ -18,7 +26,15 @@ import side.eventful.domain.member.Member;
 @Transactional(readOnly = true)
 public class EventService {
 
+    private static final int MAX_TIMELINE_PAGE_SIZE = 100;
+    private static final int MAX_CALENDAR_DAYS = 366;
+    // 날짜 범위가 없을 때 쓰는 경계값 (DB date 타입 범위 안)
+    private static final LocalDate TIMELINE_MIN_DATE = LocalDate.of(1, 1, 1);
+    private static final LocalDate TIMELINE_MAX_DATE = LocalDate.of(9999, 12, 31);
+
     private final EventRepository eventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventParticipantLookup participantLookup;
 
     /**
      * 이벤트 생성
@@ -43,5 +59,309 @@ public class EventService {
 
         return eventRepository.save(event);
     }
-}
 
+    public Event getEvent(Long eventId) {
+        return eventRepository.findById(eventId)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 이벤트입니다."));
+    }
+
+    /**
+     * 이벤트 조회 (조회 화면용 요약)
+     */
+    public EventSummary getEventSummary(Long eventId) {
+        return eventRepository.findSummary(eventId)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 이벤트입니다."));
+    }
+
+    /**
+     * 그룹 이벤트 타임라인 조회 (이벤트 날짜순 키셋 페이지)
+     *
+     * <p>커서는 이벤트 ID이며 해당 이벤트의 (날짜, ID) 위치를 기준으로 다음/이전 페이지를 읽는다.
+     * 한 개를 더 읽어 그 방향에 이벤트가 더 남아 있는지 판단한다.</p>
+     *
+     * @throws IllegalArgumentException 페이지 크기나 커서, 날짜 범위가 잘못된 경우
+     */
+    public EventTimeline getTimeline(EventCommand.GetTimeline command) {
+        if (command.getSize() < 1 || command.getSize() > MAX_TIMELINE_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_TIMELINE_PAGE_SIZE + " 이하여야 합니다");
+        }
+        if (command.getAfterEventId() != null && command.getBeforeEventId() != null) {
+            throw new IllegalArgumentException("after와 before 커서는 함께 사용할 수 없습니다");
+        }
+        LocalDate from = command.getFrom() != null ? command.getFrom() : TIMELINE_MIN_DATE;
+        LocalDate to = command.getTo() != null ? command.getTo() : TIMELINE_MAX_DATE;
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일은 종료일보다 늦을 수 없습니다");
+        }
+
+        Long eventGroupId = command.getEventGroupId();
+        int size = command.getSize();
+
+        if (command.getBeforeEventId() != null) {
+            EventSummary cursor = getTimelineCursor(eventGroupId, command.getBeforeEventId());
+            List<EventSummary> rows = eventRepository.findTimelineBefore(eventGroupId, from, to, cursor, size + 1);
+            boolean hasPrev = rows.size() > size;
+            List<EventSummary> events = hasPrev ? rows.subList(1, rows.size()) : rows;
+            return toTimeline(events, hasPrev, !events.isEmpty());
+        }
+
+        EventSummary cursor = command.getAfterEventId() != null
+            ? getTimelineCursor(eventGroupId, command.getAfterEventId())
+            : null;
+        List<EventSummary> rows = cursor != null
+            ? eventRepository.findTimelineAfter(eventGroupId, from, to, cursor, size + 1)
+            : eventRepository.findTimelineFirst(eventGroupId, from, to, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<EventSummary> events = hasNext ? rows.subList(0, size) : rows;
+        return toTimeline(events, cursor != null && !events.isEmpty(), hasNext);
+    }
+
+    /**
+     * 내 일정 조회 (참여 중인 모든 그룹의 이벤트를 날짜순으로)
+     *
+     * <p>그룹마다 따로 조회하지 않고 event_participant의 (member_id, event_id) 인덱스에서 시작하는
+     * 조인 한 번으로 읽는다. 결과 크기를 제한하기 위해 조회 기간은 최대 {@value #MAX_CALENDAR_DAYS}일이다.</p>
+     *
+     * @throws IllegalArgumentException 날짜 범위가 잘못된 경우
+     */
+    public List<EventCalendarEntry> getCalendar(EventCommand.GetCalendar command) {
+        LocalDate from = command.getFrom() != null ? command.getFrom() : LocalDate.now();
+        LocalDate to = command.getTo() != null ? command.getTo() : from.plusMonths(1);
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일은 종료일보다 늦을 수 없습니다");
+        }
+        if (from.plusDays(MAX_CALENDAR_DAYS).isBefore(to)) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_CALENDAR_DAYS + "일입니다");
+        }
+        return eventRepository.findCalendar(command.getMemberId(), from, to);
+    }
+
+    private EventSummary getTimelineCursor(Long eventGroupId, Long eventId) {
+        return eventRepository.findSummary(eventId)
+            .filter(summary -> summary.eventGroupId().equals(eventGroupId))
+            .orElseThrow(() -> new IllegalArgumentException("잘못된 커서입니다"));
+    }
+
+    private EventTimeline toTimeline(List<EventSummary> events, boolean hasPrev, boolean hasNext) {
+        Long prevCursor = hasPrev ? events.get(0).eventId() : null;
+        Long nextCursor = hasNext ? events.get(events.size() - 1).eventId() : null;
+        return new EventTimeline(List.copyOf(events), prevCursor, nextCursor);
+    }
+
+    /**
+     * 이벤트 참여
+     *
+     * <p>participants 컬렉션을 로딩해 인원을 세지 않고,
+     * participant_count를 정원 조건이 붙은 UPDATE 한 문장으로 증가시킨 뒤
+     * (event_id, member_id) 유니크 키로 참여 행을 넣는다.
+     * 동시에 들어온 참여 요청도 DB가 한 줄씩 처리하므로 정원을 넘지 않는다.</p>
+     *
+     * <p>정원이 찼으면 대기열 끝에 등록하고, 자리가 나면 취소 트랜잭션에서 순서대로 승격된다.
+     * 클라이언트가 빈자리를 기다리며 참여 요청을 반복하지 않아도 된다.
+     * 대기자가 있으면 맨 앞 회원이 아닌 한 빈자리가 있어도 대기열 끝에 선다.</p>
+     *
+     * <p>참여와 취소는 이벤트 행을 먼저 잠가(PESSIMISTIC_WRITE) 한 줄로 처리한다.
+     * 취소가 자리를 비우고 대기자를 승격하는 사이에 들어온 참여가 빈자리를 가로채거나,
+     * 대기열에 들어가자마자 승격 기회를 놓치는 일이 없다.</p>
+     *
+     * @param event 참여할 이벤트 (Facade에서 그룹원 검증 완료된 상태)
+     * @param member 참여자
+     * @return 참여 확정 또는 대기 등록
+     * @throws IllegalArgumentException 이미 참여 중이거나 이미 대기 중인 경우
+     */
+    @Transactional
+    public ParticipationStatus participate(Event event, Member member) {
+        lockEvent(event);
+        if (eventRepository.existsParticipant(event.getId(), member.getId())) {
+            throw new IllegalArgumentException("이미 참여 중인 회원입니다.");
+        }
+
+        participantLookup.evict(event.getId());
+        // 갱신된 행이 없으면 정원 초과이거나 앞선 대기자가 있음: 대기열에 등록
+        if (eventRepository.increaseParticipantCountFor(event.getId(), member.getId()) == 0) {
+            if (!eventRepository.addWaitlistEntry(EventWaitlistEntry.of(event, member, LocalDateTime.now()))) {
+                throw new IllegalArgumentException("이미 대기 중인 회원입니다.");
+            }
+            return ParticipationStatus.WAITLISTED;
+        }
+
+        // 동시에 같은 회원이 참여한 경우 예외로 트랜잭션을 롤백해 방금 올린 인원도 되돌림
+        EventParticipant participant = EventParticipant.of(event, member, ParticipantRole.PARTICIPANT, LocalDateTime.now());
+        if (!eventRepository.addParticipant(participant)) {
+            throw new IllegalArgumentException("이미 참여 중인 회원입니다.");
+        }
+        // 대기 중이던 회원이 빈자리에 직접 참여한 경우 대기 항목 정리
+        eventRepository.deleteWaitlistEntry(event.getId(), member.getId());
+        eventPublisher.publishEvent(new EventContentChanged(event.getId()));
+        return ParticipationStatus.PARTICIPATING;
+    }
+
+    /**
+     * 참여자 일괄 등록 (생성자 전용)
+     *
+     * <p>이미 참여 중인 회원을 IN 조회 한 번으로 걸러내고, 남은 회원 수만큼 participant_count를
+     * 정원 조건이 붙은 UPDATE 한 문장으로 올린 뒤 JDBC 배치로 참여 행을 넣는다.
+     * 자리가 모자라면 한 명도 등록하지 않는다. 등록된 회원의 대기 항목은 한 문장으로 정리한다.
+     * 대기열 순서를 지키기 위해 대기 중인 회원이 있으면 일괄 등록을 거절한다(같은 UPDATE 조건으로 확인).
+     * 참여/취소와 마찬가지로 이벤트 행을 먼저 잠가, 참여 행을 넣는 요청이 한 번에 하나만 진행되게 한다.</p>
+     *
+     * @param event 참여할 이벤트
+     * @param requester 요청자 (이벤트 생성자여야 함)
+     * @param memberIds 중복이 제거된 그룹원 ID (Facade에서 검증 완료된 상태)
+     * @return 새로 등록된 회원 ID (요청 순서 유지)
+     * @throws IllegalArgumentException 생성자가 아니거나, 대기자가 있거나, 남은 자리가 모자란 경우
+     * @throws IllegalStateException 등록 도중 같은 회원이 따로 참여해 충돌한 경우
+     */
+    @Transactional
+    public List<Long> addParticipants(Event event, Member requester, Collection<Long> memberIds) {
+        if (!event.getCreator().equals(requester)) {
+            throw new IllegalArgumentException("이벤트 생성자만 참여자를 일괄 등록할 수 있습니다.");
+        }
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+
+        lockEvent(event);
+        Set<Long> participating = eventRepository.findParticipantMemberIds(event.getId(), memberIds);
+        List<Long> newMemberIds = memberIds.stream()
+            .filter(memberId -> !participating.contains(memberId))
+            .toList();
+        if (newMemberIds.isEmpty()) {
+            return List.of();
+        }
+
+        participantLookup.evict(event.getId());
+        if (eventRepository.increaseParticipantCount(event.getId(), newMemberIds.size()) == 0) {
+            if (eventRepository.findWaitlistHead(event.getId()).isPresent()) {
+                throw new IllegalArgumentException("대기 중인 회원이 있어 일괄 등록할 수 없습니다.");
+            }
+            throw new IllegalArgumentException("남은 자리보다 많은 회원을 등록할 수 없습니다.");
+        }
+        // 예외로 트랜잭션을 롤백해 방금 올린 인원도 되돌림
+        if (!eventRepository.addParticipants(event.getId(), newMemberIds, ParticipantRole.PARTICIPANT, LocalDateTime.now())) {
+            throw new IllegalStateException("일괄 등록 중 다른 참여 요청과 충돌했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        eventRepository.deleteWaitlistEntries(event.getId(), newMemberIds);
+        eventPublisher.publishEvent(new EventContentChanged(event.getId()));
+        return newMemberIds;
+    }
+
+    /**
+     * 참여자 목록 조회 (참여 순)
+     */
+    public List<EventParticipantSummary> getParticipantSummaries(Long eventId) {
+        return eventRepository.findParticipantSummaries(eventId);
+    }
+
+    /**
+     * 이벤트 참여 취소
+     *
+     * <p>참여자가 취소하면 비는 자리를 대기열 맨 앞 회원에게 같은 트랜잭션 안에서 넘긴다.
+     * 이 경우 인원 수는 그대로이고, 대기자가 없을 때만 인원을 줄인다.
+     * 대기 중인 회원이 취소하면 대기열에서만 빠진다.
+     * 동시에 들어온 참여와 겹치지 않도록 이벤트 행을 먼저 잠근다.</p>
+     *
+     * @param event 참여 취소할 이벤트
+     * @param member 참여자 또는 대기자
+     * @throws IllegalArgumentException 생성자이거나 참여/대기 중이 아닌 회원인 경우
+     */
+    @Transactional
+    public void cancelParticipation(Event event, Member member) {
+        if (event.getCreator().equals(member)) {
+            throw new IllegalArgumentException("이벤트 생성자는 참여를 취소할 수 없습니다.");
+        }
+        lockEvent(event);
+        // 같은 요청의 이후 권한 확인이 취소 전의 참여 결과를 쓰지 않도록 먼저 버림
+        participantLookup.evict(event.getId());
+        if (eventRepository.deleteParticipant(event.getId(), member.getId()) == 0) {
+            if (eventRepository.deleteWaitlistEntry(event.getId(), member.getId()) == 0) {
+                throw new IllegalArgumentException("참여하지 않은 회원입니다.");
+            }
+            return;
+        }
+
+        if (!promoteFromWaitlist(event)) {
+            eventRepository.decreaseParticipantCount(event.getId());
+            eventPublisher.publishEvent(new EventContentChanged(event.getId()));
+        }
+    }
+
+    /**
+     * 그룹 이벤트 ID 조회 (그룹 삭제 시 나눠서 지우는 용도)
+     */
+    public List<Long> findEventIds(Long eventGroupId, int limit) {
+        return eventRepository.findIdsByEventGroupId(eventGroupId, limit);
+    }
+
+    /**
+     * 이벤트와 대기열/참여자 일괄 삭제
+     *
+     * <p>participants 컬렉션을 로딩해 한 건씩 지우지 않고 테이블마다 DELETE 한 문장으로 지운다.
+     * 이 이벤트를 참조하는 일정/투표는 Facade에서 먼저 삭제된 상태여야 한다.</p>
+     */
+    @Transactional
+    public void deleteAll(List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        eventRepository.deleteAllWithParticipants(eventIds);
+        eventPublisher.publishEvent(new EventsDeleted(List.copyOf(eventIds)));
+    }
+
+    /**
+     * 공유 링크 토큰 조회 (없으면 발급)
+     */
+    @Transactional
+    public String issueShareToken(Event event) {
+        return event.issueShareToken();
+    }
+
+    /**
+     * 공유 토큰으로 이벤트 ID 조회
+     */
+    public Optional<Long> findEventIdByShareToken(String shareToken) {
+        return eventRepository.findIdByShareToken(shareToken);
+    }
+
+    /**
+     * 대기 순번 조회 (1부터 시작)
+     *
+     * @throws IllegalArgumentException 대기 중이 아닌 경우
+     */
+    public long getWaitlistPosition(Event event, Member member) {
+        return eventRepository.findWaitlistPosition(event.getId(), member.getId())
+            .orElseThrow(() -> new IllegalArgumentException("대기 중인 회원이 아닙니다."));
+    }
+
+    private void lockEvent(Event event) {
+        eventRepository.findByIdForUpdate(event.getId())
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 이벤트입니다."));
+    }
+
+    /**
+     * 대기열 맨 앞 회원을 참여자로 올린다
+     *
+     * <p>이벤트 행을 잠근 채로 호출되므로 참여 행을 넣는 다른 요청과 겹치지 않는다.
+     * 맨 앞 회원이 이미 참여 중이면 남은 대기 항목만 지우고 다음 회원으로 넘어간다.
+     * 중복 INSERT를 미리 걸러 내므로 실패한 flush로 취소 트랜잭션이 롤백 전용이 되지 않는다.</p>
+     */
+    private boolean promoteFromWaitlist(Event event) {
+        while (true) {
+            Optional<EventWaitlistEntry> head = eventRepository.findWaitlistHead(event.getId());
+            if (head.isEmpty()) {
+                return false;
+            }
+            eventRepository.removeWaitlistEntry(head.get().getId());
+
+            Member waiting = head.get().getMember();
+            if (eventRepository.existsParticipant(event.getId(), waiting.getId())) {
+                continue;
+            }
+            EventParticipant promoted = EventParticipant.of(event, waiting, ParticipantRole.PARTICIPANT, LocalDateTime.now());
+            if (!eventRepository.addParticipant(promoted)) {
+                throw new IllegalStateException("대기자 승격에 실패했습니다. 잠시 후 다시 시도해주세요.");
+            }
+            return true;
+        }
+    }
+}
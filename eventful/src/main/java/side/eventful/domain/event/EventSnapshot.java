@@ -0,0 +1,10 @@
+package side.eventful.domain.event;
+
+/**
+ * 미리 직렬화해 둔 공유 링크 응답
+ *
+ * @param body 응답 본문 JSON (변경하지 않는다)
+ * @param etag 본문 해시로 만든 강한 ETag (따옴표 포함)
+ */
+public record EventSnapshot(byte[] body, String etag) {
+}
@@ -0,0 +1,31 @@
+package side.eventful.domain.event;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 공유 링크 스냅샷 캐시
+ * 공유 토큰 → 이벤트 ID, 이벤트 ID → 스냅샷을 각각 캐시해서, 같은 링크를 반복해서 열어도 DB까지 가지 않게 한다.
+ */
+public interface EventSnapshotCache {
+
+    /**
+     * 공유 토큰의 이벤트 ID. 캐시에 없으면 loader로 조회해서 채운다. 없는 토큰도 잠시 캐시한다.
+     */
+    Optional<Long> getEventId(String shareToken, Function<String, Optional<Long>> loader);
+
+    /**
+     * 이벤트 스냅샷. 캐시에 없으면 builder로 만들어 채우며, 같은 이벤트에 대한 동시 조회는 한 번만 만든다.
+     */
+    EventSnapshot getSnapshot(Long eventId, Function<Long, EventSnapshot> builder);
+
+    /**
+     * 캐시에 있는 스냅샷만 새로 만든 값으로 바꾼다. 아무도 열지 않은 이벤트는 다음 조회 때 만든다.
+     */
+    void refreshIfPresent(Long eventId, Function<Long, EventSnapshot> builder);
+
+    /**
+     * 삭제된 이벤트의 스냅샷과 토큰 매핑을 지운다.
+     */
+    void evict(Long eventId);
+}
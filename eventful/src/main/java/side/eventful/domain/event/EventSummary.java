@@ -0,0 +1,20 @@
+package side.eventful.domain.event;
+
+import java.time.LocalDate;
+
+/**
+ * 이벤트 조회용 요약 정보
+ *
+ * <p>참여 인원은 participants 컬렉션을 로딩하지 않고 event.participant_count 컬럼에서 읽는다.</p>
+ */
+public record EventSummary(
+    Long eventId,
+    Long eventGroupId,
+    String name,
+    String description,
+    Integer maxParticipants,
+    int participantCount,
+    LocalDate eventDate,
+    String placeId
+) {
+}
@@ -0,0 +1,15 @@
+package side.eventful.domain.event;
+
+import java.util.List;
+
+/**
+ * 그룹 이벤트 타임라인 한 페이지
+ *
+ * <p>커서는 페이지 양 끝 이벤트의 ID이며, 더 읽을 이벤트가 없는 방향은 null이다.</p>
+ */
+public record EventTimeline(
+    List<EventSummary> events,
+    Long prevCursor,
+    Long nextCursor
+) {
+}
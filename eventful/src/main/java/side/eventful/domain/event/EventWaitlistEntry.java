@@ -0,0 +1,54 @@
+package side.eventful.domain.event;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import side.eventful.domain.common.BaseEntity;
+import side.eventful.domain.member.Member;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정원이 찬 이벤트의 참여 대기열 항목
+ *
+ * <p>대기 순서는 id(발급 순서)로 정한다. (event_id, id) 인덱스로 대기열 맨 앞을 바로 찾고,
+ * 내 앞에 남은 인원도 같은 인덱스 범위만 세어 구한다.</p>
+ */
+@Entity
+@Table(
+    name = "event_waitlist",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_event_waitlist_event_member",
+        columnNames = {"event_id", "member_id"}
+    ),
+    indexes = @Index(name = "idx_event_waitlist_event_id", columnList = "event_id, id")
+)
+@Getter
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+public class EventWaitlistEntry extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id", nullable = false)
+    private Event event;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    @Column(nullable = false)
+    private LocalDateTime requestedAt;
+
+    private EventWaitlistEntry(Event event, Member member, LocalDateTime requestedAt) {
+        this.event = event;
+        this.member = member;
+        this.requestedAt = requestedAt;
+    }
+
+    public static EventWaitlistEntry of(Event event, Member member, LocalDateTime requestedAt) {
+        return new EventWaitlistEntry(event, member, requestedAt);
+    }
+}
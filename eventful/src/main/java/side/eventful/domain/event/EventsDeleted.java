@@ -0,0 +1,11 @@
+package side.eventful.domain.event;
+
+import java.util.List;
+
+/**
+ * 이벤트가 하위 데이터와 함께 삭제되었음을 알리는 애플리케이션 이벤트
+ *
+ * <p>삭제한 트랜잭션이 커밋된 뒤 공유 링크 스냅샷 캐시에서 해당 이벤트를 지우는 데 쓴다.</p>
+ */
+public record EventsDeleted(List<Long> eventIds) {
+}
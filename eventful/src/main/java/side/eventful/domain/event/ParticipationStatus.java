@@ -0,0 +1,16 @@
+package side.eventful.domain.event;
+
+public enum ParticipationStatus {
+    PARTICIPATING("참여 확정"),
+    WAITLISTED("대기 중");
+
+    private final String description;
+
+    ParticipationStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -1,6 +1,7 @@
 package side.eventful.domain.eventgroup;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import side.eventful.domain.common.BaseEntity;
@@ -8,7 +9,9 @@ import side.eventful.domain.member.Member;
 
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @Getter
@@ -40,6 +43,17 @@ public class EventGroup extends BaseEntity {
     @OneToMany(mappedBy = "eventGroup", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<EventGroupMember> members = new ArrayList<>();
 
+    // 동시 수정 감지용 버전 (기존 행은 0부터 시작)
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private Long version;
+
+    // 그룹원 ID 인덱스 (권한 검증용). 처음 필요할 때 members로부터 한 번 만들고 가입/탈퇴/추방 시 함께 갱신한다.
+    // 회원 ID만 읽으므로 EventGroupMember.member 프록시를 초기화하지 않는다.
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private Set<Long> memberIds;
+
     private EventGroup(String name, String description, String imageUrl, String joinPassword, String joinCode, Member leader) {
         validateCreate(name, description, leader);
         this.name = name;
@@ -54,7 +68,7 @@ public class EventGroup extends BaseEntity {
 
     public static EventGroup create(String name, String description, String imageUrl, Member leader) {
         String generatedPassword = generatePassword();
-        String generatedCode = generateJoinCode();
+        String generatedCode = JoinCode.random();
         return new EventGroup(name, description, imageUrl, generatedPassword, generatedCode, leader);
     }
 
@@ -68,6 +82,16 @@ public class EventGroup extends BaseEntity {
         validateMemberNotExists(member);
 
         this.members.add(EventGroupMember.of(this, member));
+        memberIds().add(member.getId());
+    }
+
+    /**
+     * 그룹원 컬렉션을 로딩하지 않는 가입용 멤버십 생성
+     * 비밀번호만 검증하고, 중복 가입은 저장소의 유니크 제약으로 막는다.
+     */
+    public EventGroupMember createMembership(Member member, String inputPassword) {
+        validatePassword(inputPassword);
+        return EventGroupMember.of(this, member);
     }
 
     public void leaveMember(Member member) {
@@ -78,6 +102,7 @@ public class EventGroup extends BaseEntity {
 
         this.members.removeIf(eventGroupMember ->
                 eventGroupMember.getMember().equals(member));
+        memberIds().remove(member.getId());
     }
 
     public void updateGroup(String name, String description, String imageUrl, Member requestMember) {
@@ -96,6 +121,7 @@ public class EventGroup extends BaseEntity {
 
         this.members.removeIf(eventGroupMember ->
                 eventGroupMember.getMember().equals(targetMember));
+        memberIds().remove(targetMember.getId());
     }
 
     // 그룹장 위임 로직 추가
@@ -123,23 +149,6 @@ public class EventGroup extends BaseEntity {
                 .toList();
     }
 
-    public List<Member> getMembersOrderedByLeaderAndName() {
-        return members.stream()
-                .map(EventGroupMember::getMember)
-                .sorted((m1, m2) -> {
-                    // is_leader 오름차순 (그룹장이 먼저)
-                    boolean isM1Leader = this.leader.equals(m1);
-                    boolean isM2Leader = this.leader.equals(m2);
-
-                    if (isM1Leader && !isM2Leader) return -1;
-                    if (!isM1Leader && isM2Leader) return 1;
-
-                    // member_name 오름차순
-                    return m1.getNickname().compareTo(m2.getNickname());
-                })
-                .toList();
-    }
-
     public boolean isLeader(Member member) {
         return this.leader.equals(member);
     }
@@ -149,14 +158,23 @@ public class EventGroup extends BaseEntity {
      * 이벤트 참여 등 그룹원 권한이 필요한 작업에서 사용
      */
     public boolean isMember(Member member) {
-        return this.members.stream()
-            .anyMatch(eventGroupMember -> eventGroupMember.getMember().equals(member));
+        return memberIds().contains(member.getId());
     }
 
     public int getMemberCount() {
         return this.members.size();
     }
 
+    private Set<Long> memberIds() {
+        if (this.memberIds == null) {
+            this.memberIds = new HashSet<>();
+            for (EventGroupMember eventGroupMember : this.members) {
+                this.memberIds.add(eventGroupMember.getMember().getId());
+            }
+        }
+        return this.memberIds;
+    }
+
     private void validateCreate(String name, String description, Member leader) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("그룹 이름은 필수입니다");
@@ -179,13 +197,13 @@ public class EventGroup extends BaseEntity {
     }
 
     private void validateMemberNotExists(Member member) {
-        if (this.members.stream().anyMatch(eventGroupMember -> eventGroupMember.getMember().equals(member))) {
+        if (isMember(member)) {
             throw new IllegalArgumentException("이미 그룹에 가입된 회원입니다");
         }
     }
 
     private void validateMemberExists(Member member) {
-        if (this.members.stream().noneMatch(eventGroupMember -> eventGroupMember.getMember().equals(member))) {
+        if (!isMember(member)) {
             throw new IllegalArgumentException("그룹에 가입되지 않은 회원입니다");
         }
     }
@@ -235,21 +253,6 @@ public class EventGroup extends BaseEntity {
         return shuffleString(password.toString(), random);
     }
 
-    // 8자리의 랜덤한 초대 코드 생성
-    private static String generateJoinCode() {
-        SecureRandom random = new SecureRandom();
-        StringBuilder code = new StringBuilder();
-
-        String characters = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-
-        // 8자리 랜덤 생성
-        for (int i = 0; i < 8; i++) {
-            code.append(characters.charAt(random.nextInt(characters.length())));
-        }
-
-        return code.toString();
-    }
-
     private static String shuffleString(String input, SecureRandom random) {
         List<Character> characters = new ArrayList<>();
         for (char c : input.toCharArray()) {
@@ -56,6 +56,19 @@ public class EventGroupCommand {
         }
     }
 
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class GetMembers {
+        private Long eventGroupId;
+        private Member requestMember;
+        private Long afterMemberId;
+        private int size;
+
+        public static GetMembers create(Long eventGroupId, Member requestMember, Long afterMemberId, int size) {
+            return new GetMembers(eventGroupId, requestMember, afterMemberId, size);
+        }
+    }
+
     @Getter
     @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
     public static class VerifyCode {
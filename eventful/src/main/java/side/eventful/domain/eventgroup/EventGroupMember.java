@@ -7,7 +7,13 @@ import side.eventful.domain.common.BaseEntity;
 import side.eventful.domain.member.Member;
 
 @Entity
-@Table(name = "event_group_member")
+@Table(
+    name = "event_group_member",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_event_group_member_group_member",
+        columnNames = {"event_group_id", "member_id"}
+    )
+)
 @Getter
 @NoArgsConstructor
 public class EventGroupMember extends BaseEntity {
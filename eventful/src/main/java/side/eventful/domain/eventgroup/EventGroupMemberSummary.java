@@ -0,0 +1,14 @@
+package side.eventful.domain.eventgroup;
+
+/**
+ * 그룹 상세 화면의 그룹원 한 줄
+ *
+ * <p>그룹장 먼저, 이후 닉네임 오름차순으로 DB에서 정렬된 상태로 조회된다.
+ * 마지막 항목은 다음 페이지 조회의 커서로 사용한다.</p>
+ */
+public record EventGroupMemberSummary(
+    Long memberId,
+    String nickname,
+    boolean leader
+) {
+}
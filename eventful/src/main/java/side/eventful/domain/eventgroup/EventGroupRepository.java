@@ -1,15 +1,28 @@
 package side.eventful.domain.eventgroup;
 
-import side.eventful.domain.member.Member;
-
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface EventGroupRepository {
     EventGroup save(EventGroup eventGroup);
     Optional<EventGroup> findById(Long id);
-    Optional<EventGroup> findByJoinCode(String joinCode);
-    boolean existsByJoinCode(String joinCode);
-    List<EventGroup> findByMember(Member member);
+    Optional<EventGroup> findByIdWithVersionIncrement(Long id);
+    // 그룹 하위 데이터만 바뀌는 변경(이벤트 생성)을 버전 조건 삭제와 충돌시키기 위해 버전만 올림, 그룹이 없으면 false
+    boolean increaseVersion(Long id);
+    Optional<JoinCodeGroup> findJoinCodeGroup(String joinCode);
+    Set<String> findExistingJoinCodes(Collection<String> joinCodes);
+    List<EventGroupSummary> findSummariesByMemberId(Long memberId);
+    boolean existsMembership(Long eventGroupId, Long memberId);
+    // 주어진 회원 중 그룹원인 회원 ID만 IN 조회 한 번으로 반환
+    Set<Long> findMemberIds(Long eventGroupId, Collection<Long> memberIds);
+    // 같은 (그룹, 회원) 멤버십이 이미 저장되어 있으면 아무것도 하지 않음, 그 외 무결성 위반은 그대로 던짐
+    void addMembership(EventGroupMember membership);
+    List<EventGroupMemberSummary> findAllMemberSummaries(Long eventGroupId);
+    // 커서(이전 페이지 마지막 회원 ID)가 그룹원이 아니면 빈 목록
+    List<EventGroupMemberSummary> findMemberSummaries(Long eventGroupId, Long afterMemberId, int size);
     void delete(EventGroup eventGroup);
+    // 그룹원을 DELETE 한 문장으로 지운 뒤 읽은 버전일 때만 그룹 삭제, 그 사이 그룹이 바뀌었으면 낙관적 락 예외
+    void deleteWithMembers(EventGroup eventGroup);
 }
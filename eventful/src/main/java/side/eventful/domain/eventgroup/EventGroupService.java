@@ -1,139 +1,232 @@
 package side.eventful.domain.eventgroup;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import side.eventful.domain.member.Member;
 import side.eventful.domain.member.MemberRepository;
+import side.eventful.global.transaction.RetryOnConflictExecutor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class EventGroupService {
 
+    private static final int MAX_MEMBER_PAGE_SIZE = 100;
+    // 다른 인스턴스와 초대 코드가 겹쳐 저장에 실패했을 때 새 코드로 다시 시도하는 최대 횟수
+    private static final int MAX_CREATE_ATTEMPTS = 3;
+
     private final EventGroupRepository eventGroupRepository;
     private final MemberRepository memberRepository;
+    private final JoinCodeAllocator joinCodeAllocator;
+    private final RetryOnConflictExecutor retryExecutor;
+    private final JoinCodeCache joinCodeCache;
 
+    /**
+     * 그룹 생성
+     *
+     * <p>초대 코드는 미리 검증해 둔 코드 풀에서 꺼내지만, 다른 인스턴스가 같은 코드를 먼저 저장했을 수 있다.
+     * 저장이 무결성 위반으로 실패했고 그 코드가 이미 쓰이고 있으면 새 코드를 꺼내 정해진 횟수까지 다시 저장한다.</p>
+     *
+     * @throws IllegalStateException 정해진 횟수 안에 쓰이지 않는 초대 코드를 얻지 못한 경우
+     */
     public EventGroup create(EventGroupCommand.Create command) {
-        String uniqueJoinCode = generateUniqueJoinCode();
-        EventGroup eventGroup = EventGroup.createWithJoinCode(
-            command.getName(),
-            command.getDescription(),
-            command.getImageUrl(),
-            command.getLeader(),
-            uniqueJoinCode
-        );
-
-        return eventGroupRepository.save(eventGroup);
-    }
-
-    private String generateUniqueJoinCode() {
-        String joinCode;
-        int maxAttempts = 10; // 최대 10번 시도
-        int attempts = 0;
-
-        do {
-            joinCode = generateJoinCode();
-            attempts++;
-
-            if (attempts > maxAttempts) {
-                throw new RuntimeException("joinCode 생성에 실패했습니다. 잠시 후 다시 시도해주세요.");
+        for (int attempt = 1; attempt <= MAX_CREATE_ATTEMPTS; attempt++) {
+            // 미리 검증해 둔 코드 풀에서 꺼내므로 생성 시점에 중복 확인 쿼리를 실행하지 않음
+            String uniqueJoinCode = joinCodeAllocator.allocate();
+            EventGroup eventGroup = EventGroup.createWithJoinCode(
+                command.getName(),
+                command.getDescription(),
+                command.getImageUrl(),
+                command.getLeader(),
+                uniqueJoinCode
+            );
+
+            EventGroup savedEventGroup;
+            try {
+                savedEventGroup = eventGroupRepository.save(eventGroup);
+            } catch (DataIntegrityViolationException e) {
+                // 실패한 INSERT는 이미 롤백됨: 초대 코드 충돌일 때만 새 코드로 다시 시도
+                if (eventGroupRepository.findExistingJoinCodes(Set.of(uniqueJoinCode)).isEmpty()) {
+                    throw e;
+                }
+                continue;
             }
-        } while (eventGroupRepository.existsByJoinCode(joinCode));
-
-        return joinCode;
-    }
 
-    private String generateJoinCode() {
-        java.security.SecureRandom random = new java.security.SecureRandom();
-        StringBuilder code = new StringBuilder();
-        String characters = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+            // 새 코드가 없는 코드로 캐시되어 있었다면 제거
+            joinCodeCache.evict(uniqueJoinCode);
 
-        for (int i = 0; i < 8; i++) {
-            code.append(characters.charAt(random.nextInt(characters.length())));
+            return savedEventGroup;
         }
-
-        return code.toString();
+        throw new IllegalStateException("초대 코드 발급에 실패했습니다. 잠시 후 다시 시도해주세요.");
     }
 
     public void joinGroup(EventGroupCommand.Join command) {
         EventGroup eventGroup = eventGroupRepository.findById(command.getEventGroupId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 그룹입니다"));
 
-        eventGroup.joinMember(command.getMember(), command.getGroupPassword());
+        EventGroupMember membership = eventGroup.createMembership(command.getMember(), command.getGroupPassword());
+
+        if (eventGroupRepository.existsMembership(command.getEventGroupId(), command.getMember().getId())) {
+            throw new IllegalArgumentException("이미 그룹에 가입된 회원입니다");
+        }
 
-        eventGroupRepository.save(eventGroup);
+        // 그룹 전체를 다시 저장하지 않고 멤버십 행만 추가
+        // 동시에 같은 가입 요청이 들어와 유니크 제약에 걸려도 이미 가입된 상태이므로 저장소가 성공으로 처리
+        eventGroupRepository.addMembership(membership);
     }
 
     public void updateGroup(EventGroupCommand.Update command) {
-        EventGroup eventGroup = eventGroupRepository.findById(command.getEventGroupId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 그룹입니다"));
+        String joinCode = retryExecutor.execute(() -> {
+            EventGroup eventGroup = eventGroupRepository.findById(command.getEventGroupId())
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 그룹입니다"));
 
-        eventGroup.updateGroup(command.getName(), command.getDescription(), command.getImageUrl(), command.getRequestMember());
+            eventGroup.updateGroup(command.getName(), command.getDescription(), command.getImageUrl(), command.getRequestMember());
 
-        eventGroupRepository.save(eventGroup);
+            eventGroupRepository.save(eventGroup);
+            return eventGroup.getJoinCode();
+        });
+
+        // 커밋 이후 무효화해서 바뀐 이름/소개가 초대 화면에 바로 반영되게 함
+        joinCodeCache.evict(joinCode);
     }
 
     public EventGroup getGroup(EventGroupCommand.Get command) {
         EventGroup eventGroup = eventGroupRepository.findById(command.getEventGroupId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 그룹입니다"));
 
-        // 그룹 멤버인지 확인
-        if (!eventGroup.getMembers().contains(command.getRequestMember())) {
-            throw new IllegalArgumentException("그룹에 속하지 않은 사용자입니다");
-        }
+        // 그룹 멤버인지 확인 (members 컬렉션을 로딩하지 않고 인덱스로 확인)
+        validateGroupMember(command.getEventGroupId(), command.getRequestMember());
 
         return eventGroup;
     }
 
-    public EventGroup verifyJoinCode(EventGroupCommand.VerifyCode command) {
-        EventGroup eventGroup = eventGroupRepository.findByJoinCode(command.getJoinCode())
-                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 참가 코드입니다"));
+    /**
+     * 그룹 상세 화면용 그룹원 목록 (그룹장 먼저, 이후 닉네임 순)
+     * 권한 검증은 getGroup에서 끝난 상태로 호출한다.
+     */
+    public List<EventGroupMemberSummary> getMemberSummaries(Long eventGroupId) {
+        return eventGroupRepository.findAllMemberSummaries(eventGroupId);
+    }
 
-        return eventGroup;
+    /**
+     * 그룹원 목록 키셋 페이지 조회
+     * 커서는 이전 페이지 마지막 그룹원의 회원 ID이며, 없으면 첫 페이지를 조회한다.
+     * 커서 회원의 닉네임은 키셋 쿼리 안에서 같은 그룹원 행으로 조인해 읽으므로 따로 조회하지 않는다.
+     */
+    public List<EventGroupMemberSummary> getGroupMembers(EventGroupCommand.GetMembers command) {
+        if (command.getSize() < 1 || command.getSize() > MAX_MEMBER_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_MEMBER_PAGE_SIZE + " 이하여야 합니다");
+        }
+
+        if (eventGroupRepository.findById(command.getEventGroupId()).isEmpty()) {
+            throw new IllegalArgumentException("존재하지 않는 그룹입니다");
+        }
+
+        validateGroupMember(command.getEventGroupId(), command.getRequestMember());
+
+        return eventGroupRepository.findMemberSummaries(command.getEventGroupId(), command.getAfterMemberId(), command.getSize());
+    }
+
+    private void validateGroupMember(Long eventGroupId, Member member) {
+        if (!eventGroupRepository.existsMembership(eventGroupId, member.getId())) {
+            throw new IllegalArgumentException("그룹에 속하지 않은 사용자입니다");
+        }
+    }
+
+    /**
+     * 초대 코드 확인
+     * 초대 링크가 공유되면 같은 코드로 조회가 몰리므로 캐시에서 응답하고, 없는 코드도 잠시 캐시한다.
+     */
+    public JoinCodeGroup verifyJoinCode(EventGroupCommand.VerifyCode command) {
+        return joinCodeCache.get(command.getJoinCode(), eventGroupRepository::findJoinCodeGroup)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 참가 코드입니다"));
     }
 
     public void removeMember(EventGroupCommand.RemoveMember command) {
-        EventGroup eventGroup = eventGroupRepository.findById(command.getEventGroupId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 그룹입니다"));
+        // 추방은 그룹원 행만 지우므로 그룹 버전을 강제로 올려 그룹장 위임 등과 충돌을 감지
+        retryExecutor.run(() -> {
+            EventGroup eventGroup = eventGroupRepository.findByIdWithVersionIncrement(command.getEventGroupId())
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 그룹입니다"));
 
-        Member targetMember = memberRepository.findById(command.getTargetMemberId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다"));
+            Member targetMember = memberRepository.findById(command.getTargetMemberId())
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다"));
 
-        eventGroup.removeMember(targetMember, command.getRequestMember());
+            eventGroup.removeMember(targetMember, command.getRequestMember());
 
-        eventGroupRepository.save(eventGroup);
+            eventGroupRepository.save(eventGroup);
+        });
     }
 
     public void transferLeader(EventGroupCommand.TransferLeader command) {
-        EventGroup eventGroup = eventGroupRepository.findById(command.getEventGroupId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 그룹입니다"));
+        retryExecutor.run(() -> {
+            EventGroup eventGroup = eventGroupRepository.findById(command.getEventGroupId())
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 그룹입니다"));
 
-        Member newLeader = memberRepository.findById(command.getNewLeaderMemberId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다"));
+            Member newLeader = memberRepository.findById(command.getNewLeaderMemberId())
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다"));
 
-        eventGroup.transferLeadership(newLeader, command.getRequestMember());
+            eventGroup.transferLeadership(newLeader, command.getRequestMember());
 
-        eventGroupRepository.save(eventGroup);
+            eventGroupRepository.save(eventGroup);
+        });
     }
 
-    // 그룹 삭제 처리
-    public void deleteGroup(EventGroupCommand.Delete command) {
+    // 그룹 삭제 권한 확인 (하위 데이터를 지우기 전에 먼저 확인)
+    // 삭제할 그룹 조회: 그룹장 권한을 검증하고, 이벤트를 지우기 전의 버전을 담은 그룹을 반환
+    public EventGroup getGroupForDeletion(EventGroupCommand.Delete command) {
         EventGroup eventGroup = eventGroupRepository.findById(command.getEventGroupId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 그룹입니다"));
-
-        // 도메인에서 권한 검증
         eventGroup.validateDeletePermission(command.getRequestMember());
+        return eventGroup;
+    }
+
+    /**
+     * 그룹 삭제 처리 (그룹의 이벤트는 Facade에서 먼저 삭제된 상태)
+     * 그룹원은 한 문장으로, 그룹은 getGroupForDeletion에서 읽은 버전일 때만 삭제한다.
+     * 그 사이 그룹장이 바뀌었거나 이벤트가 새로 생성되었으면 낙관적 락 예외가 나고 Facade가 처음부터 다시 시도한다.
+     */
+    @Transactional
+    public void deleteGroup(EventGroup eventGroup) {
+        eventGroupRepository.deleteWithMembers(eventGroup);
+    }
 
-        // JPA를 통해 삭제
-        eventGroupRepository.delete(eventGroup);
+    // 삭제가 커밋된 뒤 호출해 초대 코드 조회 캐시에서 제거
+    public void evictJoinCode(String joinCode) {
+        joinCodeCache.evict(joinCode);
     }
 
-    public java.util.List<EventGroup> getGroupList(EventGroupCommand.GetList command) {
-        return eventGroupRepository.findByMember(command.getMember());
+    public List<EventGroupSummary> getGroupList(EventGroupCommand.GetList command) {
+        return eventGroupRepository.findSummariesByMemberId(command.getMember().getId());
+    }
+
+    /**
+     * 그룹원 여부 확인
+     * members 컬렉션을 로딩하지 않고 event_group_member 인덱스로 확인한다.
+     */
+    public boolean isGroupMember(Long eventGroupId, Member member) {
+        return eventGroupRepository.existsMembership(eventGroupId, member.getId());
+    }
+
+    /**
+     * 여러 회원의 그룹원 여부를 한 번에 확인
+     * 회원마다 조회하지 않고 IN 조회 한 번으로 그룹원인 회원 ID만 반환한다.
+     */
+    public Set<Long> findGroupMemberIds(Long eventGroupId, Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Set.of();
+        }
+        return eventGroupRepository.findMemberIds(eventGroupId, memberIds);
     }
 
     /**
      * 이벤트 생성을 위한 그룹 조회 및 권한 검증
      * 그룹이 존재하고, 요청자가 그룹원인지 확인
+     * 그룹원 여부는 members 컬렉션을 로딩하지 않고 event_group_member 인덱스로 확인한다.
      *
      * @param eventGroupId 그룹 ID
      * @param member 요청자
@@ -141,10 +234,15 @@ public class EventGroupService {
      * @throws IllegalArgumentException 그룹이 없거나 그룹원이 아닌 경우
      */
     public EventGroup getGroupForEventCreation(Long eventGroupId, Member member) {
+        // 그룹 삭제가 이벤트를 지운 뒤 새 이벤트가 생기면 버전 조건 삭제가 충돌해 남은 이벤트부터 다시 지우도록 버전을 올림
+        // (이벤트 생성 트랜잭션 안에서 호출되며, 그룹 행 락은 생성이 커밋될 때까지 유지)
+        if (!eventGroupRepository.increaseVersion(eventGroupId)) {
+            throw new IllegalArgumentException("존재하지 않는 그룹입니다.");
+        }
         EventGroup eventGroup = eventGroupRepository.findById(eventGroupId)
             .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 그룹입니다."));
 
-        if (!eventGroup.isMember(member)) {
+        if (!eventGroupRepository.existsMembership(eventGroupId, member.getId())) {
             throw new IllegalArgumentException("그룹원만 이벤트를 생성할 수 있습니다.");
         }
 
@@ -0,0 +1,15 @@
+package side.eventful.domain.eventgroup;
+
+/**
+ * 그룹 목록 조회용 요약 정보
+ *
+ * <p>그룹원 수는 members 컬렉션을 로딩하지 않고 조회 쿼리에서 COUNT로 집계한다.</p>
+ */
+public record EventGroupSummary(
+    Long groupId,
+    String name,
+    String description,
+    String imageUrl,
+    long memberCount
+) {
+}
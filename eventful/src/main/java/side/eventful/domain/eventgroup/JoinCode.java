@@ -0,0 +1,24 @@
+package side.eventful.domain.eventgroup;
+
+import java.security.SecureRandom;
+
+/**
+ * 8자리 초대 코드 (영문 대문자 + 숫자) 생성 규칙
+ */
+public final class JoinCode {
+
+    public static final int LENGTH = 8;
+    private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private JoinCode() {
+    }
+
+    public static String random() {
+        StringBuilder code = new StringBuilder(LENGTH);
+        for (int i = 0; i < LENGTH; i++) {
+            code.append(CHARACTERS.charAt(RANDOM.nextInt(CHARACTERS.length())));
+        }
+        return code.toString();
+    }
+}
@@ -0,0 +1,9 @@
+package side.eventful.domain.eventgroup;
+
+/**
+ * 그룹 초대 코드 할당
+ * 반환하는 코드는 아직 어떤 그룹도 사용하지 않는 코드여야 한다.
+ */
+public interface JoinCodeAllocator {
+    String allocate();
+}
@@ -0,0 +1,18 @@
+package side.eventful.domain.eventgroup;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 초대 코드 조회 캐시
+ * 존재하지 않는 코드도 빈 값으로 캐시해서, 같은 코드로 반복 조회해도 DB까지 가지 않게 한다.
+ */
+public interface JoinCodeCache {
+
+    /**
+     * 캐시에 없으면 loader로 조회해서 채운다. 같은 코드에 대한 동시 조회는 한 번만 loader를 호출한다.
+     */
+    Optional<JoinCodeGroup> get(String joinCode, Function<String, Optional<JoinCodeGroup>> loader);
+
+    void evict(String joinCode);
+}
@@ -0,0 +1,11 @@
+package side.eventful.domain.eventgroup;
+
+/**
+ * 초대 코드로 확인하는 그룹 정보 (초대 링크 화면용)
+ */
+public record JoinCodeGroup(
+    Long groupId,
+    String name,
+    String description
+) {
+}
@@ -8,6 +8,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import side.eventful.domain.member.Member;
 import side.eventful.domain.member.MemberRepository;
 
@@ -18,6 +20,8 @@ import java.util.Collections;
 public class SessionAuthService implements AuthService{
 
     private static final String USER_ID_SESSION_KEY = "USER_ID";
+    // 한 요청 안에서 Controller, Facade가 각각 인증 회원을 조회해도 DB 조회는 1번만 하도록 요청 속성에 보관
+    private static final String AUTHENTICATED_MEMBER_REQUEST_KEY = SessionAuthService.class.getName() + ".AUTHENTICATED_MEMBER";
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
@@ -46,11 +50,13 @@ public class SessionAuthService implements AuthService{
         );
 
         httpSession.setAttribute(USER_ID_SESSION_KEY, member.getId());
+        cacheInRequest(member);
     }
 
     @Override
     public void logout() {
         httpSession.invalidate();
+        evictFromRequest();
     }
 
     @Override
@@ -61,8 +67,46 @@ public class SessionAuthService implements AuthService{
             throw new IllegalArgumentException("로그인 된 사용자가 없습니다.");
         }
 
-        return memberRepository.findById((Long)userId)
+        Member cachedMember = findInRequest(userId);
+        if (cachedMember != null) {
+            return cachedMember;
+        }
+
+        Member member = memberRepository.findById((Long)userId)
             .orElseThrow(() -> new IllegalArgumentException("인증된 사용자가 없습니다."));
 
+        cacheInRequest(member);
+        return member;
+    }
+
+    /**
+     * 현재 요청에서 이미 조회한 인증 회원 반환
+     * 요청 컨텍스트가 없거나(배치, 단위 테스트) 세션의 회원 ID와 다르면 null
+     */
+    private Member findInRequest(Object userId) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+
+        Object cached = requestAttributes.getAttribute(AUTHENTICATED_MEMBER_REQUEST_KEY, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof Member member && userId.equals(member.getId())) {
+            return member;
+        }
+        return null;
+    }
+
+    private void cacheInRequest(Member member) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(AUTHENTICATED_MEMBER_REQUEST_KEY, member, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private void evictFromRequest() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.removeAttribute(AUTHENTICATED_MEMBER_REQUEST_KEY, RequestAttributes.SCOPE_REQUEST);
+        }
     }
 }
@@ -26,6 +26,7 @@ import java.time.LocalTime;
  */
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_schedule_event_id", columnList = "event_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class Schedule extends BaseEntity {
@@ -1,10 +1,12 @@
 package side.eventful.domain.schedule;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
@@ -15,6 +17,25 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     @Query("SELECT s FROM Schedule s WHERE s.event.id = :eventId")
     List<Schedule> findByEventId(@Param("eventId") Long eventId);
 
+    /**
+     * 여러 이벤트의 일정 요약을 한 번에 조회
+     * (이벤트 목록/상세 화면에서 이벤트마다 일정을 따로 조회하지 않도록 사용)
+     */
+    @Query("""
+        SELECT new side.eventful.domain.schedule.ScheduleSummary(s.id, s.event.id, s.name, s.startTime, s.endTime, s.location)
+        FROM Schedule s
+        WHERE s.event.id IN :eventIds
+        ORDER BY s.event.id, s.startTime, s.id
+    """)
+    List<ScheduleSummary> findSummariesByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    /**
+     * 여러 이벤트의 일정 일괄 삭제 (이벤트/그룹 삭제용)
+     */
+    @Modifying
+    @Query("DELETE FROM Schedule s WHERE s.event.id IN :eventIds")
+    int deleteByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
     /**
      * 특정 이벤트에서 시간이 겹치는 일정 조회
      * (시간 중복 검증을 위해 사용)
@@ -1,13 +1,20 @@
 package side.eventful.domain.schedule;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import side.eventful.domain.event.Event;
+import side.eventful.domain.event.EventContentChanged;
+import side.eventful.domain.event.EventParticipantLookup;
+import side.eventful.domain.event.EventRepository;
 import side.eventful.domain.member.Member;
 import side.eventful.domain.vote.Vote;
 import side.eventful.domain.vote.VoteRepository;
+import side.eventful.global.transaction.RetryOnConflictExecutor;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -27,6 +34,10 @@ public class ScheduleService {
 
     private final ScheduleRepository scheduleRepository;
     private final VoteRepository voteRepository;
+    private final EventRepository eventRepository;
+    private final RetryOnConflictExecutor retryExecutor;
+    private final EventParticipantLookup participantLookup;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 일정 생성
@@ -37,42 +48,49 @@ public class ScheduleService {
      *   <li>시간이 중복되지 않는지 확인</li>
      * </ul>
      *
-     * @param event 이벤트
+     * <p>시간 중복 검증과 저장 사이에 다른 일정/투표가 끼어들지 않도록 이벤트 버전을 올리며,
+     * 동시 생성으로 충돌하면 최신 상태로 다시 검증한다.</p>
+     *
+     * @param eventId 이벤트 ID
      * @param creator 생성자
      * @param command 일정 생성 커맨드
      * @return 생성된 일정
      * @throws IllegalArgumentException 생성자가 이벤트 참여자가 아니거나 시간이 중복되는 경우
      */
-    @Transactional
-    public Schedule createSchedule(Event event, Member creator, ScheduleCommand.CreateSchedule command) {
-        // 1. 이벤트 참여자인지 확인
-        validateEventParticipant(event, creator);
-
-        // 2. 시간 중복 검증
-        validateTimeNotOverlapping(event.getId(), command.startTime(), command.endTime());
-
-        // 3. 일정 생성
-        Schedule schedule = Schedule.create(
-            event,
-            creator,
-            command.name(),
-            command.memo(),
-            command.startTime(),
-            command.endTime(),
-            command.location()
-        );
-
-        return scheduleRepository.save(schedule);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Schedule createSchedule(Long eventId, Member creator, ScheduleCommand.CreateSchedule command) {
+        return retryExecutor.execute(() -> {
+            Event event = eventRepository.findByIdWithVersionIncrement(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 이벤트입니다."));
+
+            // 1. 이벤트 참여자인지 확인
+            validateEventParticipant(eventId, creator);
+
+            // 2. 시간 중복 검증
+            validateTimeNotOverlapping(eventId, command.startTime(), command.endTime());
+
+            // 3. 일정 생성
+            Schedule schedule = Schedule.create(
+                event,
+                creator,
+                command.name(),
+                command.memo(),
+                command.startTime(),
+                command.endTime(),
+                command.location()
+            );
+
+            Schedule saved = scheduleRepository.save(schedule);
+            eventPublisher.publishEvent(new EventContentChanged(eventId));
+            return saved;
+        });
     }
 
     /**
      * 이벤트 참여자인지 확인
      */
-    private void validateEventParticipant(Event event, Member member) {
-        boolean isParticipant = event.getParticipants().stream()
-            .anyMatch(p -> p.getMember().equals(member));
-
-        if (!isParticipant) {
+    private void validateEventParticipant(Long eventId, Member member) {
+        if (!participantLookup.isParticipant(eventId, member.getId())) {
             throw new IllegalArgumentException("이벤트 참여자만 일정을 생성할 수 있습니다.");
         }
     }
@@ -110,6 +128,7 @@ public class ScheduleService {
         validateScheduleManager(schedule, member);
 
         schedule.setAmount(command.amount());
+        eventPublisher.publishEvent(new EventContentChanged(schedule.getEvent().getId()));
     }
 
     /**
@@ -127,6 +146,7 @@ public class ScheduleService {
         validateScheduleManager(schedule, member);
 
         schedule.setReceiptFilePath(command.filePath());
+        eventPublisher.publishEvent(new EventContentChanged(schedule.getEvent().getId()));
     }
 
     /**
@@ -157,6 +177,7 @@ public class ScheduleService {
         validateScheduleManager(schedule, member);
 
         scheduleRepository.delete(schedule);
+        eventPublisher.publishEvent(new EventContentChanged(schedule.getEvent().getId()));
     }
 
     /**
@@ -165,5 +186,26 @@ public class ScheduleService {
     public List<Schedule> getSchedulesByEvent(Long eventId) {
         return scheduleRepository.findByEventId(eventId);
     }
+
+    /**
+     * 여러 이벤트의 일정 요약 조회 (쿼리 1회)
+     */
+    public List<ScheduleSummary> getScheduleSummaries(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        return scheduleRepository.findSummariesByEventIdIn(eventIds);
+    }
+
+    /**
+     * 여러 이벤트의 일정 일괄 삭제 (이벤트/그룹 삭제용, 쿼리 1회)
+     */
+    @Transactional
+    public void deleteAllByEventIds(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        scheduleRepository.deleteByEventIdIn(eventIds);
+    }
 }
 
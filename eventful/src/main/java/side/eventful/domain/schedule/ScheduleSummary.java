@@ -0,0 +1,16 @@
+package side.eventful.domain.schedule;
+
+import java.time.LocalTime;
+
+/**
+ * 이벤트 조회 화면용 일정 요약 정보
+ */
+public record ScheduleSummary(
+    Long scheduleId,
+    Long eventId,
+    String name,
+    LocalTime startTime,
+    LocalTime endTime,
+    String location
+) {
+}
@@ -0,0 +1,11 @@
+package side.eventful.domain.vote;
+
+/**
+ * 투표 한 표 (어느 투표에서 어떤 회원이 어떤 옵션을 골랐는지)
+ */
+public record Ballot(
+    Long voteId,
+    Long memberId,
+    Long optionId
+) {
+}
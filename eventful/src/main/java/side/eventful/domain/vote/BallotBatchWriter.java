@@ -0,0 +1,34 @@
+package side.eventful.domain.vote;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 표를 한 번에 반영하는 쓰기 전용 저장소
+ *
+ * <p>표마다 문장을 나눠 실행하지 않고 묶음 단위로 실행한다. 호출한 트랜잭션에 참여한다.</p>
+ */
+public interface BallotBatchWriter {
+
+    /**
+     * 첫 투표 기록 일괄 추가
+     *
+     * @return (vote_id, member_id) 중복으로 넣지 못했으면 false
+     */
+    boolean insertRecords(List<Ballot> ballots);
+
+    /**
+     * 재투표 옵션 일괄 변경
+     *
+     * @param currentOptionIds 새 표 → 읽어 둔 기존 옵션 ID
+     * @return 그 사이 기존 옵션이 바뀐 행이 있으면 false
+     */
+    boolean changeOptions(Map<Ballot, Long> currentOptionIds);
+
+    /**
+     * 옵션별 득표수 일괄 증감
+     *
+     * @param deltas 옵션 ID → 증감값
+     */
+    void adjustVoteCounts(Map<Long, Long> deltas);
+}
@@ -0,0 +1,16 @@
+package side.eventful.domain.vote;
+
+/**
+ * 표를 모아서 한 트랜잭션으로 반영하는 버퍼
+ *
+ * <p>eventful.vote-ingest.mode=buffered 일 때만 등록된다.</p>
+ */
+public interface BallotBuffer {
+
+    /**
+     * 표 제출 (묶음이 커밋될 때까지 기다린다)
+     *
+     * @throws IllegalStateException 반영 전에 투표가 마감되었거나 버퍼가 가득 찬 경우
+     */
+    void submit(Ballot ballot);
+}
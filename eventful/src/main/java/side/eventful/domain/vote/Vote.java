@@ -9,6 +9,7 @@ import side.eventful.domain.event.Event;
 import side.eventful.domain.member.Member;
 import side.eventful.domain.schedule.Schedule;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -28,6 +29,10 @@ import java.util.stream.Collectors;
  */
 @Getter
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_vote_event_id", columnList = "event_id"),
+    @Index(name = "idx_vote_status_closes_at", columnList = "status, closes_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Vote extends BaseEntity {
 
@@ -60,17 +65,26 @@ public class Vote extends BaseEntity {
     @Column(nullable = false)
     private VoteStatus status;
 
+    // 자동 마감 시각 (없으면 관리자가 직접 마감)
+    private LocalDateTime closesAt;
+
     // 투표 옵션들 (장소 후보)
     @OneToMany(mappedBy = "vote", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<VoteOption> options = new ArrayList<>();
 
+    // 동시 수정 감지용 버전 (기존 행은 0부터 시작)
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private Long version;
+
     private Vote(
         Event event,
         Member creator,
         String name,
         String memo,
         LocalTime startTime,
-        LocalTime endTime
+        LocalTime endTime,
+        LocalDateTime closesAt
     ) {
         this.event = event;
         this.creator = creator;
@@ -78,6 +92,7 @@ public class Vote extends BaseEntity {
         this.memo = memo;
         this.startTime = startTime;
         this.endTime = endTime;
+        this.closesAt = closesAt;
         this.status = VoteStatus.IN_PROGRESS;
     }
 
@@ -91,6 +106,7 @@ public class Vote extends BaseEntity {
      * @param startTime 시작 시간
      * @param endTime 종료 시간
      * @param locationOptions 장소 옵션들 (최소 2개 이상)
+     * @param closesAt 자동 마감 시각 (선택)
      * @return 생성된 투표
      */
     public static Vote create(
@@ -100,7 +116,8 @@ public class Vote extends BaseEntity {
         String memo,
         LocalTime startTime,
         LocalTime endTime,
-        List<String> locationOptions
+        List<String> locationOptions,
+        LocalDateTime closesAt
     ) {
         // 필수 값 검증
         validateRequired(name, startTime, endTime, locationOptions);
@@ -111,7 +128,7 @@ public class Vote extends BaseEntity {
         // 투표 옵션 개수 검증 (최소 2개)
         validateOptionCount(locationOptions);
 
-        Vote vote = new Vote(event, creator, name, memo, startTime, endTime);
+        Vote vote = new Vote(event, creator, name, memo, startTime, endTime, closesAt);
 
         // 투표 옵션 추가
         vote.addOptions(locationOptions);
@@ -201,26 +218,25 @@ public class Vote extends BaseEntity {
     }
 
     /**
-     * 투표하기
+     * 투표할 수 있는 상태인지 확인
+     * 투표 기록은 회원당 한 행으로 VoteService에서 저장/변경한다.
      *
-     * @param member 투표하는 회원
-     * @param optionId 투표할 옵션 ID
+     * @param now 현재 시각 (자동 마감 전이라도 마감 시각이 지났으면 참여할 수 없음)
      */
-    public void vote(Member member, Long optionId) {
+    public void validateVotable(LocalDateTime now) {
         if (this.status != VoteStatus.IN_PROGRESS) {
             throw new IllegalStateException("진행 중인 투표만 참여할 수 있습니다.");
         }
+        if (isDue(now)) {
+            throw new IllegalStateException("마감 시각이 지난 투표입니다.");
+        }
+    }
 
-        VoteOption option = this.options.stream()
-            .filter(o -> o.getId().equals(optionId))
-            .findFirst()
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 투표 옵션입니다."));
-
-        // 기존 투표 취소 (재투표 가능)
-        this.options.forEach(o -> o.cancelVote(member));
-
-        // 새로운 옵션에 투표
-        option.addVote(member);
+    /**
+     * 자동 마감 시각이 지났는지 확인
+     */
+    public boolean isDue(LocalDateTime now) {
+        return this.closesAt != null && !now.isBefore(this.closesAt);
     }
 
     /**
@@ -246,7 +262,7 @@ public class Vote extends BaseEntity {
         }
 
         return this.options.stream()
-            .max((o1, o2) -> Integer.compare(o1.getVoteCount(), o2.getVoteCount()))
+            .max((o1, o2) -> Long.compare(o1.getVoteCount(), o2.getVoteCount()))
             .map(VoteOption::getLocationName)
             .orElseThrow(() -> new IllegalStateException("투표 옵션이 존재하지 않습니다."));
     }
@@ -256,7 +272,7 @@ public class Vote extends BaseEntity {
      *
      * @return 장소명 -> 득표수 맵
      */
-    public Map<String, Integer> getVoteResults() {
+    public Map<String, Long> getVoteResults() {
         return this.options.stream()
             .collect(Collectors.toMap(
                 VoteOption::getLocationName,
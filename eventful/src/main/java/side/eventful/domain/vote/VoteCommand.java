@@ -1,5 +1,6 @@
 package side.eventful.domain.vote;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 
@@ -16,7 +17,8 @@ public class VoteCommand {
         String memo,
         LocalTime startTime,
         LocalTime endTime,
-        List<String> locationOptions
+        List<String> locationOptions,
+        LocalDateTime closesAt
     ) {
     }
 
@@ -5,7 +5,6 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import side.eventful.domain.common.BaseEntity;
-import side.eventful.domain.member.Member;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,6 +15,7 @@ import java.util.List;
  * <p>투표에서 선택할 수 있는 장소 옵션을 나타낸다.</p>
  */
 @Entity
+@Table(indexes = @Index(name = "idx_vote_option_vote_id", columnList = "vote_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class VoteOption extends BaseEntity {
@@ -31,7 +31,12 @@ public class VoteOption extends BaseEntity {
     @Column(nullable = false)
     private String locationName;
 
-    // 이 옵션에 대한 투표 기록
+    // 득표수: 투표 기록을 세지 않고 이 값을 읽는다.
+    // 투표/재투표/무효 처리 시 UPDATE 문장으로만 증감하며, 엔티티 변경 감지로 덮어쓰지 않는다.
+    @Column(nullable = false, updatable = false, columnDefinition = "bigint default 0 not null")
+    private long voteCount;
+
+    // 이 옵션을 고른 투표 기록 (옵션 삭제 시 함께 삭제)
     @OneToMany(mappedBy = "option", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<VoteRecord> voteRecords = new ArrayList<>();
 
@@ -46,39 +51,5 @@ public class VoteOption extends BaseEntity {
         }
         return new VoteOption(vote, locationName);
     }
-
-    /**
-     * 투표 추가
-     *
-     * @param member 투표하는 회원
-     */
-    public void addVote(Member member) {
-        // 이미 투표했는지 확인
-        boolean alreadyVoted = this.voteRecords.stream()
-            .anyMatch(record -> record.getMember().equals(member));
-
-        if (!alreadyVoted) {
-            VoteRecord record = VoteRecord.of(this, member);
-            this.voteRecords.add(record);
-        }
-    }
-
-    /**
-     * 투표 취소
-     *
-     * @param member 취소할 회원
-     */
-    public void cancelVote(Member member) {
-        this.voteRecords.removeIf(record -> record.getMember().equals(member));
-    }
-
-    /**
-     * 득표수 조회
-     *
-     * @return 득표수
-     */
-    public int getVoteCount() {
-        return this.voteRecords.size();
-    }
 }
 
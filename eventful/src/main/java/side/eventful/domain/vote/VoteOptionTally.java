@@ -0,0 +1,12 @@
+package side.eventful.domain.vote;
+
+/**
+ * 투표 옵션별 득표수
+ */
+public record VoteOptionTally(
+    Long voteId,
+    Long optionId,
+    String locationName,
+    long voteCount
+) {
+}
@@ -0,0 +1,9 @@
+package side.eventful.domain.vote;
+
+/**
+ * 회원이 이벤트 참여를 취소해 그 이벤트의 투표 결과를 더 볼 수 없게 되었음을 알리는 애플리케이션 이벤트
+ *
+ * <p>커밋된 뒤 그 회원의 실시간 결과 구독을 닫는 데 쓴다. 구독 권한은 구독할 때만 확인하기 때문이다.</p>
+ */
+public record VoteParticipantLeft(Long eventId, Long memberId) {
+}
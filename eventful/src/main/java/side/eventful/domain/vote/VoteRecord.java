@@ -10,9 +10,17 @@ import side.eventful.domain.member.Member;
 /**
  * 투표 기록(VoteRecord) 엔티티
  *
- * <p>누가 어떤 옵션에 투표했는지 기록한다.</p>
+ * <p>투표 한 건에 회원당 한 행만 두고, 회원이 고른 옵션을 기록한다.
+ * (vote_id, member_id) 유니크 키가 있으므로 다시 투표하면 새 행을 넣지 않고 옵션만 바꾼다.</p>
  */
 @Entity
+@Table(
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_vote_record_vote_member",
+        columnNames = {"vote_id", "member_id"}
+    ),
+    indexes = @Index(name = "idx_vote_record_option_member", columnList = "vote_option_id, member_id")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class VoteRecord extends BaseEntity {
@@ -21,6 +29,12 @@ public class VoteRecord extends BaseEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 기존 행이 있는 테이블에 ddl-auto가 NOT NULL 컬럼을 추가하면 실패하므로 매핑은 NULL 허용으로 둠
+    // 컬럼 추가 전에 저장된 기록은 VoteRecordVoteIdMigration이 기동 시 채우고, NOT NULL 제약도 거기서 추가함
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "vote_id", nullable = true)
+    private Vote vote;
+
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "vote_option_id", nullable = false)
     private VoteOption option;
@@ -29,13 +43,13 @@ public class VoteRecord extends BaseEntity {
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
 
-    private VoteRecord(VoteOption option, Member member) {
+    private VoteRecord(Vote vote, VoteOption option, Member member) {
+        this.vote = vote;
         this.option = option;
         this.member = member;
     }
 
-    public static VoteRecord of(VoteOption option, Member member) {
-        return new VoteRecord(option, member);
+    public static VoteRecord of(Vote vote, VoteOption option, Member member) {
+        return new VoteRecord(vote, option, member);
     }
 }
-
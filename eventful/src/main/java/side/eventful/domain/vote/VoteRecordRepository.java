@@ -0,0 +1,81 @@
+package side.eventful.domain.vote;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import side.eventful.domain.member.Member;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface VoteRecordRepository extends JpaRepository<VoteRecord, Long> {
+
+    /**
+     * 투표에 속한 옵션 조회
+     * (옵션 목록을 로딩해 찾지 않고 PK로 한 번에 확인)
+     */
+    @Query("SELECT o FROM VoteOption o WHERE o.id = :optionId AND o.vote.id = :voteId")
+    Optional<VoteOption> findOption(@Param("voteId") Long voteId, @Param("optionId") Long optionId);
+
+    /**
+     * 여러 회원의 현재 표 조회 (묶음 반영용)
+     */
+    @Query("""
+        SELECT new side.eventful.domain.vote.Ballot(r.vote.id, r.member.id, r.option.id)
+        FROM VoteRecord r
+        WHERE r.vote.id = :voteId AND r.member.id IN :memberIds
+    """)
+    List<Ballot> findBallots(@Param("voteId") Long voteId, @Param("memberIds") Collection<Long> memberIds);
+
+    /**
+     * 투표의 옵션 ID 목록 조회 (묶음 반영 전 삭제된 옵션 확인용)
+     */
+    @Query("SELECT o.id FROM VoteOption o WHERE o.vote.id = :voteId")
+    Set<Long> findOptionIds(@Param("voteId") Long voteId);
+
+    /**
+     * 회원이 현재 선택한 옵션 ID 조회
+     * (vote_id, member_id) 유니크 키로 한 행만 읽으며, 아직 투표하지 않았으면 비어 있다.
+     */
+    @Query("SELECT r.option.id FROM VoteRecord r WHERE r.vote = :vote AND r.member = :member")
+    Optional<Long> findOptionId(@Param("vote") Vote vote, @Param("member") Member member);
+
+    /**
+     * 이미 투표한 회원의 선택 옵션 변경 (재투표)
+     * 읽은 뒤 다른 요청이 먼저 옵션을 바꿨으면 0을 반환해, 득표수를 잘못된 옵션에서 빼지 않도록 한다.
+     */
+    @Modifying
+    @Query("""
+        UPDATE VoteRecord r SET r.option = :option
+        WHERE r.vote = :vote AND r.member = :member AND r.option.id = :currentOptionId
+    """)
+    int changeOption(
+        @Param("vote") Vote vote,
+        @Param("member") Member member,
+        @Param("currentOptionId") Long currentOptionId,
+        @Param("option") VoteOption option
+    );
+
+    /**
+     * 옵션 득표수 1 증가 (첫 투표)
+     * 옵션 행 하나만 갱신하므로 동시에 투표해도 증가분이 유실되지 않는다.
+     */
+    @Modifying
+    @Query("UPDATE VoteOption o SET o.voteCount = o.voteCount + 1 WHERE o.id = :optionId")
+    int increaseVoteCount(@Param("optionId") Long optionId);
+
+    /**
+     * 득표수 1을 다른 옵션으로 이동 (재투표)
+     * 이전 옵션 감소와 새 옵션 증가를 한 문장으로 처리한다.
+     */
+    @Modifying
+    @Query("""
+        UPDATE VoteOption o
+        SET o.voteCount = o.voteCount + CASE WHEN o.id = :toOptionId THEN 1 ELSE -1 END
+        WHERE o.id IN (:fromOptionId, :toOptionId)
+    """)
+    int moveVoteCount(@Param("fromOptionId") Long fromOptionId, @Param("toOptionId") Long toOptionId);
+}
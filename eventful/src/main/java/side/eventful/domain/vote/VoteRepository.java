@@ -1,20 +1,150 @@
 package side.eventful.domain.vote;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface VoteRepository extends JpaRepository<Vote, Long> {
 
+    /**
+     * 투표 조회 (커밋 시 버전 증가)
+     * 옵션/투표 기록처럼 하위 엔티티만 바뀌어도 동시 변경끼리 충돌하도록 투표 버전을 올린다.
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT v FROM Vote v WHERE v.id = :id")
+    Optional<Vote> findWithVersionIncrementById(@Param("id") Long id);
+
+    /**
+     * 투표 공유 잠금 조회 (SELECT ... FOR SHARE)
+     * 투표 참여끼리는 공유 잠금이라 서로 기다리지 않고, 마감/옵션 삭제의 버전 증가 UPDATE는 참여가 끝날 때까지 기다린다.
+     * 마감이 먼저 커밋되었으면 잠금을 잡을 때 마감된 최신 상태를 읽는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT v FROM Vote v WHERE v.id = :id")
+    Optional<Vote> findForShareById(@Param("id") Long id);
+
+    /**
+     * 투표 상태만 조회 (결과 조회용)
+     */
+    @Query("SELECT v.status FROM Vote v WHERE v.id = :id")
+    Optional<VoteStatus> findStatusById(@Param("id") Long id);
+
+    /**
+     * 투표가 속한 이벤트 ID만 조회 (권한 확인용)
+     */
+    @Query("SELECT v.event.id FROM Vote v WHERE v.id = :id")
+    Optional<Long> findEventIdById(@Param("id") Long id);
+
+    /**
+     * 마감 시각이 지난 진행 중 투표를 잠그고 조회 (자동 마감용)
+     * (status, closes_at) 인덱스로 찾고, 다른 인스턴스가 잠근 행은 건너뛰어(SKIP LOCKED) 같은 투표를 두 번 마감하지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT v FROM Vote v
+        WHERE v.status = 'IN_PROGRESS' AND v.closesAt <= :now
+        ORDER BY v.closesAt, v.id
+    """)
+    List<Vote> findDueForClosing(@Param("now") LocalDateTime now, Limit limit);
+
     /**
      * 특정 이벤트의 모든 투표 조회
      */
     @Query("SELECT v FROM Vote v WHERE v.event.id = :eventId")
     List<Vote> findByEventId(@Param("eventId") Long eventId);
 
+    /**
+     * 여러 이벤트의 투표 요약을 한 번에 조회
+     * (이벤트 목록/상세 화면에서 이벤트마다 투표를 따로 조회하지 않도록 사용)
+     */
+    @Query("""
+        SELECT new side.eventful.domain.vote.VoteSummary(v.id, v.event.id, v.name, v.startTime, v.endTime, v.status)
+        FROM Vote v
+        WHERE v.event.id IN :eventIds
+        ORDER BY v.event.id, v.startTime, v.id
+    """)
+    List<VoteSummary> findSummariesByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    /**
+     * 특정 이벤트의 투표 옵션별 득표수 조회
+     * (투표 기록을 세지 않고 옵션에 저장된 득표수만 읽으므로 투표자 수와 무관하다)
+     */
+    @Query("""
+        SELECT new side.eventful.domain.vote.VoteOptionTally(o.vote.id, o.id, o.locationName, o.voteCount)
+        FROM VoteOption o
+        WHERE o.vote.event.id = :eventId
+        ORDER BY o.vote.id, o.id
+    """)
+    List<VoteOptionTally> findOptionTalliesByEventId(@Param("eventId") Long eventId);
+
+    /**
+     * 특정 투표의 옵션별 득표수 조회 (실시간 결과 화면용)
+     */
+    @Query("""
+        SELECT new side.eventful.domain.vote.VoteOptionTally(o.vote.id, o.id, o.locationName, o.voteCount)
+        FROM VoteOption o
+        WHERE o.vote.id = :voteId
+        ORDER BY o.id
+    """)
+    List<VoteOptionTally> findOptionTalliesByVoteId(@Param("voteId") Long voteId);
+
+    /**
+     * 여러 이벤트의 투표 기록 일괄 삭제 (이벤트/그룹 삭제용)
+     * 투표 기록 → 선택지 → 투표 순서로 지워야 외래 키를 위반하지 않는다.
+     */
+    @Modifying
+    @Query("""
+        DELETE FROM VoteRecord r
+        WHERE r.option.id IN (
+            SELECT o.id FROM VoteOption o WHERE o.vote.id IN (SELECT v.id FROM Vote v WHERE v.event.id IN :eventIds))
+    """)
+    int deleteRecordsByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    @Modifying
+    @Query("DELETE FROM VoteOption o WHERE o.vote.id IN (SELECT v.id FROM Vote v WHERE v.event.id IN :eventIds)")
+    int deleteOptionsByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Vote v WHERE v.event.id IN :eventIds")
+    int deleteByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    /**
+     * 이벤트의 진행 중인 투표에서 특정 회원의 투표 기록을 잠그고 조회 (참여 취소 시 투표 무효)
+     * 잠근 기록 하나로 득표수 감소와 삭제를 함께 처리하므로, 그 사이 같은 회원의 재투표가 옵션을 바꿔도 둘이 어긋나지 않는다.
+     * 마감된 투표의 기록은 확정된 결과이므로 대상에서 뺀다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT r FROM VoteRecord r
+        WHERE r.member.id = :memberId
+        AND r.vote.id IN (SELECT v.id FROM Vote v WHERE v.event.id = :eventId AND v.status = 'IN_PROGRESS')
+    """)
+    List<VoteRecord> findInProgressRecordsForUpdate(@Param("eventId") Long eventId, @Param("memberId") Long memberId);
+
+    /**
+     * 옵션별 득표수 1 감소 (회원은 투표마다 한 표이므로 같은 옵션이 두 번 들어오지 않는다)
+     */
+    @Modifying
+    @Query("UPDATE VoteOption o SET o.voteCount = o.voteCount - 1 WHERE o.id IN :optionIds")
+    int decreaseVoteCounts(@Param("optionIds") Collection<Long> optionIds);
+
+    @Modifying
+    @Query("DELETE FROM VoteRecord r WHERE r.id IN :ids")
+    int deleteRecordsByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * 특정 이벤트에서 시간이 겹치는 투표 조회
      */
@@ -0,0 +1,17 @@
+package side.eventful.domain.vote;
+
+import java.util.List;
+
+/**
+ * 투표 결과 (상태와 옵션별 득표수)
+ */
+public record VoteResults(
+    Long voteId,
+    VoteStatus status,
+    List<VoteOptionTally> options
+) {
+
+    public boolean isClosed() {
+        return this.status == VoteStatus.CLOSED;
+    }
+}
@@ -0,0 +1,9 @@
+package side.eventful.domain.vote;
+
+/**
+ * 투표 결과(득표수, 옵션, 상태)가 바뀌었음을 알리는 애플리케이션 이벤트
+ *
+ * <p>변경한 트랜잭션이 커밋된 뒤 실시간 결과 구독자에게 최신 결과를 보내는 데 쓴다.</p>
+ */
+public record VoteResultsChanged(Long voteId) {
+}
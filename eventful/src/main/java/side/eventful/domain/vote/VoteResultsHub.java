@@ -0,0 +1,32 @@
+package side.eventful.domain.vote;
+
+/**
+ * 투표 결과 실시간 전송 허브
+ *
+ * <p>같은 인스턴스 안의 구독자에게만 전달한다. 연결 방식(SSE 등)은 VoteResultsSubscriber 구현이 맡는다.</p>
+ */
+public interface VoteResultsHub {
+
+    /**
+     * 구독 등록
+     * 현재 결과를 읽기 전에 등록해야 그 사이 커밋된 변경 알림을 놓치지 않는다.
+     */
+    VoteResultsSubscription subscribe(VoteResultsSubscriber subscriber, Long voteId, Long eventId, Long memberId);
+
+    boolean hasSubscribers(Long voteId);
+
+    /**
+     * 구독자에게 최신 결과 전송 (마감된 결과를 보내면 연결을 끝낸다)
+     */
+    void publish(VoteResults results);
+
+    /**
+     * 투표의 모든 구독 종료 (투표 삭제 시)
+     */
+    void close(Long voteId);
+
+    /**
+     * 회원이 구독 중인 이벤트 투표의 구독 종료 (참여 취소 시)
+     */
+    void closeMember(Long eventId, Long memberId);
+}
@@ -0,0 +1,26 @@
+package side.eventful.domain.vote;
+
+import java.io.IOException;
+
+/**
+ * 투표 결과를 받는 클라이언트 연결
+ *
+ * <p>허브는 전송 순서와 묶음만 관리하고, 실제 전송은 이 구현(SSE 등)이 한다.
+ * 전송 실패(IOException 또는 이미 끝난 연결의 IllegalStateException)는 허브가 구독 종료로 처리한다.</p>
+ */
+public interface VoteResultsSubscriber {
+
+    void send(VoteResults results) throws IOException;
+
+    /**
+     * 유휴 연결 유지용 전송
+     */
+    void ping() throws IOException;
+
+    void complete();
+
+    /**
+     * 클라이언트가 연결을 끊거나 연결이 만료되면 실행할 작업 등록
+     */
+    void onDisconnect(Runnable callback);
+}
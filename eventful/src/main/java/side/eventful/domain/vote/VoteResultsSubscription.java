@@ -0,0 +1,18 @@
+package side.eventful.domain.vote;
+
+/**
+ * 허브에 등록된 구독 한 건
+ */
+public interface VoteResultsSubscription {
+
+    /**
+     * 등록 직후 읽은 현재 결과 전송
+     * 그 사이 변경 알림으로 더 최신 결과를 받았으면 버린다.
+     */
+    void sendInitial(VoteResults current);
+
+    /**
+     * 구독과 연결 종료
+     */
+    void cancel();
+}
@@ -1,15 +1,34 @@
 package side.eventful.domain.vote;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import side.eventful.domain.event.Event;
+import side.eventful.domain.event.EventContentChanged;
+import side.eventful.domain.event.EventParticipantLookup;
+import side.eventful.domain.event.EventRepository;
 import side.eventful.domain.member.Member;
 import side.eventful.domain.schedule.Schedule;
 import side.eventful.domain.schedule.ScheduleRepository;
+import side.eventful.global.transaction.RetryOnConflictExecutor;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 투표(Vote) 도메인 서비스
@@ -20,116 +39,265 @@ import java.util.List;
 public class VoteService {
 
     private final VoteRepository voteRepository;
+    private final VoteRecordRepository voteRecordRepository;
+    private final BallotBatchWriter ballotBatchWriter;
     private final ScheduleRepository scheduleRepository;
+    private final EventRepository eventRepository;
+    private final RetryOnConflictExecutor retryExecutor;
+    private final EventParticipantLookup participantLookup;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 투표 생성
      *
-     * @param event 이벤트
+     * <p>시간 중복 검증과 저장 사이에 다른 일정/투표가 끼어들지 않도록 이벤트 버전을 올리며,
+     * 충돌하면 최신 상태로 다시 검증한다.</p>
+     *
+     * @param eventId 이벤트 ID
      * @param creator 생성자
      * @param command 투표 생성 커맨드
      * @return 생성된 투표
      */
-    @Transactional
-    public Vote createVote(Event event, Member creator, VoteCommand.CreateVote command) {
-        // 1. 이벤트 참여자인지 확인
-        validateEventParticipant(event, creator);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Vote createVote(Long eventId, Member creator, VoteCommand.CreateVote command) {
+        return retryExecutor.execute(() -> {
+            Event event = eventRepository.findByIdWithVersionIncrement(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 이벤트입니다."));
+
+            // 1. 이벤트 참여자인지 확인
+            validateEventParticipant(eventId, creator);
 
-        // 2. 시간 중복 검증 (일정 + 투표)
-        validateTimeNotOverlapping(event.getId(), command.startTime(), command.endTime());
+            // 2. 시간 중복 검증 (일정 + 투표)
+            validateTimeNotOverlapping(eventId, command.startTime(), command.endTime());
 
-        // 3. 투표 생성
-        Vote vote = Vote.create(
-            event,
-            creator,
-            command.name(),
-            command.memo(),
-            command.startTime(),
-            command.endTime(),
-            command.locationOptions()
-        );
+            // 3. 자동 마감 시각 검증 (선택)
+            if (command.closesAt() != null && !command.closesAt().isAfter(LocalDateTime.now())) {
+                throw new IllegalArgumentException("투표 마감 시각은 현재 이후여야 합니다.");
+            }
 
-        return voteRepository.save(vote);
+            // 4. 투표 생성
+            Vote vote = Vote.create(
+                event,
+                creator,
+                command.name(),
+                command.memo(),
+                command.startTime(),
+                command.endTime(),
+                command.locationOptions(),
+                command.closesAt()
+            );
+
+            Vote saved = voteRepository.save(vote);
+            publishChanged(vote);
+            return saved;
+        });
     }
 
     /**
      * 투표 옵션 추가
      *
-     * @param vote 투표
+     * @param voteId 투표 ID
      * @param member 요청한 회원
      * @param command 옵션 추가 커맨드
      */
-    @Transactional
-    public void addOption(Vote vote, Member member, VoteCommand.AddOption command) {
-        // 권한 검증: 투표 생성자 또는 그룹장
-        validateVoteManager(vote, member);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void addOption(Long voteId, Member member, VoteCommand.AddOption command) {
+        retryExecutor.run(() -> {
+            Vote vote = getVoteWithVersionIncrement(voteId);
+
+            // 권한 검증: 투표 생성자 또는 그룹장
+            validateVoteManager(vote, member);
 
-        vote.addOption(command.locationName());
+            vote.addOption(command.locationName());
+            publishChanged(vote);
+        });
     }
 
     /**
      * 투표 옵션 삭제
      *
-     * @param vote 투표
+     * @param voteId 투표 ID
      * @param member 요청한 회원
      * @param optionId 삭제할 옵션 ID
      */
-    @Transactional
-    public void removeOption(Vote vote, Member member, Long optionId) {
-        // 권한 검증: 투표 생성자 또는 그룹장
-        validateVoteManager(vote, member);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void removeOption(Long voteId, Member member, Long optionId) {
+        retryExecutor.run(() -> {
+            Vote vote = getVoteWithVersionIncrement(voteId);
+
+            // 권한 검증: 투표 생성자 또는 그룹장
+            validateVoteManager(vote, member);
 
-        vote.removeOption(optionId);
+            vote.removeOption(optionId);
+            publishChanged(vote);
+        });
     }
 
     /**
      * 투표하기
      *
-     * @param vote 투표
+     * <p>옵션과 투표 기록을 로딩해 훑지 않고 (vote_id, member_id) 한 행을 UPDATE, 없으면 INSERT 한다.
+     * 옵션 득표수도 같은 트랜잭션에서 UPDATE 문장으로 함께 증감하므로 결과 조회는 득표수만 읽는다.
+     * 투표 행은 공유 잠금(FOR SHARE)으로만 읽으므로 인기 투표에서도 투표 참여끼리는 서로 기다리지 않는다.
+     * 마감/옵션 삭제는 이 잠금이 풀릴 때까지 기다리므로 검증한 뒤 기록을 쓰는 사이에 끼어들지 못하고,
+     * 먼저 커밋된 마감은 잠금을 잡을 때 최신 상태로 읽혀 거절된다.</p>
+     *
+     * @param voteId 투표 ID
      * @param member 투표하는 회원
      * @param command 투표 커맨드
      */
-    @Transactional
-    public void castVote(Vote vote, Member member, VoteCommand.CastVote command) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void castVote(Long voteId, Member member, VoteCommand.CastVote command) {
+        retryExecutor.run(() -> {
+            Vote vote = voteRepository.findForShareById(voteId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 투표입니다."));
+            vote.validateVotable(LocalDateTime.now());
+
+            // 이벤트 참여자인지 확인
+            validateEventParticipant(vote.getEvent().getId(), member);
+
+            VoteOption option = voteRecordRepository.findOption(voteId, command.optionId())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 투표 옵션입니다."));
+
+            // 재투표면 기존 행의 옵션만 바꾸고, 첫 투표면 새 행을 넣는다
+            Optional<Long> currentOptionId = voteRecordRepository.findOptionId(vote, member);
+            if (currentOptionId.isEmpty()) {
+                if (!addVoteRecord(VoteRecord.of(vote, option, member))) {
+                    // 같은 회원의 첫 투표가 동시에 저장됨: 새 트랜잭션에서 다시 시도하면 옵션 변경으로 처리된다
+                    throw new OptimisticLockingFailureException("같은 회원의 투표가 동시에 저장되었습니다.");
+                }
+                voteRecordRepository.increaseVoteCount(option.getId());
+            } else if (!currentOptionId.get().equals(option.getId())) {
+                if (voteRecordRepository.changeOption(vote, member, currentOptionId.get(), option) == 0) {
+                    // 같은 회원의 재투표가 먼저 커밋됨: 바뀐 옵션 기준으로 다시 시도한다
+                    throw new OptimisticLockingFailureException("같은 회원의 투표가 동시에 변경되었습니다.");
+                }
+                voteRecordRepository.moveVoteCount(currentOptionId.get(), option.getId());
+            } else {
+                // 같은 옵션에 다시 투표: 바뀌는 것이 없다
+                return;
+            }
+            publishChanged(vote);
+        });
+    }
+
+    /**
+     * 투표 가능 여부 확인 후 표 생성 (버퍼 모드)
+     * 버퍼에 넣기 전에, 요청한 회원에게 바로 알려 줄 수 있는 오류를 먼저 확인한다.
+     *
+     * @param voteId 투표 ID
+     * @param member 투표하는 회원
+     * @param command 투표 커맨드
+     * @return 버퍼에 넣을 표
+     */
+    public Ballot validateBallot(Long voteId, Member member, VoteCommand.CastVote command) {
+        Vote vote = voteRepository.findById(voteId)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 투표입니다."));
+        vote.validateVotable(LocalDateTime.now());
+
         // 이벤트 참여자인지 확인
-        validateEventParticipant(vote.getEvent(), member);
+        validateEventParticipant(vote.getEvent().getId(), member);
+
+        VoteOption option = voteRecordRepository.findOption(voteId, command.optionId())
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 투표 옵션입니다."));
+        return new Ballot(voteId, member.getId(), option.getId());
+    }
 
-        vote.vote(member, command.optionId());
+    /**
+     * 모아 둔 표 일괄 반영 (버퍼 모드)
+     *
+     * <p>같은 투표에서 같은 회원이 여러 번 낸 표는 마지막 표만 반영한다. 투표마다 기존 표를 한 번에 읽고,
+     * 투표 기록 INSERT/UPDATE와 득표수 증감을 묶음 단위로 실행해 한 번만 커밋한다.
+     * 투표마다 공유 잠금(FOR SHARE)을 잡아 반영하는 동안 마감/옵션 삭제가 끼어들지 못하게 하고,
+     * 같은 회원의 다른 경로 투표와 충돌하면 묶음 전체를 최신 상태로 다시 계산한다.</p>
+     *
+     * @param ballots 받은 순서대로의 표
+     * @return 반영하지 못한 표 (그 사이 투표가 마감/삭제되었거나 옵션이 삭제됨)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Set<Ballot> applyBallots(List<Ballot> ballots) {
+        // 투표별, 회원별 마지막 표만 남김
+        Map<Long, Map<Long, Ballot>> latestByVote = new LinkedHashMap<>();
+        ballots.forEach(ballot -> latestByVote
+            .computeIfAbsent(ballot.voteId(), id -> new LinkedHashMap<>())
+            .put(ballot.memberId(), ballot));
+
+        return retryExecutor.execute(() -> {
+            Set<Ballot> rejected = new HashSet<>();
+            latestByVote.forEach((voteId, latest) -> rejected.addAll(applyLatestBallots(voteId, latest)));
+            return rejected;
+        });
     }
 
     /**
      * 투표 마감 및 일정으로 변환
      *
-     * @param vote 투표
+     * @param voteId 투표 ID
      * @param member 요청한 회원
      * @return 생성된 일정
      */
-    @Transactional
-    public Schedule closeVoteAndCreateSchedule(Vote vote, Member member) {
-        // 권한 검증: 투표 생성자 또는 그룹장
-        validateVoteManager(vote, member);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Schedule closeVoteAndCreateSchedule(Long voteId, Member member) {
+        return retryExecutor.execute(() -> {
+            Vote vote = getVoteWithVersionIncrement(voteId);
 
-        // 투표 마감
-        vote.close();
+            // 권한 검증: 투표 생성자 또는 그룹장
+            validateVoteManager(vote, member);
 
-        // Schedule로 변환
-        Schedule schedule = vote.toSchedule();
+            // 투표 마감
+            vote.close();
 
-        return scheduleRepository.save(schedule);
+            // Schedule로 변환
+            Schedule schedule = vote.toSchedule();
+
+            Schedule saved = scheduleRepository.save(schedule);
+            publishChanged(vote);
+            return saved;
+        });
+    }
+
+    /**
+     * 마감 시각이 지난 투표 자동 마감 및 일정으로 변환
+     *
+     * <p>한 번에 batchSize 개까지 잠가서 처리한다. 다른 인스턴스가 잠근 투표는 건너뛰므로
+     * 여러 인스턴스가 동시에 실행해도 같은 투표를 두 번 마감하지 않는다.
+     * 그 사이 관리자가 직접 마감하면 버전 충돌로 다시 조회해 이미 마감된 투표를 제외한다.</p>
+     *
+     * @param now 기준 시각
+     * @param batchSize 한 트랜잭션에서 마감할 최대 투표 수
+     * @return 마감한 투표 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int closeDueVotes(LocalDateTime now, int batchSize) {
+        return retryExecutor.execute(() -> {
+            List<Vote> dueVotes = voteRepository.findDueForClosing(now, Limit.of(batchSize));
+            for (Vote vote : dueVotes) {
+                vote.close();
+                scheduleRepository.save(vote.toSchedule());
+                publishChanged(vote);
+            }
+            return dueVotes.size();
+        });
     }
 
     /**
      * 투표 삭제
      *
-     * @param vote 삭제할 투표
+     * @param voteId 삭제할 투표 ID
      * @param member 요청한 회원
      */
-    @Transactional
-    public void deleteVote(Vote vote, Member member) {
-        // 권한 검증: 투표 생성자 또는 그룹장
-        validateVoteManager(vote, member);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void deleteVote(Long voteId, Member member) {
+        retryExecutor.run(() -> {
+            Vote vote = voteRepository.findById(voteId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 투표입니다."));
+
+            // 권한 검증: 투표 생성자 또는 그룹장
+            validateVoteManager(vote, member);
 
-        voteRepository.delete(vote);
+            voteRepository.delete(vote);
+            publishChanged(vote);
+        });
     }
 
     /**
@@ -139,6 +307,58 @@ public class VoteService {
         return voteRepository.findByEventId(eventId);
     }
 
+    /**
+     * 여러 이벤트의 투표 요약 조회 (쿼리 1회)
+     */
+    public List<VoteSummary> getVoteSummaries(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        return voteRepository.findSummariesByEventIdIn(eventIds);
+    }
+
+    /**
+     * 참여 취소한 회원의 진행 중인 투표 무효 처리
+     *
+     * <p>이 회원의 진행 중인 투표 기록을 한 번에 잠가(SELECT ... FOR UPDATE) 읽고, 그 기록의 옵션 득표수 UPDATE와
+     * vote_record DELETE를 같은 집합으로 처리한다. 그 사이 재투표가 옵션을 바꿔도 감소와 삭제가 어긋나지 않으며,
+     * 이벤트의 투표 수와 관계없이 문장 수는 같다.</p>
+     *
+     * @param eventId 참여 취소한 이벤트 ID
+     * @param member 참여 취소한 회원
+     */
+    @Transactional
+    public void voidInProgressVotes(Long eventId, Member member) {
+        // 표가 없어도 이 회원의 실시간 결과 구독은 닫아야 하므로 항상 알림
+        eventPublisher.publishEvent(new VoteParticipantLeft(eventId, member.getId()));
+        List<VoteRecord> records = voteRepository.findInProgressRecordsForUpdate(eventId, member.getId());
+        if (records.isEmpty()) {
+            return;
+        }
+
+        voteRepository.decreaseVoteCounts(records.stream().map(record -> record.getOption().getId()).toList());
+        voteRepository.deleteRecordsByIdIn(records.stream().map(VoteRecord::getId).toList());
+        eventPublisher.publishEvent(new EventContentChanged(eventId));
+        records.stream()
+            .map(record -> record.getVote().getId())
+            .distinct()
+            .forEach(voteId -> eventPublisher.publishEvent(new VoteResultsChanged(voteId)));
+    }
+
+    /**
+     * 여러 이벤트의 투표 일괄 삭제 (이벤트/그룹 삭제용)
+     * 투표/선택지/기록을 로딩하지 않고 테이블마다 DELETE 한 문장으로 참조하는 쪽부터 지운다.
+     */
+    @Transactional
+    public void deleteAllByEventIds(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        voteRepository.deleteRecordsByEventIdIn(eventIds);
+        voteRepository.deleteOptionsByEventIdIn(eventIds);
+        voteRepository.deleteByEventIdIn(eventIds);
+    }
+
     /**
      * 진행 중인 투표만 조회
      */
@@ -147,13 +367,113 @@ public class VoteService {
     }
 
     /**
-     * 이벤트 참여자인지 확인
+     * 이벤트별 투표 옵션 득표수 조회 (쿼리 1회)
      */
-    private void validateEventParticipant(Event event, Member member) {
-        boolean isParticipant = event.getParticipants().stream()
-            .anyMatch(p -> p.getMember().equals(member));
+    public List<VoteOptionTally> getOptionTallies(Long eventId) {
+        return voteRepository.findOptionTalliesByEventId(eventId);
+    }
 
-        if (!isParticipant) {
+    /**
+     * 투표 결과 조회 권한 확인
+     *
+     * @param voteId 투표 ID
+     * @param member 조회하는 회원 (이벤트 참여자만 가능)
+     * @return 투표가 속한 이벤트 ID
+     */
+    public Long validateResultsViewer(Long voteId, Member member) {
+        Long eventId = voteRepository.findEventIdById(voteId)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 투표입니다."));
+        if (!participantLookup.isParticipant(eventId, member.getId())) {
+            throw new IllegalArgumentException("이벤트 참여자만 투표 결과를 볼 수 있습니다.");
+        }
+        return eventId;
+    }
+
+    /**
+     * 투표 결과 조회 (옵션별 득표수, 권한 확인 없음)
+     * 저장된 득표수만 읽으므로 투표자가 많아도 옵션 수만큼의 행만 읽는다.
+     *
+     * @return 투표가 삭제되었으면 비어 있음
+     */
+    public Optional<VoteResults> findVoteResults(Long voteId) {
+        return voteRepository.findStatusById(voteId)
+            .map(status -> new VoteResults(voteId, status, voteRepository.findOptionTalliesByVoteId(voteId)));
+    }
+
+    // 커밋 후 공유 링크 스냅샷 갱신 / 실시간 결과 전송용
+    private void publishChanged(Vote vote) {
+        eventPublisher.publishEvent(new EventContentChanged(vote.getEvent().getId()));
+        eventPublisher.publishEvent(new VoteResultsChanged(vote.getId()));
+    }
+
+    private Set<Ballot> applyLatestBallots(Long voteId, Map<Long, Ballot> latest) {
+        LocalDateTime now = LocalDateTime.now();
+        Vote vote = voteRepository.findForShareById(voteId)
+            .filter(found -> found.getStatus() == VoteStatus.IN_PROGRESS && !found.isDue(now))
+            .orElse(null);
+        if (vote == null) {
+            return new HashSet<>(latest.values());
+        }
+
+        Set<Long> optionIds = voteRecordRepository.findOptionIds(voteId);
+        Map<Long, Long> currentOptionIds = voteRecordRepository.findBallots(voteId, latest.keySet()).stream()
+            .collect(Collectors.toMap(Ballot::memberId, Ballot::optionId));
+
+        Set<Ballot> rejected = new HashSet<>();
+        List<Ballot> inserts = new ArrayList<>();
+        Map<Ballot, Long> changes = new LinkedHashMap<>();
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Ballot ballot : latest.values()) {
+            Long currentOptionId = currentOptionIds.get(ballot.memberId());
+            if (!optionIds.contains(ballot.optionId())) {
+                rejected.add(ballot);
+                continue;
+            }
+            if (currentOptionId == null) {
+                inserts.add(ballot);
+            } else if (!currentOptionId.equals(ballot.optionId())) {
+                changes.put(ballot, currentOptionId);
+                deltas.merge(currentOptionId, -1L, Long::sum);
+            } else {
+                // 같은 옵션에 다시 투표: 바뀌는 것이 없다
+                continue;
+            }
+            deltas.merge(ballot.optionId(), 1L, Long::sum);
+        }
+
+        if (!ballotBatchWriter.insertRecords(inserts) || !ballotBatchWriter.changeOptions(changes)) {
+            // 같은 회원의 표가 다른 경로로 먼저 커밋됨: 새 트랜잭션에서 기존 표를 다시 읽는다
+            throw new OptimisticLockingFailureException("같은 회원의 투표가 동시에 저장되었습니다.");
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+        ballotBatchWriter.adjustVoteCounts(deltas);
+
+        if (!inserts.isEmpty() || !changes.isEmpty()) {
+            publishChanged(vote);
+        }
+        return rejected;
+    }
+
+    private boolean addVoteRecord(VoteRecord record) {
+        try {
+            // 즉시 flush 해서 유니크 제약 위반을 이 자리에서 확인
+            voteRecordRepository.saveAndFlush(record);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private Vote getVoteWithVersionIncrement(Long voteId) {
+        return voteRepository.findWithVersionIncrementById(voteId)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 투표입니다."));
+    }
+
+    /**
+     * 이벤트 참여자인지 확인
+     */
+    private void validateEventParticipant(Long eventId, Member member) {
+        if (!participantLookup.isParticipant(eventId, member.getId())) {
             throw new IllegalArgumentException("이벤트 참여자만 투표를 생성하거나 참여할 수 있습니다.");
         }
     }
@@ -0,0 +1,16 @@
+package side.eventful.domain.vote;
+
+import java.time.LocalTime;
+
+/**
+ * 이벤트 조회 화면용 투표 요약 정보
+ */
+public record VoteSummary(
+    Long voteId,
+    Long eventId,
+    String name,
+    LocalTime startTime,
+    LocalTime endTime,
+    VoteStatus status
+) {
+}
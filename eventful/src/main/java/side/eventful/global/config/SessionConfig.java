@@ -1,14 +1,33 @@
 package side.eventful.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.web.session.HttpSessionEventPublisher;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
 import org.springframework.session.jdbc.config.annotation.web.http.EnableJdbcHttpSession;
 import org.springframework.session.web.http.CookieSerializer;
 import org.springframework.session.web.http.DefaultCookieSerializer;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션 설정
+ *
+ * <p>eventful.session.store 값으로 세션 저장소를 선택한다.</p>
+ * <ul>
+ *   <li>jdbc (기본값): SPRING_SESSION 테이블에 저장. 여러 인스턴스가 세션을 공유한다.</li>
+ *   <li>memory: 애플리케이션 메모리에 저장. 요청마다 세션 테이블을 읽고 쓰지 않아
+ *   비즈니스 쿼리와 커넥션을 경쟁하지 않지만, 재시작 시 세션이 사라지고 인스턴스 간 공유되지 않는다.</li>
+ * </ul>
+ */
 @Configuration
-@EnableJdbcHttpSession
 public class SessionConfig {
 
     @Bean
@@ -27,4 +46,34 @@ public class SessionConfig {
         serializer.setSameSite("Lax"); // CSRF 기본 방어
         return serializer;
     }
+
+    @Configuration
+    @EnableJdbcHttpSession
+    @ConditionalOnProperty(name = "eventful.session.store", havingValue = "jdbc", matchIfMissing = true)
+    static class JdbcSessionConfig {
+    }
+
+    @Configuration
+    @EnableSpringHttpSession
+    @ConditionalOnProperty(name = "eventful.session.store", havingValue = "memory")
+    static class InMemorySessionConfig {
+
+        private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+        @Bean
+        public MapSessionRepository sessionRepository(@Value("${spring.session.timeout:24h}") Duration timeout) {
+            MapSessionRepository sessionRepository = new MapSessionRepository(sessions);
+            sessionRepository.setDefaultMaxInactiveInterval(timeout);
+            return sessionRepository;
+        }
+
+        /**
+         * 만료된 세션 정리
+         * MapSessionRepository는 조회 시점에만 만료 세션을 지우므로, 다시 오지 않는 세션은 여기서 정리한다.
+         */
+        @Scheduled(fixedDelayString = "${eventful.session.cleanup-interval:PT1M}")
+        public void cleanUpExpiredSessions() {
+            sessions.values().removeIf(Session::isExpired);
+        }
+    }
 }
@@ -0,0 +1,84 @@
+package side.eventful.global.transaction;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락 충돌 시 재시도 실행기
+ *
+ * <p>작업을 시도마다 새 트랜잭션(REQUIRES_NEW)에서 실행한다. 커밋 시점에 @Version 충돌이 나면
+ * 영속성 컨텍스트를 버리고 최신 상태를 다시 읽어 처음부터 다시 수행한다.</p>
+ * <ul>
+ *   <li>작업 안에서 엔티티를 ID로 다시 조회해야 재시도가 의미가 있다.</li>
+ *   <li>재시도 간격은 지수적으로 늘어나며, 동시에 충돌한 요청이 같은 시점에 다시 부딪히지 않도록 지터를 준다.</li>
+ *   <li>마지막 시도까지 충돌하면 OptimisticLockingFailureException을 그대로 던진다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class RetryOnConflictExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public RetryOnConflictExecutor(PlatformTransactionManager transactionManager,
+                                   @Value("${eventful.retry.max-attempts:3}") int maxAttempts,
+                                   @Value("${eventful.retry.initial-backoff:20ms}") Duration initialBackoff,
+                                   @Value("${eventful.retry.max-backoff:200ms}") Duration maxBackoff) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("재시도 횟수는 1 이상이어야 합니다");
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("낙관적 락 충돌로 {}회 시도 후 실패: {}", attempt, e.getMessage());
+                    throw e;
+                }
+                log.debug("낙관적 락 충돌, 재시도 {}/{}", attempt, maxAttempts);
+                backOff(attempt);
+            }
+        }
+    }
+
+    public void run(Runnable action) {
+        execute(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private void backOff(int attempt) {
+        long ceiling = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt - 1, 20));
+        if (ceiling <= 0) {
+            return;
+        }
+        try {
+            // full jitter: 0 ~ ceiling 사이에서 무작위로 대기
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 대기 중 인터럽트되었습니다", e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package side.eventful.infrastructure.event;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import side.eventful.domain.event.EventSnapshot;
+import side.eventful.domain.event.EventSnapshotCache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 메모리 기반 공유 링크 스냅샷 캐시
+ *
+ * 스냅샷은 이벤트 내용이 바뀔 때마다 커밋 후 새로 만들어 바꿔 끼우므로 TTL은 다른 인스턴스에서 일어난 변경을
+ * 따라잡기 위한 상한이다. 토큰 → 이벤트 ID 매핑은 바뀌지 않으므로 더 오래 유지하고, 없는 토큰은 짧게 유지한다.
+ */
+@Component
+public class CaffeineEventSnapshotCache implements EventSnapshotCache {
+
+    private final Cache<String, Optional<Long>> eventIds;
+    private final Cache<Long, EventSnapshot> snapshots;
+
+    public CaffeineEventSnapshotCache(@Value("${eventful.event-share.cache.max-size:10000}") long maxSize,
+                                      @Value("${eventful.event-share.cache.ttl:1m}") Duration ttl,
+                                      @Value("${eventful.event-share.cache.token-ttl:1h}") Duration tokenTtl,
+                                      @Value("${eventful.event-share.cache.negative-ttl:30s}") Duration negativeTtl) {
+        this.eventIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String shareToken, Optional<Long> eventId) ->
+                        eventId.isPresent() ? tokenTtl : negativeTtl))
+                .build();
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public Optional<Long> getEventId(String shareToken, Function<String, Optional<Long>> loader) {
+        return eventIds.get(shareToken, loader);
+    }
+
+    @Override
+    public EventSnapshot getSnapshot(Long eventId, Function<Long, EventSnapshot> builder) {
+        return snapshots.get(eventId, builder);
+    }
+
+    @Override
+    public void refreshIfPresent(Long eventId, Function<Long, EventSnapshot> builder) {
+        if (snapshots.getIfPresent(eventId) != null) {
+            snapshots.put(eventId, builder.apply(eventId));
+        }
+    }
+
+    @Override
+    public void evict(Long eventId) {
+        snapshots.invalidate(eventId);
+        // 토큰 → 이벤트 ID는 역색인이 없어 훑어서 지움 (이벤트 삭제 때만 실행)
+        eventIds.asMap().values().removeIf(cached -> cached.filter(eventId::equals).isPresent());
+    }
+}
@@ -1,8 +1,115 @@
 package side.eventful.infrastructure.event;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import side.eventful.domain.event.Event;
+import side.eventful.domain.event.EventSummary;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface EventJpaRepository extends JpaRepository<Event, Long> {
-}
 
+    // 일정/투표 생성처럼 이벤트 하위 데이터만 바뀌는 작업도 이벤트 버전을 올려 동시 생성끼리 충돌하게 함
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT e FROM Event e WHERE e.id = :id")
+    Optional<Event> findWithVersionIncrementById(@Param("id") Long id);
+
+    // 참여/취소를 이벤트 행 잠금(SELECT ... FOR UPDATE)으로 한 줄로 세워 인원 수와 대기열을 함께 일관되게 바꿈
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.id = :id")
+    Optional<Event> findForUpdateById(@Param("id") Long id);
+
+    // 조회 화면용: 엔티티와 participants 컬렉션 대신 필요한 값만 조회
+    @Query("""
+        SELECT new side.eventful.domain.event.EventSummary(
+            e.id, e.eventGroup.id, e.name, e.description, e.maxParticipants, e.participantCount, e.eventDate, e.placeId)
+        FROM Event e
+        WHERE e.id = :id
+    """)
+    Optional<EventSummary> findSummaryById(@Param("id") Long id);
+
+    @Query("SELECT e.id FROM Event e WHERE e.shareToken = :shareToken")
+    Optional<Long> findIdByShareToken(@Param("shareToken") String shareToken);
+
+    // 그룹 타임라인: (event_group_id, event_date, id) 인덱스 순서를 그대로 따라 읽으므로
+    // 앞 페이지를 건너뛰는 OFFSET 없이 커서 위치부터 limit개만 읽음
+    @Query("""
+        SELECT new side.eventful.domain.event.EventSummary(
+            e.id, e.eventGroup.id, e.name, e.description, e.maxParticipants, e.participantCount, e.eventDate, e.placeId)
+        FROM Event e
+        WHERE e.eventGroup.id = :eventGroupId
+          AND e.eventDate BETWEEN :from AND :to
+        ORDER BY e.eventDate, e.id
+    """)
+    List<EventSummary> findTimeline(@Param("eventGroupId") Long eventGroupId,
+                                    @Param("from") LocalDate from, @Param("to") LocalDate to, Limit limit);
+
+    @Query("""
+        SELECT new side.eventful.domain.event.EventSummary(
+            e.id, e.eventGroup.id, e.name, e.description, e.maxParticipants, e.participantCount, e.eventDate, e.placeId)
+        FROM Event e
+        WHERE e.eventGroup.id = :eventGroupId
+          AND e.eventDate BETWEEN :from AND :to
+          AND (e.eventDate > :cursorDate OR (e.eventDate = :cursorDate AND e.id > :cursorId))
+        ORDER BY e.eventDate, e.id
+    """)
+    List<EventSummary> findTimelineAfter(@Param("eventGroupId") Long eventGroupId,
+                                         @Param("from") LocalDate from, @Param("to") LocalDate to,
+                                         @Param("cursorDate") LocalDate cursorDate, @Param("cursorId") Long cursorId,
+                                         Limit limit);
+
+    // 역방향은 인덱스를 거꾸로 읽고, 호출 측에서 다시 날짜 오름차순으로 뒤집음
+    @Query("""
+        SELECT new side.eventful.domain.event.EventSummary(
+            e.id, e.eventGroup.id, e.name, e.description, e.maxParticipants, e.participantCount, e.eventDate, e.placeId)
+        FROM Event e
+        WHERE e.eventGroup.id = :eventGroupId
+          AND e.eventDate BETWEEN :from AND :to
+          AND (e.eventDate < :cursorDate OR (e.eventDate = :cursorDate AND e.id < :cursorId))
+        ORDER BY e.eventDate DESC, e.id DESC
+    """)
+    List<EventSummary> findTimelineBefore(@Param("eventGroupId") Long eventGroupId,
+                                          @Param("from") LocalDate from, @Param("to") LocalDate to,
+                                          @Param("cursorDate") LocalDate cursorDate, @Param("cursorId") Long cursorId,
+                                          Limit limit);
+
+    // 정원 확인과 증가를 한 문장으로 처리해 동시 참여에서도 초과 인원이 생기지 않게 함
+    // 대기열이 비어 있거나 이 회원이 맨 앞일 때만 늘려 먼저 기다린 회원보다 앞서 빈자리를 가져가지 않게 함
+    // (이 회원의 항목보다 앞선 항목이 하나도 없어야 함)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Event e SET e.participantCount = e.participantCount + 1 " +
+           "WHERE e.id = :id AND (e.maxParticipants IS NULL OR e.participantCount < e.maxParticipants) " +
+           "AND NOT EXISTS (SELECT w.id FROM EventWaitlistEntry w WHERE w.event.id = :id AND w.member.id <> :memberId " +
+           "  AND NOT EXISTS (SELECT m.id FROM EventWaitlistEntry m " +
+           "    WHERE m.event.id = :id AND m.member.id = :memberId AND m.id < w.id))")
+    int increaseParticipantCountFor(@Param("id") Long id, @Param("memberId") Long memberId);
+
+    // 일괄 등록: 남은 자리가 모자라거나 대기자가 있으면 한 명도 늘리지 않음
+    // 대기열이 비어 있을 때만 늘려 먼저 기다린 회원보다 앞서 빈자리를 가져가지 않게 함
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Event e SET e.participantCount = e.participantCount + :amount " +
+           "WHERE e.id = :id AND (e.maxParticipants IS NULL OR e.participantCount + :amount <= e.maxParticipants) " +
+           "AND NOT EXISTS (SELECT w.id FROM EventWaitlistEntry w WHERE w.event.id = :id)")
+    int increaseParticipantCountBy(@Param("id") Long id, @Param("amount") int amount);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Event e SET e.participantCount = e.participantCount - 1 " +
+           "WHERE e.id = :id AND e.participantCount > 0")
+    int decreaseParticipantCount(@Param("id") Long id);
+
+    // (event_group_id, event_date, id) 인덱스의 앞부분으로 그룹 이벤트 ID만 읽음
+    @Query("SELECT e.id FROM Event e WHERE e.eventGroup.id = :eventGroupId")
+    List<Long> findIdsByEventGroupId(@Param("eventGroupId") Long eventGroupId, Limit limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Event e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,49 @@
+package side.eventful.infrastructure.event;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import side.eventful.domain.event.EventCalendarEntry;
+import side.eventful.domain.event.EventParticipant;
+import side.eventful.domain.event.EventParticipantSummary;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface EventParticipantJpaRepository extends JpaRepository<EventParticipant, Long> {
+
+    boolean existsByEventIdAndMemberId(Long eventId, Long memberId);
+
+    @Modifying
+    @Query("DELETE FROM EventParticipant ep WHERE ep.event.id = :eventId AND ep.member.id = :memberId")
+    int deleteByEventIdAndMemberId(@Param("eventId") Long eventId, @Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("DELETE FROM EventParticipant ep WHERE ep.event.id IN :eventIds")
+    int deleteByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    @Query("SELECT ep.member.id FROM EventParticipant ep WHERE ep.event.id = :eventId AND ep.member.id IN :memberIds")
+    List<Long> findMemberIdsIn(@Param("eventId") Long eventId, @Param("memberIds") Collection<Long> memberIds);
+
+    @Query("""
+        SELECT new side.eventful.domain.event.EventParticipantSummary(m.id, m.nickname, ep.role, ep.joinedAt)
+        FROM EventParticipant ep JOIN ep.member m
+        WHERE ep.event.id = :eventId
+        ORDER BY ep.joinedAt, ep.id
+    """)
+    List<EventParticipantSummary> findSummaries(@Param("eventId") Long eventId);
+
+    // (member_id, event_id) 인덱스로 참여 이벤트를 찾고 이벤트/그룹은 PK로 조인
+    @Query("""
+        SELECT new side.eventful.domain.event.EventCalendarEntry(
+            e.id, eg.id, eg.name, e.name, e.eventDate, e.placeId, ep.role)
+        FROM EventParticipant ep JOIN ep.event e JOIN e.eventGroup eg
+        WHERE ep.member.id = :memberId AND e.eventDate BETWEEN :from AND :to
+        ORDER BY e.eventDate, e.id
+    """)
+    List<EventCalendarEntry> findCalendar(@Param("memberId") Long memberId,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
+}
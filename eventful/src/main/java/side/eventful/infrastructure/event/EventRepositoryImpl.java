@@ -1,17 +1,44 @@
 package side.eventful.infrastructure.event;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import side.eventful.domain.event.Event;
+import side.eventful.domain.event.EventCalendarEntry;
+import side.eventful.domain.event.EventParticipant;
+import side.eventful.domain.event.EventParticipantSummary;
 import side.eventful.domain.event.EventRepository;
+import side.eventful.domain.event.EventSummary;
+import side.eventful.domain.event.EventWaitlistEntry;
+import side.eventful.domain.event.ParticipantRole;
 
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
 public class EventRepositoryImpl implements EventRepository {
 
+    // IDENTITY 키라 Hibernate 배치 insert가 꺼지므로 일괄 등록은 JDBC 배치로 직접 넣음
+    private static final String INSERT_PARTICIPANT_SQL =
+        "INSERT INTO event_participant (event_id, member_id, role, joined_at, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final int PARTICIPANT_BATCH_SIZE = 500;
+
     private final EventJpaRepository eventJpaRepository;
+    private final EventParticipantJpaRepository eventParticipantJpaRepository;
+    private final EventWaitlistJpaRepository eventWaitlistJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Event save(Event event) {
@@ -23,9 +50,170 @@ public class EventRepositoryImpl implements EventRepository {
         return eventJpaRepository.findById(id);
     }
 
+    @Override
+    public Optional<Event> findByIdWithVersionIncrement(Long id) {
+        return eventJpaRepository.findWithVersionIncrementById(id);
+    }
+
+    @Override
+    public Optional<Event> findByIdForUpdate(Long id) {
+        return eventJpaRepository.findForUpdateById(id);
+    }
+
     @Override
     public void delete(Event event) {
         eventJpaRepository.delete(event);
     }
+
+    @Override
+    public List<Long> findIdsByEventGroupId(Long eventGroupId, int limit) {
+        return eventJpaRepository.findIdsByEventGroupId(eventGroupId, Limit.of(limit));
+    }
+
+    @Override
+    public void deleteAllWithParticipants(Collection<Long> eventIds) {
+        eventWaitlistJpaRepository.deleteByEventIdIn(eventIds);
+        eventParticipantJpaRepository.deleteByEventIdIn(eventIds);
+        eventJpaRepository.deleteByIdIn(eventIds);
+    }
+
+    @Override
+    public Optional<EventSummary> findSummary(Long eventId) {
+        return eventJpaRepository.findSummaryById(eventId);
+    }
+
+    @Override
+    public Optional<Long> findIdByShareToken(String shareToken) {
+        return eventJpaRepository.findIdByShareToken(shareToken);
+    }
+
+    @Override
+    public List<EventSummary> findTimelineFirst(Long eventGroupId, LocalDate from, LocalDate to, int limit) {
+        return eventJpaRepository.findTimeline(eventGroupId, from, to, Limit.of(limit));
+    }
+
+    @Override
+    public List<EventSummary> findTimelineAfter(Long eventGroupId, LocalDate from, LocalDate to,
+                                                EventSummary after, int limit) {
+        return eventJpaRepository.findTimelineAfter(
+            eventGroupId, from, to, after.eventDate(), after.eventId(), Limit.of(limit));
+    }
+
+    @Override
+    public List<EventCalendarEntry> findCalendar(Long memberId, LocalDate from, LocalDate to) {
+        return eventParticipantJpaRepository.findCalendar(memberId, from, to);
+    }
+
+    @Override
+    public List<EventSummary> findTimelineBefore(Long eventGroupId, LocalDate from, LocalDate to,
+                                                 EventSummary before, int limit) {
+        List<EventSummary> descending = new ArrayList<>(eventJpaRepository.findTimelineBefore(
+            eventGroupId, from, to, before.eventDate(), before.eventId(), Limit.of(limit)));
+        Collections.reverse(descending);
+        return descending;
+    }
+
+    @Override
+    public boolean addParticipant(EventParticipant participant) {
+        try {
+            // 즉시 flush 해서 유니크 제약 위반을 이 자리에서 확인
+            eventParticipantJpaRepository.saveAndFlush(participant);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // (event_id, member_id) 중복: 같은 회원의 참여 요청이 먼저 저장됨
+            return false;
+        }
+    }
+
+    @Override
+    public boolean existsParticipant(Long eventId, Long memberId) {
+        return eventParticipantJpaRepository.existsByEventIdAndMemberId(eventId, memberId);
+    }
+
+    @Override
+    public int deleteParticipant(Long eventId, Long memberId) {
+        return eventParticipantJpaRepository.deleteByEventIdAndMemberId(eventId, memberId);
+    }
+
+    @Override
+    public List<EventParticipantSummary> findParticipantSummaries(Long eventId) {
+        return eventParticipantJpaRepository.findSummaries(eventId);
+    }
+
+    @Override
+    public Set<Long> findParticipantMemberIds(Long eventId, Collection<Long> memberIds) {
+        return new HashSet<>(eventParticipantJpaRepository.findMemberIdsIn(eventId, memberIds));
+    }
+
+    @Override
+    public boolean addParticipants(Long eventId, Collection<Long> memberIds, ParticipantRole role, LocalDateTime joinedAt) {
+        Timestamp now = Timestamp.valueOf(joinedAt);
+        try {
+            jdbcTemplate.batchUpdate(INSERT_PARTICIPANT_SQL, memberIds, PARTICIPANT_BATCH_SIZE, (ps, memberId) -> {
+                ps.setLong(1, eventId);
+                ps.setLong(2, memberId);
+                ps.setString(3, role.name());
+                ps.setTimestamp(4, now);
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            });
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // (event_id, member_id) 중복: 일괄 등록 도중 같은 회원의 참여 요청이 먼저 저장됨
+            return false;
+        }
+    }
+
+    @Override
+    public boolean addWaitlistEntry(EventWaitlistEntry entry) {
+        try {
+            eventWaitlistJpaRepository.saveAndFlush(entry);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // (event_id, member_id) 중복: 같은 회원의 대기 요청이 먼저 저장됨
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<EventWaitlistEntry> findWaitlistHead(Long eventId) {
+        return eventWaitlistJpaRepository.findHead(eventId, Limit.of(1)).stream().findFirst();
+    }
+
+    @Override
+    public boolean removeWaitlistEntry(Long entryId) {
+        return eventWaitlistJpaRepository.deleteEntryById(entryId) > 0;
+    }
+
+    @Override
+    public int deleteWaitlistEntry(Long eventId, Long memberId) {
+        return eventWaitlistJpaRepository.deleteByEventIdAndMemberId(eventId, memberId);
+    }
+
+    @Override
+    public int deleteWaitlistEntries(Long eventId, Collection<Long> memberIds) {
+        return eventWaitlistJpaRepository.deleteByEventIdAndMemberIdIn(eventId, memberIds);
+    }
+
+    @Override
+    public Optional<Long> findWaitlistPosition(Long eventId, Long memberId) {
+        long position = eventWaitlistJpaRepository.countUpTo(eventId, memberId);
+        return position == 0 ? Optional.empty() : Optional.of(position);
+    }
+
+    @Override
+    public int increaseParticipantCountFor(Long eventId, Long memberId) {
+        return eventJpaRepository.increaseParticipantCountFor(eventId, memberId);
+    }
+
+    @Override
+    public int increaseParticipantCount(Long eventId, int amount) {
+        return eventJpaRepository.increaseParticipantCountBy(eventId, amount);
+    }
+
+    @Override
+    public int decreaseParticipantCount(Long eventId) {
+        return eventJpaRepository.decreaseParticipantCount(eventId);
+    }
 }
 
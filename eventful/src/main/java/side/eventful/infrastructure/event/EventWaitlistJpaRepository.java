@@ -0,0 +1,44 @@
+package side.eventful.infrastructure.event;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import side.eventful.domain.event.EventWaitlistEntry;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface EventWaitlistJpaRepository extends JpaRepository<EventWaitlistEntry, Long> {
+
+    // (event_id, id) 인덱스 순서대로 읽으므로 맨 앞 항목은 인덱스 탐색 한 번으로 찾음
+    @Query("SELECT w FROM EventWaitlistEntry w JOIN FETCH w.member " +
+           "WHERE w.event.id = :eventId ORDER BY w.id")
+    List<EventWaitlistEntry> findHead(@Param("eventId") Long eventId, Limit limit);
+
+    // 내 항목 이하의 id만 (event_id, id) 인덱스 범위로 셈
+    // 비용은 순번에 비례(O(position))하지만 테이블이 아니라 인덱스 범위만 읽고, 대기열은 정원 초과분이라 짧음.
+    // 순번을 O(1)로 구하려면 이벤트별 발급 번호와 "내 앞에서 빠진 항목 수"를 따로 유지해야 하는데,
+    // 중간 취소마다 뒤쪽 모든 항목의 값을 고쳐야 해서 쓰기 비용을 조회 쪽으로 옮기는 것뿐이라 택하지 않음
+    @Query("SELECT COUNT(w) FROM EventWaitlistEntry w " +
+           "WHERE w.event.id = :eventId AND w.id <= (" +
+           "  SELECT m.id FROM EventWaitlistEntry m WHERE m.event.id = :eventId AND m.member.id = :memberId)")
+    long countUpTo(@Param("eventId") Long eventId, @Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("DELETE FROM EventWaitlistEntry w WHERE w.id = :id")
+    int deleteEntryById(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM EventWaitlistEntry w WHERE w.event.id = :eventId AND w.member.id = :memberId")
+    int deleteByEventIdAndMemberId(@Param("eventId") Long eventId, @Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("DELETE FROM EventWaitlistEntry w WHERE w.event.id = :eventId AND w.member.id IN :memberIds")
+    int deleteByEventIdAndMemberIdIn(@Param("eventId") Long eventId, @Param("memberIds") Collection<Long> memberIds);
+
+    @Modifying
+    @Query("DELETE FROM EventWaitlistEntry w WHERE w.event.id IN :eventIds")
+    int deleteByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+}
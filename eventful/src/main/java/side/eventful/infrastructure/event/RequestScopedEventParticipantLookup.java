@@ -0,0 +1,60 @@
+package side.eventful.infrastructure.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import side.eventful.domain.event.EventParticipantLookup;
+import side.eventful.domain.event.EventRepository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 단위로 결과를 기억하는 참여 여부 조회
+ *
+ * 결과는 요청 속성에 두므로 요청이 끝나면 함께 사라지고, 다른 요청의 참여/취소와 섞이지 않는다.
+ * 낙관적 락 충돌로 작업을 다시 시도해도 같은 요청 안에서는 다시 조회하지 않는다.
+ * 같은 요청 안에서 참여자가 바뀌면 EventService가 해당 이벤트의 결과를 버린다.
+ * 요청 밖(스케줄러 등)에서 호출되면 매번 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestScopedEventParticipantLookup implements EventParticipantLookup {
+
+    private static final String MEMO_ATTRIBUTE = RequestScopedEventParticipantLookup.class.getName() + ".memo";
+
+    private final EventRepository eventRepository;
+
+    @Override
+    public boolean isParticipant(Long eventId, Long memberId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return eventRepository.existsParticipant(eventId, memberId);
+        }
+        return memo(attributes).computeIfAbsent(new Key(eventId, memberId),
+                key -> eventRepository.existsParticipant(key.eventId(), key.memberId()));
+    }
+
+    @Override
+    public void evict(Long eventId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        memo(attributes).keySet().removeIf(key -> key.eventId().equals(eventId));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Key, Boolean> memo(RequestAttributes attributes) {
+        Map<Key, Boolean> memo = (Map<Key, Boolean>) attributes.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+
+    private record Key(Long eventId, Long memberId) {
+    }
+}
@@ -0,0 +1,46 @@
+package side.eventful.infrastructure.eventgroup;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import side.eventful.domain.eventgroup.JoinCodeCache;
+import side.eventful.domain.eventgroup.JoinCodeGroup;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 메모리 기반 초대 코드 캐시
+ *
+ * 최대 개수를 넘으면 자주 쓰이지 않는 코드부터 밀어낸다.
+ * 그룹 수정/삭제 시 무효화하지만, 무효화와 조회가 엇갈리는 경우를 대비해 존재하는 코드도 TTL을 둔다.
+ * 없는 코드는 새 그룹이 같은 코드를 받을 수 있으므로 더 짧게 유지한다.
+ */
+@Component
+public class CaffeineJoinCodeCache implements JoinCodeCache {
+
+    private final Cache<String, Optional<JoinCodeGroup>> cache;
+
+    public CaffeineJoinCodeCache(@Value("${eventful.join-code.cache.max-size:10000}") long maxSize,
+                                 @Value("${eventful.join-code.cache.ttl:10m}") Duration ttl,
+                                 @Value("${eventful.join-code.cache.negative-ttl:30s}") Duration negativeTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String joinCode, Optional<JoinCodeGroup> group) ->
+                        group.isPresent() ? ttl : negativeTtl))
+                .build();
+    }
+
+    @Override
+    public Optional<JoinCodeGroup> get(String joinCode, Function<String, Optional<JoinCodeGroup>> loader) {
+        return cache.get(joinCode, loader);
+    }
+
+    @Override
+    public void evict(String joinCode) {
+        cache.invalidate(joinCode);
+    }
+}
@@ -1,18 +1,86 @@
 package side.eventful.infrastructure.eventgroup;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import side.eventful.domain.eventgroup.EventGroup;
-import side.eventful.domain.member.Member;
+import side.eventful.domain.eventgroup.EventGroupMemberSummary;
+import side.eventful.domain.eventgroup.EventGroupSummary;
+import side.eventful.domain.eventgroup.JoinCodeGroup;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface EventGroupJpaRepository extends JpaRepository<EventGroup, Long> {
-    Optional<EventGroup> findByJoinCode(String joinCode);
-    boolean existsByJoinCode(String joinCode);
+    // 초대 코드 확인용: 엔티티 대신 화면에 필요한 값만 조회
+    @Query("SELECT new side.eventful.domain.eventgroup.JoinCodeGroup(eg.id, eg.name, eg.description) FROM EventGroup eg WHERE eg.joinCode = :joinCode")
+    Optional<JoinCodeGroup> findJoinCodeGroup(@Param("joinCode") String joinCode);
 
-    @Query("SELECT DISTINCT eg FROM EventGroup eg JOIN eg.members m WHERE m.member = :member")
-    List<EventGroup> findByMember(@Param("member") Member member);
+    // 그룹원 컬렉션만 바뀌는 변경도 커밋 시 그룹 버전을 올려 동시 수정과 충돌하게 함
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT eg FROM EventGroup eg WHERE eg.id = :id")
+    Optional<EventGroup> findWithVersionIncrementById(@Param("id") Long id);
+
+    @Query("SELECT eg.joinCode FROM EventGroup eg WHERE eg.joinCode IN :joinCodes")
+    List<String> findJoinCodesIn(@Param("joinCodes") Collection<String> joinCodes);
+
+    // 그룹 목록 조회용: 회원이 속한 그룹과 그룹별 인원 수를 한 번의 쿼리로 집계
+    @Query("""
+        SELECT new side.eventful.domain.eventgroup.EventGroupSummary(eg.id, eg.name, eg.description, eg.imageUrl, COUNT(egm))
+        FROM EventGroup eg JOIN eg.members egm
+        WHERE eg.id IN (
+            SELECT mine.eventGroup.id FROM EventGroupMember mine WHERE mine.member.id = :memberId
+        )
+        GROUP BY eg.id, eg.name, eg.description, eg.imageUrl
+        ORDER BY eg.id
+    """)
+    List<EventGroupSummary> findSummariesByMemberId(@Param("memberId") Long memberId);
+
+    @Query("SELECT COUNT(egm) > 0 FROM EventGroupMember egm WHERE egm.eventGroup.id = :eventGroupId AND egm.member.id = :memberId")
+    boolean existsMembership(@Param("eventGroupId") Long eventGroupId, @Param("memberId") Long memberId);
+
+    @Query("SELECT egm.member.id FROM EventGroupMember egm WHERE egm.eventGroup.id = :eventGroupId AND egm.member.id IN :memberIds")
+    List<Long> findMemberIdsIn(@Param("eventGroupId") Long eventGroupId, @Param("memberIds") Collection<Long> memberIds);
+
+    // 그룹원 목록 첫 페이지: 그룹장 먼저, 이후 닉네임 오름차순
+    @Query("""
+        SELECT new side.eventful.domain.eventgroup.EventGroupMemberSummary(
+            m.id, m.nickname, CASE WHEN eg.leader = m THEN true ELSE false END)
+        FROM EventGroupMember egm JOIN egm.member m JOIN egm.eventGroup eg
+        WHERE eg.id = :eventGroupId
+        ORDER BY CASE WHEN eg.leader = m THEN 0 ELSE 1 END, m.nickname, m.id
+    """)
+    List<EventGroupMemberSummary> findMemberSummaries(@Param("eventGroupId") Long eventGroupId, Limit limit);
+
+    // 키셋 페이지: (nickname, id)가 커서 회원보다 뒤에 있는 일반 그룹원
+    // 커서 회원도 같은 그룹원 행으로 조인하므로 그룹원이 아닌 ID를 커서로 쓰면 빈 목록이 된다.
+    // 그룹장은 항상 첫 번째이므로, 커서가 그룹장이면 일반 그룹원의 처음부터 조회
+    @Query("""
+        SELECT new side.eventful.domain.eventgroup.EventGroupMemberSummary(m.id, m.nickname, false)
+        FROM EventGroupMember egm JOIN egm.member m JOIN egm.eventGroup eg,
+             EventGroupMember cursorMembership JOIN cursorMembership.member cm
+        WHERE eg.id = :eventGroupId AND eg.leader <> m
+        AND cursorMembership.eventGroup.id = :eventGroupId AND cm.id = :afterMemberId
+        AND (cm = eg.leader OR m.nickname > cm.nickname OR (m.nickname = cm.nickname AND m.id > cm.id))
+        ORDER BY m.nickname, m.id
+    """)
+    List<EventGroupMemberSummary> findNonLeaderMemberSummariesAfter(
+        @Param("eventGroupId") Long eventGroupId,
+        @Param("afterMemberId") Long afterMemberId,
+        Limit limit
+    );
+
+    // 그룹 행은 그대로 두고 버전만 올림, 행 락은 트랜잭션이 끝날 때까지 유지됨
+    @Modifying
+    @Query("UPDATE EventGroup eg SET eg.version = eg.version + 1 WHERE eg.id = :id")
+    int increaseVersion(@Param("id") Long id);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM EventGroup eg WHERE eg.id = :id AND eg.version = :version")
+    int deleteByIdAndVersion(@Param("id") Long id, @Param("version") Long version);
 }
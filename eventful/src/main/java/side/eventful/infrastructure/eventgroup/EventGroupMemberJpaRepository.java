@@ -0,0 +1,14 @@
+package side.eventful.infrastructure.eventgroup;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import side.eventful.domain.eventgroup.EventGroupMember;
+
+public interface EventGroupMemberJpaRepository extends JpaRepository<EventGroupMember, Long> {
+
+    @Modifying
+    @Query("DELETE FROM EventGroupMember egm WHERE egm.eventGroup.id = :eventGroupId")
+    int deleteByEventGroupId(@Param("eventGroupId") Long eventGroupId);
+}
@@ -1,18 +1,34 @@
 package side.eventful.infrastructure.eventgroup;
 
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 import side.eventful.domain.eventgroup.EventGroup;
+import side.eventful.domain.eventgroup.EventGroupMember;
+import side.eventful.domain.eventgroup.EventGroupMemberSummary;
 import side.eventful.domain.eventgroup.EventGroupRepository;
-import side.eventful.domain.member.Member;
+import side.eventful.domain.eventgroup.EventGroupSummary;
+import side.eventful.domain.eventgroup.JoinCodeGroup;
 
 @Repository
 @RequiredArgsConstructor
 public class EventGroupRepositoryImpl implements EventGroupRepository {
 
+    private static final String MEMBERSHIP_UNIQUE_CONSTRAINT = "uk_event_group_member_group_member";
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
     private final EventGroupJpaRepository eventGroupJpaRepository;
+    private final EventGroupMemberJpaRepository eventGroupMemberJpaRepository;
 
     @Override
     public EventGroup save(EventGroup eventGroup) {
@@ -25,22 +41,91 @@ public class EventGroupRepositoryImpl implements EventGroupRepository {
     }
 
     @Override
-    public Optional<EventGroup> findByJoinCode(String joinCode) {
-        return eventGroupJpaRepository.findByJoinCode(joinCode);
+    public Optional<EventGroup> findByIdWithVersionIncrement(Long id) {
+        return eventGroupJpaRepository.findWithVersionIncrementById(id);
+    }
+
+    @Override
+    public boolean increaseVersion(Long id) {
+        return eventGroupJpaRepository.increaseVersion(id) > 0;
+    }
+
+    @Override
+    public Optional<JoinCodeGroup> findJoinCodeGroup(String joinCode) {
+        return eventGroupJpaRepository.findJoinCodeGroup(joinCode);
     }
 
     @Override
-    public boolean existsByJoinCode(String joinCode) {
-        return eventGroupJpaRepository.existsByJoinCode(joinCode);
+    public Set<String> findExistingJoinCodes(Collection<String> joinCodes) {
+        return new HashSet<>(eventGroupJpaRepository.findJoinCodesIn(joinCodes));
     }
 
     @Override
-    public List<EventGroup> findByMember(Member member) {
-        return eventGroupJpaRepository.findByMember(member);
+    public List<EventGroupSummary> findSummariesByMemberId(Long memberId) {
+        return eventGroupJpaRepository.findSummariesByMemberId(memberId);
+    }
+
+    @Override
+    public boolean existsMembership(Long eventGroupId, Long memberId) {
+        return eventGroupJpaRepository.existsMembership(eventGroupId, memberId);
+    }
+
+    @Override
+    public Set<Long> findMemberIds(Long eventGroupId, Collection<Long> memberIds) {
+        return new HashSet<>(eventGroupJpaRepository.findMemberIdsIn(eventGroupId, memberIds));
+    }
+
+    @Override
+    public void addMembership(EventGroupMember membership) {
+        try {
+            // 즉시 flush 해서 유니크 제약 위반을 이 자리에서 확인
+            eventGroupMemberJpaRepository.saveAndFlush(membership);
+        } catch (DataIntegrityViolationException e) {
+            // (event_group_id, member_id) 중복만 삼킨다: 동시에 들어온 같은 가입 요청이 먼저 저장됨
+            // 그룹이 그 사이 삭제되어 난 FK 위반 등은 그대로 던진다
+            if (!isMembershipUniqueViolation(e)) {
+                throw e;
+            }
+        }
+    }
+
+    private boolean isMembershipUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(MEMBERSHIP_UNIQUE_CONSTRAINT);
+            }
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                // 제약 이름을 알 수 없으면 SQLState로 판단, 이 테이블의 유니크 제약은 (event_group_id, member_id) 하나뿐
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public List<EventGroupMemberSummary> findAllMemberSummaries(Long eventGroupId) {
+        return eventGroupJpaRepository.findMemberSummaries(eventGroupId, Limit.unlimited());
+    }
+
+    @Override
+    public List<EventGroupMemberSummary> findMemberSummaries(Long eventGroupId, Long afterMemberId, int size) {
+        if (afterMemberId == null) {
+            return eventGroupJpaRepository.findMemberSummaries(eventGroupId, Limit.of(size));
+        }
+        return eventGroupJpaRepository.findNonLeaderMemberSummariesAfter(eventGroupId, afterMemberId, Limit.of(size));
     }
 
     @Override
     public void delete(EventGroup eventGroup) {
         eventGroupJpaRepository.delete(eventGroup);
     }
+
+    @Override
+    public void deleteWithMembers(EventGroup eventGroup) {
+        // members 컬렉션을 로딩해 한 건씩 지우는 cascade 대신 한 문장으로 삭제
+        eventGroupMemberJpaRepository.deleteByEventGroupId(eventGroup.getId());
+        if (eventGroupJpaRepository.deleteByIdAndVersion(eventGroup.getId(), eventGroup.getVersion()) == 0) {
+            throw new ObjectOptimisticLockingFailureException(EventGroup.class, eventGroup.getId());
+        }
+    }
 }
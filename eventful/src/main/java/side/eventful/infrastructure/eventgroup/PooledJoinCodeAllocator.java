@@ -0,0 +1,133 @@
+package side.eventful.infrastructure.eventgroup;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import side.eventful.domain.eventgroup.EventGroupRepository;
+import side.eventful.domain.eventgroup.JoinCode;
+import side.eventful.domain.eventgroup.JoinCodeAllocator;
+
+import java.util.LinkedHashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 미리 검증해 둔 초대 코드 풀에서 코드를 꺼내 주는 할당기
+ *
+ * 코드 후보를 묶음으로 만들어 IN 쿼리 한 번으로 사용 여부를 확인하고 풀에 쌓아 둔다.
+ * 할당은 큐에서 꺼내기만 하므로 그룹 생성 요청은 중복 확인 쿼리를 기다리지 않으며,
+ * 풀이 기준치 아래로 내려가면 백그라운드에서 다시 채운다.
+ * 인스턴스 간 동시 할당 등으로 드물게 겹치는 경우는 join_code 유니크 제약이 최종적으로 막는다.
+ */
+@Slf4j
+@Component
+public class PooledJoinCodeAllocator implements JoinCodeAllocator {
+
+    private static final int MAX_SYNC_ATTEMPTS = 3;
+    private static final int SYNC_BATCH_SIZE = 16;
+
+    private final EventGroupRepository eventGroupRepository;
+    private final int poolSize;
+    private final int refillThreshold;
+    private final Executor refillExecutor;
+
+    private final Queue<String> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger available = new AtomicInteger();
+    private final AtomicBoolean refilling = new AtomicBoolean();
+
+    @Autowired
+    public PooledJoinCodeAllocator(EventGroupRepository eventGroupRepository,
+                                   @Value("${eventful.join-code.pool-size:200}") int poolSize,
+                                   @Value("${eventful.join-code.refill-threshold:50}") int refillThreshold) {
+        this(eventGroupRepository, poolSize, refillThreshold,
+                Executors.newSingleThreadExecutor(Thread.ofVirtual().name("join-code-refill").factory()));
+    }
+
+    PooledJoinCodeAllocator(EventGroupRepository eventGroupRepository, int poolSize, int refillThreshold,
+                            Executor refillExecutor) {
+        this.eventGroupRepository = eventGroupRepository;
+        this.poolSize = poolSize;
+        this.refillThreshold = refillThreshold;
+        this.refillExecutor = refillExecutor;
+    }
+
+    @Override
+    public String allocate() {
+        String code = pool.poll();
+        if (code != null) {
+            if (available.decrementAndGet() < refillThreshold) {
+                triggerRefill();
+            }
+            return code;
+        }
+
+        // 풀이 비었으면 (기동 직후, 폭주) 작은 묶음을 바로 검증해서 사용
+        triggerRefill();
+        for (int attempt = 0; attempt < MAX_SYNC_ATTEMPTS; attempt++) {
+            Set<String> candidates = verifiedCandidates(SYNC_BATCH_SIZE);
+            if (!candidates.isEmpty()) {
+                var iterator = candidates.iterator();
+                String allocated = iterator.next();
+                iterator.forEachRemaining(this::offer);
+                return allocated;
+            }
+        }
+        throw new IllegalStateException("joinCode 생성에 실패했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        triggerRefill();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refillExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void triggerRefill() {
+        if (refilling.compareAndSet(false, true)) {
+            refillExecutor.execute(this::refill);
+        }
+    }
+
+    private void refill() {
+        try {
+            int missing = poolSize - available.get();
+            if (missing > 0) {
+                verifiedCandidates(missing).forEach(this::offer);
+            }
+        } catch (RuntimeException e) {
+            // 다음 할당 시 다시 시도하고, 그 사이에는 동기 경로로 처리
+            log.warn("초대 코드 풀 보충 실패: {}", e.getMessage());
+        } finally {
+            refilling.set(false);
+        }
+    }
+
+    private Set<String> verifiedCandidates(int count) {
+        Set<String> candidates = new LinkedHashSet<>();
+        while (candidates.size() < count) {
+            candidates.add(JoinCode.random());
+        }
+        candidates.removeAll(eventGroupRepository.findExistingJoinCodes(candidates));
+        return candidates;
+    }
+
+    private void offer(String code) {
+        pool.offer(code);
+        available.incrementAndGet();
+    }
+}
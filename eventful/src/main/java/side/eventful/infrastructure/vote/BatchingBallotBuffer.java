@@ -0,0 +1,237 @@
+package side.eventful.infrastructure.vote;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import side.eventful.domain.vote.Ballot;
+import side.eventful.domain.vote.BallotBuffer;
+import side.eventful.domain.vote.VoteService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * 표를 모아 묶음으로 커밋하는 버퍼 (group commit)
+ *
+ * 투표가 열리자마자 이벤트 참여자가 한꺼번에 투표하면 표마다 트랜잭션을 커밋하는 비용이 몰린다.
+ * 요청 스레드는 표를 큐에 넣고 기다리며, 가상 스레드 하나가 flush-interval 동안 모인 표(최대 max-batch)를
+ * 한 트랜잭션으로 반영한 뒤 모두에게 결과를 알린다. 커밋된 뒤에만 응답하므로 따로 저널을 두지 않아도
+ * 응답한 표는 유실되지 않고, 큐가 가득 차면 받지 않고 바로 거절한다.
+ * 묶음 반영이 실패하면 회원별로 나눠 다시 반영해, 실패하는 표 하나 때문에 같은 묶음의 다른 표까지 실패하지 않게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "eventful.vote-ingest.mode", havingValue = "buffered")
+public class BatchingBallotBuffer implements BallotBuffer {
+
+    // 표가 없을 때 종료 여부를 확인하는 간격
+    private static final Duration IDLE_POLL_INTERVAL = Duration.ofMillis(100);
+
+    private final VoteService voteService;
+    private final Duration flushInterval;
+    private final int maxBatch;
+    private final Duration ackTimeout;
+    private final Executor flushExecutor;
+
+    private final BlockingQueue<PendingBallot> queue;
+    private volatile boolean running = true;
+
+    @Autowired
+    public BatchingBallotBuffer(VoteService voteService,
+                                @Value("${eventful.vote-ingest.flush-interval:5ms}") Duration flushInterval,
+                                @Value("${eventful.vote-ingest.max-batch:500}") int maxBatch,
+                                @Value("${eventful.vote-ingest.max-pending:10000}") int maxPending,
+                                @Value("${eventful.vote-ingest.ack-timeout:5s}") Duration ackTimeout) {
+        this(voteService, flushInterval, maxBatch, maxPending, ackTimeout,
+                Executors.newSingleThreadExecutor(Thread.ofVirtual().name("ballot-flush").factory()));
+    }
+
+    BatchingBallotBuffer(VoteService voteService, Duration flushInterval, int maxBatch, int maxPending,
+                         Duration ackTimeout, Executor flushExecutor) {
+        this.voteService = voteService;
+        this.flushInterval = flushInterval;
+        this.maxBatch = maxBatch;
+        this.ackTimeout = ackTimeout;
+        this.flushExecutor = flushExecutor;
+        this.queue = new LinkedBlockingQueue<>(maxPending);
+    }
+
+    @Override
+    public void submit(Ballot ballot) {
+        CompletableFuture<Void> result = enqueue(ballot);
+        try {
+            result.get(ackTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("투표를 반영하지 못했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("투표가 아직 처리 중입니다. 잠시 후 결과를 확인해 주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("투표 처리 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        flushExecutor.execute(this::runFlushLoop);
+    }
+
+    /**
+     * 새 표를 받지 않고, 반영 중인 묶음이 끝나길 기다린 뒤 남은 표를 이 스레드에서 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (flushExecutor instanceof ExecutorService executorService && !awaitFlushLoop(executorService)) {
+            // 반영 스레드가 끝나지 않으면 같은 표를 두 스레드에서 반영하지 않도록 남은 표는 실패로 알린다
+            List<PendingBallot> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            log.warn("표 반영 스레드가 종료되지 않아 남은 표 {}건을 반영하지 못했습니다.", remaining.size());
+            remaining.forEach(pending -> pending.result().completeExceptionally(
+                    new IllegalStateException("서버가 종료 중입니다. 잠시 후 다시 시도해 주세요.")));
+            return;
+        }
+        // 이미 받은 표는 종료 전에 반영
+        int flushed;
+        do {
+            flushed = flushPending();
+        } while (flushed > 0);
+    }
+
+    private boolean awaitFlushLoop(ExecutorService executorService) {
+        executorService.shutdown();
+        try {
+            if (executorService.awaitTermination(ackTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            executorService.shutdownNow();
+            return executorService.awaitTermination(ackTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executorService.shutdownNow();
+            return false;
+        }
+    }
+
+    CompletableFuture<Void> enqueue(Ballot ballot) {
+        PendingBallot pending = new PendingBallot(ballot, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            throw new IllegalStateException("투표 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return pending.result();
+    }
+
+    /**
+     * 큐에 있는 표를 최대 max-batch 개 반영
+     *
+     * @return 반영을 시도한 표 수
+     */
+    int flushPending() {
+        List<PendingBallot> batch = new ArrayList<>(Math.min(maxBatch, queue.size()));
+        queue.drainTo(batch, maxBatch);
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+        return batch.size();
+    }
+
+    private void runFlushLoop() {
+        while (running) {
+            try {
+                PendingBallot first = queue.poll(IDLE_POLL_INTERVAL.toNanos(), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                // 첫 표가 들어온 뒤 flush-interval 동안 더 모은다
+                List<PendingBallot> batch = new ArrayList<>();
+                batch.add(first);
+                long deadline = System.nanoTime() + flushInterval.toNanos();
+                while (batch.size() < maxBatch) {
+                    PendingBallot next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void flush(List<PendingBallot> batch) {
+        try {
+            apply(batch);
+        } catch (RuntimeException e) {
+            // 회원의 표는 마지막 표만 반영되므로 회원 단위로 나눠 다시 반영한다
+            Map<List<Long>, List<PendingBallot>> byMember = batch.stream()
+                    .collect(Collectors.groupingBy(pending -> memberKey(pending.ballot()),
+                            LinkedHashMap::new, Collectors.toList()));
+            if (byMember.size() == 1) {
+                fail(batch, e);
+                return;
+            }
+            log.warn("표 {}건 묶음 반영 실패, 회원별로 다시 반영: {}", batch.size(), e.getMessage());
+            byMember.values().forEach(this::flushAlone);
+        }
+    }
+
+    private void flushAlone(List<PendingBallot> memberBallots) {
+        try {
+            apply(memberBallots);
+        } catch (RuntimeException e) {
+            fail(memberBallots, e);
+        }
+    }
+
+    private void apply(List<PendingBallot> batch) {
+        Set<Ballot> rejected = voteService.applyBallots(batch.stream().map(PendingBallot::ballot).toList());
+        // 마지막 표가 반영되지 못한 회원은 같은 묶음의 이전 표도 실패로 알린다
+        Set<List<Long>> rejectedMembers = rejected.stream()
+                .map(this::memberKey)
+                .collect(Collectors.toSet());
+        for (PendingBallot pending : batch) {
+            if (rejectedMembers.contains(memberKey(pending.ballot()))) {
+                pending.result().completeExceptionally(
+                        new IllegalStateException("투표가 마감되었거나 선택한 옵션이 삭제되었습니다."));
+            } else {
+                pending.result().complete(null);
+            }
+        }
+    }
+
+    private void fail(List<PendingBallot> batch, RuntimeException e) {
+        log.warn("표 {}건 반영 실패: {}", batch.size(), e.getMessage());
+        batch.forEach(pending -> pending.result().completeExceptionally(e));
+    }
+
+    private List<Long> memberKey(Ballot ballot) {
+        return List.of(ballot.voteId(), ballot.memberId());
+    }
+
+    private record PendingBallot(Ballot ballot, CompletableFuture<Void> result) {
+    }
+}
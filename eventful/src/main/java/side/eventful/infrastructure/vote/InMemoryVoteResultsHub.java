@@ -0,0 +1,212 @@
+package side.eventful.infrastructure.vote;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import side.eventful.domain.vote.VoteResults;
+import side.eventful.domain.vote.VoteResultsHub;
+import side.eventful.domain.vote.VoteResultsSubscriber;
+import side.eventful.domain.vote.VoteResultsSubscription;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 인스턴스 메모리 기반 투표 결과 허브
+ *
+ * 구독자마다 보낼 결과를 한 칸에만 담아 두고, 보내기 전에 새 결과가 오면 덮어쓴다.
+ * 결과는 옵션별 득표수 전체이므로 중간 결과를 건너뛰어도 최신 상태는 그대로 전달된다.
+ * 구독자별 전송은 가상 스레드에서 하므로 느린 클라이언트는 자기 전송만 늦추고,
+ * 전송 뒤 coalesce-interval 동안 쉬면서 그 사이 들어온 변경을 한 번에 묶는다.
+ * 대기 중인 연결은 스레드를 잡지 않는다.
+ */
+@Slf4j
+@Component
+public class InMemoryVoteResultsHub implements VoteResultsHub {
+
+    private final Duration coalesceInterval;
+    private final Executor sendExecutor;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public InMemoryVoteResultsHub(@Value("${eventful.vote-stream.coalesce-interval:200ms}") Duration coalesceInterval) {
+        this(coalesceInterval, Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("vote-results-", 0).factory()));
+    }
+
+    InMemoryVoteResultsHub(Duration coalesceInterval, Executor sendExecutor) {
+        this.coalesceInterval = coalesceInterval;
+        this.sendExecutor = sendExecutor;
+    }
+
+    @Override
+    public VoteResultsSubscription subscribe(VoteResultsSubscriber target, Long voteId, Long eventId, Long memberId) {
+        Subscriber subscriber = new Subscriber(target, voteId, eventId, memberId);
+
+        subscribers.compute(voteId, (id, targets) -> {
+            Set<Subscriber> updated = targets != null ? targets : ConcurrentHashMap.newKeySet();
+            updated.add(subscriber);
+            return updated;
+        });
+        target.onDisconnect(subscriber::close);
+        return subscriber;
+    }
+
+    @Override
+    public boolean hasSubscribers(Long voteId) {
+        return subscribers.containsKey(voteId);
+    }
+
+    @Override
+    public void publish(VoteResults results) {
+        Set<Subscriber> targets = subscribers.get(results.voteId());
+        if (targets != null) {
+            targets.forEach(subscriber -> subscriber.offer(results));
+        }
+    }
+
+    @Override
+    public void close(Long voteId) {
+        Set<Subscriber> targets = subscribers.remove(voteId);
+        if (targets != null) {
+            targets.forEach(Subscriber::complete);
+        }
+    }
+
+    @Override
+    public void closeMember(Long eventId, Long memberId) {
+        subscribers.values().forEach(targets -> targets.stream()
+                .filter(subscriber -> subscriber.eventId.equals(eventId) && subscriber.memberId.equals(memberId))
+                .forEach(Subscriber::cancel));
+    }
+
+    /**
+     * 프록시가 유휴 연결을 끊지 않도록 주석 이벤트 전송 (끊긴 연결도 이때 정리된다)
+     */
+    @Scheduled(fixedDelayString = "${eventful.vote-stream.heartbeat-interval:15s}")
+    public void sendHeartbeat() {
+        subscribers.values().forEach(targets -> targets.forEach(subscriber ->
+                sendExecutor.execute(subscriber::ping)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.keySet().forEach(this::close);
+        if (sendExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.voteId, (id, targets) -> {
+            targets.remove(subscriber);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+
+    private final class Subscriber implements VoteResultsSubscription {
+
+        private final VoteResultsSubscriber target;
+        private final Long voteId;
+        private final Long eventId;
+        private final Long memberId;
+        private final AtomicReference<VoteResults> pending = new AtomicReference<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        // 변경 알림으로 결과를 한 번이라도 받았는지 (받았으면 등록 직후 읽은 결과는 버림)
+        private boolean published;
+        private volatile boolean closed;
+
+        private Subscriber(VoteResultsSubscriber target, Long voteId, Long eventId, Long memberId) {
+            this.target = target;
+            this.voteId = voteId;
+            this.eventId = eventId;
+            this.memberId = memberId;
+        }
+
+        @Override
+        public synchronized void sendInitial(VoteResults current) {
+            if (!published) {
+                pending.set(current);
+                trySend();
+            }
+        }
+
+        synchronized void offer(VoteResults results) {
+            published = true;
+            // 아직 보내지 못한 이전 결과는 최신 결과로 덮어쓴다
+            pending.set(results);
+            trySend();
+        }
+
+        void ping() {
+            if (closed) {
+                return;
+            }
+            try {
+                target.ping();
+            } catch (IOException | IllegalStateException e) {
+                close();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            close();
+            target.complete();
+        }
+
+        void complete() {
+            closed = true;
+            target.complete();
+        }
+
+        void close() {
+            closed = true;
+            remove(this);
+        }
+
+        private void trySend() {
+            if (!closed && pending.get() != null && sending.compareAndSet(false, true)) {
+                sendExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                VoteResults next;
+                while (!closed && (next = pending.getAndSet(null)) != null) {
+                    target.send(next);
+                    if (next.isClosed()) {
+                        // 마감 결과가 마지막 메시지
+                        cancel();
+                        return;
+                    }
+                    if (!coalesceInterval.isZero()) {
+                        Thread.sleep(coalesceInterval);
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("투표 결과 전송 실패, 구독 종료: {}", e.getMessage());
+                close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                sending.set(false);
+            }
+            // 전송을 마치는 사이 들어온 결과를 놓치지 않도록 다시 확인
+            trySend();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package side.eventful.infrastructure.vote;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import side.eventful.domain.vote.Ballot;
+import side.eventful.domain.vote.BallotBatchWriter;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcBallotBatchWriter implements BallotBatchWriter {
+
+    // IDENTITY 키라 Hibernate 배치 insert가 꺼지므로 JDBC 배치로 직접 넣음
+    private static final String INSERT_RECORD_SQL =
+        "INSERT INTO vote_record (vote_id, vote_option_id, member_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String CHANGE_OPTION_SQL =
+        "UPDATE vote_record SET vote_option_id = ?, updated_at = ? " +
+        "WHERE vote_id = ? AND member_id = ? AND vote_option_id = ?";
+    private static final String ADJUST_VOTE_COUNT_SQL =
+        "UPDATE vote_option SET vote_count = vote_count + ? WHERE id = ?";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insertRecords(List<Ballot> ballots) {
+        if (ballots.isEmpty()) {
+            return true;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.batchUpdate(INSERT_RECORD_SQL, ballots, BATCH_SIZE, (ps, ballot) -> {
+                ps.setLong(1, ballot.voteId());
+                ps.setLong(2, ballot.optionId());
+                ps.setLong(3, ballot.memberId());
+                ps.setTimestamp(4, now);
+                ps.setTimestamp(5, now);
+            });
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // (vote_id, member_id) 중복: 같은 회원의 표가 다른 경로로 먼저 저장됨
+            return false;
+        }
+    }
+
+    @Override
+    public boolean changeOptions(Map<Ballot, Long> currentOptionIds) {
+        if (currentOptionIds.isEmpty()) {
+            return true;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(CHANGE_OPTION_SQL, currentOptionIds.entrySet(), BATCH_SIZE,
+            (ps, entry) -> {
+                ps.setLong(1, entry.getKey().optionId());
+                ps.setTimestamp(2, now);
+                ps.setLong(3, entry.getKey().voteId());
+                ps.setLong(4, entry.getKey().memberId());
+                ps.setLong(5, entry.getValue());
+            });
+        // 0: 읽은 뒤 다른 요청이 옵션을 바꿈 (드라이버가 건수를 모르면 음수를 돌려주므로 0만 실패로 봄)
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).noneMatch(count -> count == 0);
+    }
+
+    @Override
+    public void adjustVoteCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // 동시에 반영되는 묶음끼리 옵션 행을 같은 순서로 잠가 교착을 피함
+        jdbcTemplate.batchUpdate(ADJUST_VOTE_COUNT_SQL, new TreeMap<>(deltas).entrySet(), BATCH_SIZE,
+            (ps, entry) -> {
+                ps.setLong(1, entry.getValue());
+                ps.setLong(2, entry.getKey());
+            });
+    }
+}
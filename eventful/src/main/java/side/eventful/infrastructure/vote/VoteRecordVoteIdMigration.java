@@ -0,0 +1,84 @@
+package side.eventful.infrastructure.vote;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * vote_record.vote_id 백필 마이그레이션
+ *
+ * <p>vote_id 컬럼은 기존 행이 있는 테이블에 추가되어 그 전에 저장된 표는 NULL로 남아 있다.
+ * 이런 행은 (vote_id, member_id) 유니크 키에 걸리지 않고 조회에서도 빠지므로, 다시 투표하면 표가 두 번 집계된다.
+ * 엔티티 매핑은 컬럼을 추가할 수 있도록 NULL 허용으로 두고, ddl-auto: update는 기존 컬럼의 NOT NULL을 바꾸지 않으므로
+ * 기동 시(웹 서버가 요청을 받기 전) 한 트랜잭션에서 다음을 수행한다.</p>
+ * <ol>
+ *   <li>같은 (투표, 회원)에 더 최근 표가 있는 NULL 행은 지운다 (유니크 키 위반 없이 채우기 위해).</li>
+ *   <li>남은 NULL 행의 vote_id를 vote_option.vote_id로 채운다.</li>
+ *   <li>지우거나 채운 행이 있었으면 옵션별 vote_count를 기록 수로 다시 센다.</li>
+ *   <li>컬럼이 아직 NULL 허용이면 NOT NULL로 바꾼다.</li>
+ * </ol>
+ * <p>모든 단계가 멱등이라 이미 마이그레이션된 DB나 여러 인스턴스가 동시에 기동해도 안전하다.</p>
+ */
+@Slf4j
+@Component
+// 스키마 갱신(ddl-auto)이 끝난 뒤에 실행
+@DependsOn("entityManagerFactory")
+public class VoteRecordVoteIdMigration {
+
+    private static final String DELETE_SUPERSEDED_SQL = """
+        DELETE FROM vote_record r
+        WHERE r.vote_id IS NULL
+        AND EXISTS (
+            SELECT 1 FROM vote_record n
+            JOIN vote_option n_option ON n_option.id = n.vote_option_id
+            JOIN vote_option r_option ON r_option.id = r.vote_option_id
+            WHERE n.member_id = r.member_id AND n_option.vote_id = r_option.vote_id AND n.id > r.id
+        )
+        """;
+    private static final String BACKFILL_SQL = """
+        UPDATE vote_record r
+        SET vote_id = (SELECT o.vote_id FROM vote_option o WHERE o.id = r.vote_option_id)
+        WHERE r.vote_id IS NULL
+        """;
+    private static final String RECOUNT_SQL = """
+        UPDATE vote_option o
+        SET vote_count = (SELECT COUNT(*) FROM vote_record r WHERE r.vote_option_id = o.id)
+        """;
+    private static final String NULLABLE_SQL = """
+        SELECT is_nullable FROM information_schema.columns
+        WHERE LOWER(table_name) = 'vote_record' AND LOWER(column_name) = 'vote_id'
+        """;
+    private static final String SET_NOT_NULL_SQL = "ALTER TABLE vote_record ALTER COLUMN vote_id SET NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public VoteRecordVoteIdMigration(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void migrate() {
+        transactionTemplate.executeWithoutResult(status -> {
+            int deleted = jdbcTemplate.update(DELETE_SUPERSEDED_SQL);
+            int backfilled = jdbcTemplate.update(BACKFILL_SQL);
+            if (deleted > 0 || backfilled > 0) {
+                jdbcTemplate.update(RECOUNT_SQL);
+                log.info("vote_record.vote_id 백필: 이전 표 {}건 삭제, {}건 채움, 옵션별 투표 수 재계산", deleted, backfilled);
+            }
+
+            List<String> nullable = jdbcTemplate.queryForList(NULLABLE_SQL, String.class);
+            if (nullable.stream().anyMatch("YES"::equalsIgnoreCase)) {
+                jdbcTemplate.execute(SET_NOT_NULL_SQL);
+                log.info("vote_record.vote_id를 NOT NULL로 변경");
+            }
+        });
+    }
+}
@@ -3,9 +3,13 @@ package side.eventful.interfaces.event;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import side.eventful.application.event.EventCriteria;
 import side.eventful.application.event.EventFacade;
@@ -55,6 +59,192 @@ public class EventController {
         );
     }
 
+    @GetMapping("/calendar")
+    public ResponseEntity<ApiResponse<EventResponse.Calendar>> getCalendar(
+        @RequestParam(value = "from", required = false) String from,
+        @RequestParam(value = "to", required = false) String to) {
+
+        Member member = authService.getAuthenticatedMember();
+
+        EventResult.Calendar result = eventFacade.getCalendar(EventCriteria.GetCalendar.of(
+            member,
+            from != null ? parseEventDate(from) : null,
+            to != null ? parseEventDate(to) : null
+        ));
+
+        return ResponseEntity.ok(
+            ApiResponse.ok(EventResponse.Calendar.of(
+                result.getEvents().stream()
+                    .map(e -> EventResponse.CalendarItem.of(e.getEventId(), e.getEventGroupId(), e.getEventGroupName(),
+                        e.getName(), e.getEventDate(), e.getPlaceId(), e.getRole()))
+                    .toList()
+            ))
+        );
+    }
+
+    @GetMapping("/{event-id}")
+    public ResponseEntity<ApiResponse<EventResponse.Detail>> getEvent(@PathVariable("event-id") Long eventId) {
+        Member member = authService.getAuthenticatedMember();
+
+        EventResult.Detail result = eventFacade.getEvent(EventCriteria.Get.of(eventId, member));
+
+        return ResponseEntity.ok(ApiResponse.ok(toDetailResponse(result)));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<EventResponse.GetList>> getEvents(
+        @RequestParam("group-id") Long groupId,
+        @RequestParam(value = "after", required = false) Long afterEventId,
+        @RequestParam(value = "before", required = false) Long beforeEventId,
+        @RequestParam(value = "from", required = false) String from,
+        @RequestParam(value = "to", required = false) String to,
+        @RequestParam(value = "size", defaultValue = "20") int size) {
+
+        Member member = authService.getAuthenticatedMember();
+
+        EventResult.GetList result = eventFacade.getEvents(EventCriteria.GetList.of(
+            groupId,
+            member,
+            afterEventId,
+            beforeEventId,
+            from != null ? parseEventDate(from) : null,
+            to != null ? parseEventDate(to) : null,
+            size
+        ));
+
+        return ResponseEntity.ok(
+            ApiResponse.ok(EventResponse.GetList.of(
+                result.getEvents().stream()
+                    .map(this::toDetailResponse)
+                    .toList(),
+                result.getPrevCursor(),
+                result.getNextCursor()
+            ))
+        );
+    }
+
+    @DeleteMapping("/{event-id}")
+    public ResponseEntity<ApiResponse> deleteEvent(@PathVariable("event-id") Long eventId) {
+        Member member = authService.getAuthenticatedMember();
+
+        eventFacade.deleteEvent(EventCriteria.Delete.of(eventId, member));
+
+        return ResponseEntity.ok(ApiResponse.ok());
+    }
+
+    @PostMapping("/{event-id}/participants")
+    public ResponseEntity<ApiResponse<EventResponse.Participate>> participateEvent(
+        @PathVariable("event-id") Long eventId) {
+
+        Member member = authService.getAuthenticatedMember();
+
+        EventResult.Participate result = eventFacade.participate(EventCriteria.Participate.of(eventId, member));
+
+        return ResponseEntity.ok(
+            ApiResponse.ok(EventResponse.Participate.of(
+                result.getEventId(),
+                result.getStatus().name(),
+                result.getWaitlistPosition()
+            ))
+        );
+    }
+
+    @DeleteMapping("/{event-id}/participants")
+    public ResponseEntity<ApiResponse> cancelParticipation(@PathVariable("event-id") Long eventId) {
+        Member member = authService.getAuthenticatedMember();
+
+        eventFacade.cancelParticipation(EventCriteria.CancelParticipation.of(eventId, member));
+
+        return ResponseEntity.ok(ApiResponse.ok());
+    }
+
+    @PostMapping("/{event-id}/participants/bulk")
+    public ResponseEntity<ApiResponse<EventResponse.AddParticipants>> addParticipants(
+        @PathVariable("event-id") Long eventId,
+        @RequestBody @Valid EventRequest.AddParticipants request) {
+
+        Member requester = authService.getAuthenticatedMember();
+
+        EventResult.AddParticipants result = eventFacade.addParticipants(
+            EventCriteria.AddParticipants.of(eventId, requester, request.getMemberIds()));
+
+        return ResponseEntity.ok(
+            ApiResponse.ok(EventResponse.AddParticipants.of(
+                result.getEventId(),
+                result.getAddedMemberIds(),
+                result.getAlreadyParticipatingMemberIds(),
+                result.getNotGroupMemberIds()
+            ))
+        );
+    }
+
+    @GetMapping("/{event-id}/participants")
+    public ResponseEntity<ApiResponse<EventResponse.Participants>> getParticipants(
+        @PathVariable("event-id") Long eventId) {
+
+        Member member = authService.getAuthenticatedMember();
+
+        EventResult.Participants result = eventFacade.getParticipants(EventCriteria.GetParticipants.of(eventId, member));
+
+        return ResponseEntity.ok(
+            ApiResponse.ok(EventResponse.Participants.of(
+                result.getEventId(),
+                result.getParticipants().stream()
+                    .map(p -> EventResponse.ParticipantItem.of(p.getMemberId(), p.getNickname(), p.getRole(), p.getJoinedAt()))
+                    .toList()
+            ))
+        );
+    }
+
+    @PostMapping("/{event-id}/share-link")
+    public ResponseEntity<ApiResponse<EventResponse.ShareLink>> issueShareLink(
+        @PathVariable("event-id") Long eventId) {
+
+        Member member = authService.getAuthenticatedMember();
+
+        EventResult.ShareLink result = eventFacade.issueShareLink(EventCriteria.IssueShareLink.of(eventId, member));
+
+        return ResponseEntity.ok(
+            ApiResponse.ok(EventResponse.ShareLink.of(result.getEventId(), result.getShareToken()))
+        );
+    }
+
+    @GetMapping("/{event-id}/waitlist/me")
+    public ResponseEntity<ApiResponse<EventResponse.WaitlistPosition>> getWaitlistPosition(
+        @PathVariable("event-id") Long eventId) {
+
+        Member member = authService.getAuthenticatedMember();
+
+        EventResult.WaitlistPosition result = eventFacade.getWaitlistPosition(
+            EventCriteria.GetWaitlistPosition.of(eventId, member)
+        );
+
+        return ResponseEntity.ok(
+            ApiResponse.ok(EventResponse.WaitlistPosition.of(result.getEventId(), result.getPosition()))
+        );
+    }
+
+    private EventResponse.Detail toDetailResponse(EventResult.Detail result) {
+        return EventResponse.Detail.of(
+            result.getEventId(),
+            result.getEventGroupId(),
+            result.getName(),
+            result.getDescription(),
+            result.getMaxParticipants(),
+            result.getParticipantCount(),
+            result.getEventDate(),
+            result.getPlaceId(),
+            result.getSchedules().stream()
+                .map(s -> EventResponse.ScheduleItem.of(
+                    s.getScheduleId(), s.getName(), s.getStartTime(), s.getEndTime(), s.getLocation()))
+                .toList(),
+            result.getVotes().stream()
+                .map(v -> EventResponse.VoteItem.of(
+                    v.getVoteId(), v.getName(), v.getStartTime(), v.getEndTime(), v.getStatus()))
+                .toList()
+        );
+    }
+
     private LocalDate parseEventDate(String eventDate) {
         return LocalDate.parse(eventDate);
     }
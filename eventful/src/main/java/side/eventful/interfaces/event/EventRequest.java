@@ -2,11 +2,15 @@ package side.eventful.interfaces.event;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 public class EventRequest {
 
     @Getter
@@ -49,5 +53,21 @@ public class EventRequest {
             return request;
         }
     }
-}
 
+    @Getter
+    @NoArgsConstructor
+    public static class AddParticipants {
+
+        @NotEmpty(message = "등록할 회원은 1명 이상이어야 합니다")
+        @Size(max = 1000, message = "한 번에 등록할 수 있는 회원은 1000명 이하입니다")
+        @JsonProperty("member_ids")
+        private List<@NotNull Long> memberIds;
+
+        // 테스트용 팩토리 메서드
+        public static AddParticipants of(List<Long> memberIds) {
+            AddParticipants request = new AddParticipants();
+            request.memberIds = memberIds;
+            return request;
+        }
+    }
+}
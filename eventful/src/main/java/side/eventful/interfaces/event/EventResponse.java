@@ -5,6 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
 
 public class EventResponse {
 
@@ -40,5 +43,266 @@ public class EventResponse {
                 eventMaxMember, eventDate, placeId);
         }
     }
-}
 
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class Participate {
+
+        @JsonProperty("event_id")
+        private Long eventId;
+
+        @JsonProperty("status")
+        private String status;
+
+        // 대기 중일 때만 값이 있음
+        @JsonProperty("waitlist_position")
+        private Long waitlistPosition;
+
+        public static Participate of(Long eventId, String status, Long waitlistPosition) {
+            return new Participate(eventId, status, waitlistPosition);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class WaitlistPosition {
+
+        @JsonProperty("event_id")
+        private Long eventId;
+
+        @JsonProperty("waitlist_position")
+        private long waitlistPosition;
+
+        public static WaitlistPosition of(Long eventId, long waitlistPosition) {
+            return new WaitlistPosition(eventId, waitlistPosition);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class Detail {
+
+        @JsonProperty("event_id")
+        private Long eventId;
+
+        @JsonProperty("event_group_id")
+        private Long eventGroupId;
+
+        @JsonProperty("event_name")
+        private String eventName;
+
+        @JsonProperty("event_description")
+        private String eventDescription;
+
+        @JsonProperty("event_max_member")
+        private Integer eventMaxMember;
+
+        @JsonProperty("event_member_count")
+        private int eventMemberCount;
+
+        @JsonProperty("event_date")
+        private LocalDate eventDate;
+
+        @JsonProperty("place_id")
+        private String placeId;
+
+        @JsonProperty("schedules")
+        private List<ScheduleItem> schedules;
+
+        @JsonProperty("votes")
+        private List<VoteItem> votes;
+
+        public static Detail of(Long eventId, Long eventGroupId, String eventName, String eventDescription,
+                                Integer eventMaxMember, int eventMemberCount, LocalDate eventDate,
+                                String placeId, List<ScheduleItem> schedules, List<VoteItem> votes) {
+            return new Detail(eventId, eventGroupId, eventName, eventDescription, eventMaxMember,
+                eventMemberCount, eventDate, placeId, schedules, votes);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class ScheduleItem {
+
+        @JsonProperty("schedule_id")
+        private Long scheduleId;
+
+        @JsonProperty("schedule_name")
+        private String scheduleName;
+
+        @JsonProperty("start_time")
+        private LocalTime startTime;
+
+        @JsonProperty("end_time")
+        private LocalTime endTime;
+
+        @JsonProperty("location")
+        private String location;
+
+        public static ScheduleItem of(Long scheduleId, String scheduleName, LocalTime startTime,
+                                      LocalTime endTime, String location) {
+            return new ScheduleItem(scheduleId, scheduleName, startTime, endTime, location);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class VoteItem {
+
+        @JsonProperty("vote_id")
+        private Long voteId;
+
+        @JsonProperty("vote_name")
+        private String voteName;
+
+        @JsonProperty("start_time")
+        private LocalTime startTime;
+
+        @JsonProperty("end_time")
+        private LocalTime endTime;
+
+        @JsonProperty("status")
+        private String status;
+
+        public static VoteItem of(Long voteId, String voteName, LocalTime startTime,
+                                  LocalTime endTime, String status) {
+            return new VoteItem(voteId, voteName, startTime, endTime, status);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class GetList {
+
+        @JsonProperty("events")
+        private List<Detail> events;
+
+        @JsonProperty("prev_cursor")
+        private Long prevCursor;
+
+        @JsonProperty("next_cursor")
+        private Long nextCursor;
+
+        public static GetList of(List<Detail> events, Long prevCursor, Long nextCursor) {
+            return new GetList(events, prevCursor, nextCursor);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class ShareLink {
+
+        @JsonProperty("event_id")
+        private Long eventId;
+
+        @JsonProperty("share_token")
+        private String shareToken;
+
+        public static ShareLink of(Long eventId, String shareToken) {
+            return new ShareLink(eventId, shareToken);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class AddParticipants {
+
+        @JsonProperty("event_id")
+        private Long eventId;
+
+        @JsonProperty("added_member_ids")
+        private List<Long> addedMemberIds;
+
+        // 이미 참여 중이라 건너뛴 회원
+        @JsonProperty("already_participating_member_ids")
+        private List<Long> alreadyParticipatingMemberIds;
+
+        // 그룹원이 아니라 건너뛴 회원
+        @JsonProperty("not_group_member_ids")
+        private List<Long> notGroupMemberIds;
+
+        public static AddParticipants of(Long eventId, List<Long> addedMemberIds,
+                                         List<Long> alreadyParticipatingMemberIds, List<Long> notGroupMemberIds) {
+            return new AddParticipants(eventId, addedMemberIds, alreadyParticipatingMemberIds, notGroupMemberIds);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class ParticipantItem {
+
+        @JsonProperty("member_id")
+        private Long memberId;
+
+        @JsonProperty("nickname")
+        private String nickname;
+
+        @JsonProperty("role")
+        private String role;
+
+        @JsonProperty("joined_at")
+        private LocalDateTime joinedAt;
+
+        public static ParticipantItem of(Long memberId, String nickname, String role, LocalDateTime joinedAt) {
+            return new ParticipantItem(memberId, nickname, role, joinedAt);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class Participants {
+
+        @JsonProperty("event_id")
+        private Long eventId;
+
+        @JsonProperty("participants")
+        private List<ParticipantItem> participants;
+
+        public static Participants of(Long eventId, List<ParticipantItem> participants) {
+            return new Participants(eventId, participants);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class CalendarItem {
+
+        @JsonProperty("event_id")
+        private Long eventId;
+
+        @JsonProperty("event_group_id")
+        private Long eventGroupId;
+
+        @JsonProperty("event_group_name")
+        private String eventGroupName;
+
+        @JsonProperty("event_name")
+        private String eventName;
+
+        @JsonProperty("event_date")
+        private LocalDate eventDate;
+
+        @JsonProperty("place_id")
+        private String placeId;
+
+        @JsonProperty("role")
+        private String role;
+
+        public static CalendarItem of(Long eventId, Long eventGroupId, String eventGroupName, String eventName,
+                                      LocalDate eventDate, String placeId, String role) {
+            return new CalendarItem(eventId, eventGroupId, eventGroupName, eventName, eventDate, placeId, role);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+    public static class Calendar {
+
+        @JsonProperty("events")
+        private List<CalendarItem> events;
+
+        public static Calendar of(List<CalendarItem> events) {
+            return new Calendar(events);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package side.eventful.interfaces.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import side.eventful.application.event.EventShareFacade;
+import side.eventful.domain.event.EventSnapshot;
+
+import java.util.Arrays;
+
+/**
+ * 로그인 없이 여는 이벤트 공유 링크
+ */
+@RestController
+@RequestMapping("/api/public/event")
+@RequiredArgsConstructor
+public class EventShareController {
+
+    private final EventShareFacade eventShareFacade;
+
+    @GetMapping("/{share-token}")
+    public ResponseEntity<byte[]> getSharedEvent(
+        @PathVariable("share-token") String shareToken,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        EventSnapshot snapshot = eventShareFacade.getSnapshot(shareToken);
+
+        // 캐시가 재검증하도록 하고, 내용이 같으면 본문 없이 304로 응답
+        CacheControl cacheControl = CacheControl.noCache().cachePublic();
+        if (matches(ifNoneMatch, snapshot.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(snapshot.etag())
+                .cacheControl(cacheControl)
+                .build();
+        }
+
+        return ResponseEntity.ok()
+            .eTag(snapshot.etag())
+            .cacheControl(cacheControl)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(snapshot.body());
+    }
+
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+            .map(String::trim)
+            .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+            .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import side.eventful.application.eventgroup.EventGroupCriteria;
 import side.eventful.application.eventgroup.EventGroupFacade;
@@ -99,6 +100,30 @@ public class EventGroupController {
         );
     }
 
+    @GetMapping("/{group-id}/members")
+    public ResponseEntity<ApiResponse<EventGroupResponse.GetMembers>> getEventGroupMembers(
+        @PathVariable("group-id") Long groupId,
+        @RequestParam(value = "after", required = false) Long afterMemberId,
+        @RequestParam(value = "size", defaultValue = "50") int size) {
+
+        EventGroupResult.GetMembers result = eventGroupFacade.getGroupMembers(
+            EventGroupCriteria.GetMembers.create(groupId, afterMemberId, size)
+        );
+
+        java.util.List<EventGroupResponse.GroupMember> responseMembers = result.getGroupMembers()
+                .stream()
+                .map(member -> EventGroupResponse.GroupMember.create(
+                    member.getMemberId(),
+                    member.getMemberName(),
+                    member.isLeader()
+                ))
+                .toList();
+
+        return ResponseEntity.ok(
+            ApiResponse.ok(EventGroupResponse.GetMembers.create(responseMembers, result.getNextCursor()))
+        );
+    }
+
     @PostMapping("/verify-code")
     public ResponseEntity<ApiResponse<EventGroupResponse.VerifyCode>> verifyJoinCode(
         @RequestBody @Valid EventGroupRequest.VerifyCode request) {
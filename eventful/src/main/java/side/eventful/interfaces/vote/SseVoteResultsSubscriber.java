@@ -0,0 +1,46 @@
+package side.eventful.interfaces.vote;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import side.eventful.domain.vote.VoteResults;
+import side.eventful.domain.vote.VoteResultsSubscriber;
+
+import java.io.IOException;
+
+/**
+ * SSE 연결로 투표 결과를 보내는 구독자
+ *
+ * <p>결과는 vote-results 이벤트의 JSON 데이터로, 유휴 연결 유지는 주석 이벤트로 보낸다.</p>
+ */
+class SseVoteResultsSubscriber implements VoteResultsSubscriber {
+
+    private static final String EVENT_NAME = "vote-results";
+
+    private final SseEmitter emitter;
+
+    SseVoteResultsSubscriber(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void send(VoteResults results) throws IOException {
+        emitter.send(SseEmitter.event().name(EVENT_NAME).data(results, MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void ping() throws IOException {
+        emitter.send(SseEmitter.event().comment("ping"));
+    }
+
+    @Override
+    public void complete() {
+        emitter.complete();
+    }
+
+    @Override
+    public void onDisconnect(Runnable callback) {
+        emitter.onCompletion(callback);
+        emitter.onTimeout(callback);
+        emitter.onError(e -> callback.run());
+    }
+}
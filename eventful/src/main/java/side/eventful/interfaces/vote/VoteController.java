@@ -0,0 +1,72 @@
+package side.eventful.interfaces.vote;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import side.eventful.application.vote.VoteCriteria;
+import side.eventful.application.vote.VoteFacade;
+import side.eventful.application.vote.VoteResultsFacade;
+import side.eventful.domain.member.Member;
+import side.eventful.domain.member.auth.AuthService;
+import side.eventful.global.response.ApiResponse;
+
+import java.time.Duration;
+
+/**
+ * Vote(투표) API Controller
+ */
+@RestController
+@RequestMapping("/api/votes")
+@RequiredArgsConstructor
+public class VoteController {
+
+    private final VoteFacade voteFacade;
+    private final VoteResultsFacade voteResultsFacade;
+    private final AuthService authService;
+
+    // 투표 결과 구독 연결 유지 시간 (클라이언트는 끊기면 다시 연결)
+    @Value("${eventful.vote-stream.timeout:30m}")
+    private Duration streamTimeout;
+
+    /**
+     * 투표하기 (다시 투표하면 선택 옵션을 바꾼다)
+     *
+     * POST /api/votes/{vote-id}/ballot
+     */
+    @PostMapping("/{vote-id}/ballot")
+    public ResponseEntity<ApiResponse> castVote(
+        @PathVariable("vote-id") Long voteId,
+        @RequestBody @Valid VoteRequest.CastVote request) {
+
+        Member member = authService.getAuthenticatedMember();
+
+        voteFacade.castVote(VoteCriteria.CastVote.of(voteId, request.getOptionId(), member));
+
+        return ResponseEntity.ok(ApiResponse.ok());
+    }
+
+    /**
+     * 투표 결과 실시간 구독 (Server-Sent Events)
+     *
+     * GET /api/votes/{vote-id}/results/stream
+     *
+     * <p>연결 직후 현재 결과를 보내고, 이후 결과가 바뀔 때마다 vote-results 이벤트로 최신 득표수를 보낸다.
+     * 투표가 마감되면 마감 결과를 보낸 뒤 연결을 끝낸다.</p>
+     */
+    @GetMapping(value = "/{vote-id}/results/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamResults(@PathVariable("vote-id") Long voteId) {
+        Member member = authService.getAuthenticatedMember();
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        voteResultsFacade.subscribe(voteId, member, new SseVoteResultsSubscriber(emitter));
+        return emitter;
+    }
+}
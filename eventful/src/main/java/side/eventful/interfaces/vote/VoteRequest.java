@@ -0,0 +1,18 @@
+package side.eventful.interfaces.vote;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+public class VoteRequest {
+
+    @Getter
+    @NoArgsConstructor
+    public static class CastVote {
+
+        @NotNull(message = "투표 옵션 ID는 필수입니다")
+        @JsonProperty("option_id")
+        private Long optionId;
+    }
+}
@@ -0,0 +1,99 @@
+package side.eventful;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import side.eventful.domain.event.Event;
+import side.eventful.domain.event.EventRepository;
+import side.eventful.domain.eventgroup.EventGroup;
+import side.eventful.domain.eventgroup.EventGroupRepository;
+import side.eventful.domain.member.Member;
+import side.eventful.domain.member.MemberRepository;
+import side.eventful.infrastructure.security.config.TestPasswordEncoder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostgreSQL 컨테이너에서 실행하는 통합 테스트 지원
+ *
+ * <p>조건부 UPDATE, SKIP LOCKED, JDBC 배치, 유니크 제약처럼 H2로는 확인할 수 없는 동작을 실제 DB에서 검증한다.
+ * 동시 요청이 각자 커밋해야 하므로 테스트 트랜잭션으로 감싸지 않고, 테스트마다 모든 테이블을 비운다.
+ * Docker가 없는 환경에서는 건너뛴다.</p>
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.driver-class-name=org.postgresql.Driver",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresIntegrationTestSupport {
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EventGroupRepository eventGroupRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private TestPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        List<String> tableNames = jdbcTemplate.queryForList(
+            "SELECT tablename FROM pg_tables WHERE schemaname = 'public'", String.class);
+        if (!tableNames.isEmpty()) {
+            jdbcTemplate.execute("TRUNCATE TABLE " + String.join(", ", tableNames) + " RESTART IDENTITY CASCADE");
+        }
+    }
+
+    protected Member saveMember(String nickname) {
+        return memberRepository.save(Member.create(nickname + "@test.com", "password", nickname, passwordEncoder));
+    }
+
+    protected EventGroup saveGroup(Member leader) {
+        return eventGroupRepository.save(EventGroup.create("테스트 그룹", "설명", null, leader));
+    }
+
+    protected Event saveEvent(EventGroup eventGroup, Member creator, Integer maxParticipants, LocalDate eventDate) {
+        return eventRepository.save(Event.create(eventGroup, "제주도 여행", "2박 3일 제주도 여행", maxParticipants,
+            eventDate, null, creator));
+    }
+
+    /**
+     * 모든 작업을 각자의 스레드에서 동시에 시작하고 결과를 작업 순서대로 돌려준다
+     */
+    protected <T> List<T> runConcurrently(List<Callable<T>> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(tasks.size())) {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        }
+    }
+}
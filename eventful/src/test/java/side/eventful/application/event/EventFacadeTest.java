@@ -7,25 +7,42 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import side.eventful.domain.event.Event;
 import side.eventful.domain.event.EventCommand;
 import side.eventful.domain.event.EventService;
+import side.eventful.domain.event.EventSummary;
+import side.eventful.domain.event.EventTimeline;
+import side.eventful.domain.event.ParticipationStatus;
 import side.eventful.domain.eventgroup.EventGroup;
 import side.eventful.domain.eventgroup.EventGroupService;
 import side.eventful.domain.fixture.MemberFixture;
 import side.eventful.domain.member.Member;
+import side.eventful.domain.schedule.ScheduleService;
+import side.eventful.domain.schedule.ScheduleSummary;
+import side.eventful.domain.vote.VoteService;
+import side.eventful.domain.vote.VoteStatus;
+import side.eventful.domain.vote.VoteSummary;
+import side.eventful.global.transaction.RetryOnConflictExecutor;
+import side.eventful.global.transaction.TestRetryOnConflictExecutor;
 import side.eventful.infrastructure.security.config.TestPasswordEncoder;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -43,14 +60,29 @@ class EventFacadeTest {
     @Mock
     private EventGroupService eventGroupService;
 
+    @Mock
+    private ScheduleService scheduleService;
+
+    @Mock
+    private VoteService voteService;
+
+    @Spy
+    private RetryOnConflictExecutor retryExecutor = new TestRetryOnConflictExecutor();
+
     @InjectMocks
     private EventFacade eventFacade;
 
     private final PasswordEncoder passwordEncoder = new TestPasswordEncoder();
+    private Member creator;
+    private Member member;
+    private Member outsider;
 
     @BeforeEach
     void setUp() {
         MemberFixture.resetSequence();
+        creator = MemberFixture.createWithId("creator@test.com", "password", "creator", passwordEncoder);
+        member = MemberFixture.createWithId("member@test.com", "password", "member", passwordEncoder);
+        outsider = MemberFixture.createWithId("outsider@test.com", "password", "outsider", passwordEncoder);
     }
 
     @Nested
@@ -155,5 +187,260 @@ class EventFacadeTest {
             verify(eventService, never()).create(any(), any());
         }
     }
+
+    @Nested
+    @DisplayName("이벤트 참여")
+    class Participate {
+
+        @Test
+        @DisplayName("그룹원이면 이벤트에 참여한다")
+        void participate_withGroupMember_success() {
+            // given
+            Event event = createEvent(creator);
+
+            given(eventService.getEvent(1L)).willReturn(event);
+            given(eventGroupService.isGroupMember(event.getEventGroup().getId(), member)).willReturn(true);
+
+            given(eventService.participate(event, member)).willReturn(ParticipationStatus.PARTICIPATING);
+
+            // when
+            EventResult.Participate result = eventFacade.participate(EventCriteria.Participate.of(1L, member));
+
+            // then
+            assertThat(result.getStatus()).isEqualTo(ParticipationStatus.PARTICIPATING);
+            assertThat(result.getWaitlistPosition()).isNull();
+            verify(eventService, never()).getWaitlistPosition(any(), any());
+        }
+
+        @Test
+        @DisplayName("정원이 찼으면 대기 순번을 함께 돌려준다")
+        void participate_whenWaitlisted_returnsPosition() {
+            // given
+            Event event = createEvent(creator);
+
+            given(eventService.getEvent(1L)).willReturn(event);
+            given(eventGroupService.isGroupMember(event.getEventGroup().getId(), member)).willReturn(true);
+            given(eventService.participate(event, member)).willReturn(ParticipationStatus.WAITLISTED);
+            given(eventService.getWaitlistPosition(event, member)).willReturn(3L);
+
+            // when
+            EventResult.Participate result = eventFacade.participate(EventCriteria.Participate.of(1L, member));
+
+            // then
+            assertThat(result.getStatus()).isEqualTo(ParticipationStatus.WAITLISTED);
+            assertThat(result.getWaitlistPosition()).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("그룹원이 아니면 예외가 발생한다")
+        void participate_withNonGroupMember_throwsException() {
+            // given
+            Event event = createEvent(creator);
+
+            given(eventService.getEvent(1L)).willReturn(event);
+            given(eventGroupService.isGroupMember(event.getEventGroup().getId(), outsider)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> eventFacade.participate(EventCriteria.Participate.of(1L, outsider)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("그룹원만 이벤트에 참여할 수 있습니다.");
+
+            verify(eventService, never()).participate(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("이벤트 참여 취소")
+    class CancelParticipation {
+
+        @Test
+        @DisplayName("참여를 취소하면 진행 중인 투표의 표를 무효 처리한다")
+        void cancelParticipation_voidsInProgressVotes() {
+            // given
+            Event event = createEvent(creator);
+            given(eventService.getEvent(1L)).willReturn(event);
+
+            // when
+            eventFacade.cancelParticipation(EventCriteria.CancelParticipation.of(1L, member));
+
+            // then
+            verify(eventService).cancelParticipation(event, member);
+            verify(voteService).voidInProgressVotes(1L, member);
+        }
+
+        @Test
+        @DisplayName("참여 취소에 실패하면 투표를 건드리지 않는다")
+        void cancelParticipation_whenRejected_keepsVotes() {
+            // given
+            Event event = createEvent(creator);
+            given(eventService.getEvent(1L)).willReturn(event);
+            willThrow(new IllegalArgumentException("이벤트 생성자는 참여를 취소할 수 없습니다."))
+                .given(eventService).cancelParticipation(event, creator);
+
+            // when & then
+            assertThatThrownBy(() -> eventFacade.cancelParticipation(EventCriteria.CancelParticipation.of(1L, creator)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+            verify(voteService, never()).voidInProgressVotes(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("참여자 일괄 등록")
+    class AddParticipants {
+
+        @Test
+        @DisplayName("중복을 제거하고 그룹원만 등록하며 건너뛴 회원을 나눠서 돌려준다")
+        void addParticipants_dedupesAndSplitsResult() {
+            // given
+            Event event = createEvent(creator);
+
+            given(eventService.getEvent(1L)).willReturn(event);
+            given(eventGroupService.findGroupMemberIds(eq(event.getEventGroup().getId()), any()))
+                .willReturn(Set.of(2L, 3L, 4L));
+            given(eventService.addParticipants(event, creator, List.of(2L, 3L, 4L))).willReturn(List.of(2L, 4L));
+
+            // when
+            EventResult.AddParticipants result = eventFacade.addParticipants(
+                EventCriteria.AddParticipants.of(1L, creator, List.of(2L, 3L, 2L, 9L, 4L)));
+
+            // then
+            assertThat(result.getAddedMemberIds()).containsExactly(2L, 4L);
+            assertThat(result.getAlreadyParticipatingMemberIds()).containsExactly(3L);
+            assertThat(result.getNotGroupMemberIds()).containsExactly(9L);
+        }
+    }
+
+    @Nested
+    @DisplayName("이벤트 삭제")
+    class DeleteEvent {
+
+        @Test
+        @DisplayName("생성자가 삭제하면 일정, 투표, 이벤트 순서로 지운다")
+        void deleteEvent_byCreator_deletesSubtree() {
+            // given
+            Event event = createEvent(creator);
+            given(eventService.getEvent(1L)).willReturn(event);
+
+            // when
+            eventFacade.deleteEvent(EventCriteria.Delete.of(1L, creator));
+
+            // then
+            List<Long> eventIds = List.of(1L);
+            verify(scheduleService).deleteAllByEventIds(eventIds);
+            verify(voteService).deleteAllByEventIds(eventIds);
+            verify(eventService).deleteAll(eventIds);
+        }
+
+        @Test
+        @DisplayName("생성자가 아니면 예외가 발생한다")
+        void deleteEvent_byNonCreator_throwsException() {
+            // given
+            Event event = createEvent(creator);
+            given(eventService.getEvent(1L)).willReturn(event);
+
+            // when & then
+            assertThatThrownBy(() -> eventFacade.deleteEvent(EventCriteria.Delete.of(1L, member)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이벤트 생성자만 이벤트를 삭제할 수 있습니다.");
+
+            verify(eventService, never()).deleteAll(any());
+        }
+
+        @Test
+        @DisplayName("그룹 이벤트는 100개씩 나눠서 남은 이벤트가 없을 때까지 지운다")
+        void deleteGroupEvents_deletesInChunks() {
+            // given
+            List<Long> firstChunk = LongStream.rangeClosed(1, 100).boxed().toList();
+            List<Long> lastChunk = List.of(101L, 102L);
+            given(eventService.findEventIds(10L, 100)).willReturn(firstChunk, lastChunk);
+
+            // when
+            eventFacade.deleteGroupEvents(10L);
+
+            // then
+            verify(eventService, times(2)).findEventIds(10L, 100);
+            verify(eventService).deleteAll(firstChunk);
+            verify(eventService).deleteAll(lastChunk);
+        }
+    }
+
+    @Nested
+    @DisplayName("이벤트 조회")
+    class GetEvents {
+
+        @Test
+        @DisplayName("이벤트 페이지의 일정/투표를 한 번씩만 조회해 이벤트별로 묶는다")
+        void getEvents_batchesScheduleAndVoteQueries() {
+            // given
+            EventSummary first = new EventSummary(1L, 10L, "제주도 여행", "설명", 10, 3, LocalDate.of(2025, 3, 15), null);
+            EventSummary second = new EventSummary(2L, 10L, "부산 여행", "설명", null, 1, LocalDate.of(2025, 4, 1), null);
+
+            given(eventGroupService.isGroupMember(10L, member)).willReturn(true);
+            given(eventService.getTimeline(any(EventCommand.GetTimeline.class)))
+                .willReturn(new EventTimeline(List.of(first, second), null, 2L));
+            given(scheduleService.getScheduleSummaries(List.of(1L, 2L))).willReturn(List.of(
+                new ScheduleSummary(100L, 1L, "점심", LocalTime.of(12, 0), LocalTime.of(13, 0), "식당")
+            ));
+            given(voteService.getVoteSummaries(List.of(1L, 2L))).willReturn(List.of(
+                new VoteSummary(200L, 2L, "저녁 장소", LocalTime.of(18, 0), LocalTime.of(20, 0), VoteStatus.IN_PROGRESS)
+            ));
+
+            // when
+            EventResult.GetList result = eventFacade.getEvents(EventCriteria.GetList.of(10L, member, null, null, null, null, 2));
+
+            // then
+            assertThat(result.getEvents()).extracting(EventResult.Detail::getEventId).containsExactly(1L, 2L);
+            assertThat(result.getNextCursor()).isEqualTo(2L);
+            assertThat(result.getEvents().get(0).getParticipantCount()).isEqualTo(3);
+            assertThat(result.getEvents().get(0).getSchedules()).extracting(EventResult.ScheduleItem::getScheduleId).containsExactly(100L);
+            assertThat(result.getEvents().get(0).getVotes()).isEmpty();
+            assertThat(result.getEvents().get(1).getSchedules()).isEmpty();
+            assertThat(result.getEvents().get(1).getVotes()).extracting(EventResult.VoteItem::getStatus).containsExactly("IN_PROGRESS");
+        }
+
+        @Test
+        @DisplayName("그룹원이 아니면 이벤트 목록을 조회할 수 없다")
+        void getEvents_withNonGroupMember_throwsException() {
+            // given
+            given(eventGroupService.isGroupMember(10L, outsider)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> eventFacade.getEvents(EventCriteria.GetList.of(10L, outsider, null, null, null, null, 20)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("그룹원만 이벤트를 조회할 수 있습니다.");
+
+            verify(eventService, never()).getTimeline(any());
+        }
+
+        @Test
+        @DisplayName("이벤트 상세는 해당 이벤트의 일정과 투표를 함께 돌려준다")
+        void getEvent_withGroupMember_success() {
+            // given
+            EventSummary event = new EventSummary(1L, 10L, "제주도 여행", "설명", 10, 3, LocalDate.of(2025, 3, 15), "place-1");
+
+            given(eventService.getEventSummary(1L)).willReturn(event);
+            given(eventGroupService.isGroupMember(10L, member)).willReturn(true);
+            given(scheduleService.getScheduleSummaries(List.of(1L))).willReturn(List.of(
+                new ScheduleSummary(100L, 1L, "점심", LocalTime.of(12, 0), LocalTime.of(13, 0), "식당")
+            ));
+            given(voteService.getVoteSummaries(List.of(1L))).willReturn(List.of());
+
+            // when
+            EventResult.Detail result = eventFacade.getEvent(EventCriteria.Get.of(1L, member));
+
+            // then
+            assertThat(result.getName()).isEqualTo("제주도 여행");
+            assertThat(result.getPlaceId()).isEqualTo("place-1");
+            assertThat(result.getSchedules()).hasSize(1);
+            assertThat(result.getVotes()).isEmpty();
+        }
+    }
+
+    private Event createEvent(Member creator) {
+        EventGroup eventGroup = EventGroup.create("테스트 그룹", "설명", null, creator);
+        return Event.create(eventGroup, "제주도 여행", "2박 3일 제주도 여행", 10,
+            LocalDate.of(2025, 3, 15), null, creator);
+    }
 }
 
@@ -0,0 +1,123 @@
+package side.eventful.application.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import side.eventful.domain.event.EventContentChanged;
+import side.eventful.domain.event.EventService;
+import side.eventful.domain.event.EventSnapshot;
+import side.eventful.domain.event.EventSummary;
+import side.eventful.domain.schedule.ScheduleService;
+import side.eventful.domain.vote.VoteOptionTally;
+import side.eventful.domain.vote.VoteService;
+import side.eventful.domain.vote.VoteStatus;
+import side.eventful.domain.vote.VoteSummary;
+import side.eventful.infrastructure.event.CaffeineEventSnapshotCache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EventShareFacadeTest {
+
+    @Mock
+    private EventService eventService;
+
+    @Mock
+    private ScheduleService scheduleService;
+
+    @Mock
+    private VoteService voteService;
+
+    private EventShareFacade eventShareFacade;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineEventSnapshotCache cache = new CaffeineEventSnapshotCache(
+            100, Duration.ofMinutes(1), Duration.ofHours(1), Duration.ofSeconds(30));
+        eventShareFacade = new EventShareFacade(eventService, scheduleService, voteService, cache,
+            new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    @DisplayName("같은 링크를 여러 번 열어도 스냅샷은 한 번만 만든다")
+    void getSnapshot_repeatedViews_buildOnce() {
+        // given
+        givenEvent(1, "카페");
+
+        // when
+        EventSnapshot first = eventShareFacade.getSnapshot("token");
+        EventSnapshot second = eventShareFacade.getSnapshot("token");
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.body(), StandardCharsets.UTF_8)).contains("제주도 여행", "카페");
+        verify(eventService, times(1)).findEventIdByShareToken("token");
+        verify(eventService, times(1)).getEventSummary(1L);
+    }
+
+    @Test
+    @DisplayName("이벤트 내용이 바뀌면 캐시된 스냅샷을 새로 만들고 ETag도 바뀐다")
+    void onEventContentChanged_rebuildsCachedSnapshot() {
+        // given
+        givenEvent(1, "카페");
+        EventSnapshot before = eventShareFacade.getSnapshot("token");
+        given(voteService.getOptionTallies(1L)).willReturn(List.of(new VoteOptionTally(10L, 100L, "카페", 2)));
+
+        // when
+        eventShareFacade.onEventContentChanged(new EventContentChanged(1L));
+        EventSnapshot after = eventShareFacade.getSnapshot("token");
+
+        // then
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        verify(eventService, times(2)).getEventSummary(1L);
+    }
+
+    @Test
+    @DisplayName("아무도 열지 않은 이벤트는 변경되어도 스냅샷을 만들지 않는다")
+    void onEventContentChanged_notCached_skipsRebuild() {
+        // when
+        eventShareFacade.onEventContentChanged(new EventContentChanged(1L));
+
+        // then
+        verify(eventService, never()).getEventSummary(any());
+    }
+
+    @Test
+    @DisplayName("없는 공유 토큰이면 예외가 발생한다")
+    void getSnapshot_unknownToken_throwsException() {
+        // given
+        given(eventService.findEventIdByShareToken("unknown")).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> eventShareFacade.getSnapshot("unknown"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("존재하지 않는 공유 링크입니다.");
+    }
+
+    private void givenEvent(long voteCount, String locationName) {
+        given(eventService.findEventIdByShareToken("token")).willReturn(Optional.of(1L));
+        given(eventService.getEventSummary(1L)).willReturn(
+            new EventSummary(1L, 10L, "제주도 여행", "설명", 10, 3, LocalDate.of(2025, 3, 15), null));
+        given(scheduleService.getScheduleSummaries(List.of(1L))).willReturn(List.of());
+        given(voteService.getVoteSummaries(List.of(1L))).willReturn(List.of(
+            new VoteSummary(10L, 1L, "점심 장소", LocalTime.of(12, 0), LocalTime.of(13, 0), VoteStatus.IN_PROGRESS)));
+        given(voteService.getOptionTallies(1L)).willReturn(List.of(new VoteOptionTally(10L, 100L, locationName, voteCount)));
+    }
+}
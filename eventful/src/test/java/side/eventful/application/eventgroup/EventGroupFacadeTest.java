@@ -3,13 +3,17 @@ package side.eventful.application.eventgroup;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import side.eventful.application.event.EventFacade;
 import side.eventful.domain.eventgroup.EventGroup;
 import side.eventful.domain.eventgroup.EventGroupCommand;
 import side.eventful.domain.eventgroup.EventGroupService;
+import side.eventful.domain.eventgroup.EventGroupSummary;
 import side.eventful.domain.member.Member;
 import side.eventful.domain.member.auth.AuthService;
 import side.eventful.infrastructure.security.config.TestPasswordEncoder;
@@ -18,6 +22,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +37,9 @@ class EventGroupFacadeTest {
     @Mock
     private AuthService authService;
 
+    @Mock
+    private EventFacade eventFacade;
+
     @InjectMocks
     private EventGroupFacade eventGroupFacade;
 
@@ -134,12 +145,12 @@ class EventGroupFacadeTest {
         Member authenticatedMember = createTestMember();
         EventGroupCriteria.GetList criteria = EventGroupCriteria.GetList.create();
 
-        // 회원이 참여한 그룹 3개 생성
-        EventGroup group1 = EventGroup.createWithJoinCode("제주도 여행", "2박 3일", "image1.jpg", authenticatedMember, "CODE1234");
-        EventGroup group2 = EventGroup.createWithJoinCode("부산 여행", "1박 2일", "image2.jpg", authenticatedMember, "CODE5678");
-        EventGroup group3 = EventGroup.createWithJoinCode("서울 모임", "주말 모임", null, authenticatedMember, "CODE9012");
+        // 회원이 참여한 그룹 3개 (그룹원 수는 조회 쿼리에서 집계)
+        EventGroupSummary group1 = new EventGroupSummary(1L, "제주도 여행", "2박 3일", "image1.jpg", 1L);
+        EventGroupSummary group2 = new EventGroupSummary(2L, "부산 여행", "1박 2일", "image2.jpg", 4L);
+        EventGroupSummary group3 = new EventGroupSummary(3L, "서울 모임", "주말 모임", null, 2L);
 
-        java.util.List<EventGroup> groups = java.util.List.of(group1, group2, group3);
+        java.util.List<EventGroupSummary> groups = java.util.List.of(group1, group2, group3);
 
         given(authService.getAuthenticatedMember())
                 .willReturn(authenticatedMember);
@@ -155,6 +166,7 @@ class EventGroupFacadeTest {
         assertThat(result.getGroups().get(0).getGroupDescription()).isEqualTo("2박 3일");
         assertThat(result.getGroups().get(0).getMemberCount()).isEqualTo(1); // 그룹장만 있음
         assertThat(result.getGroups().get(1).getGroupName()).isEqualTo("부산 여행");
+        assertThat(result.getGroups().get(1).getMemberCount()).isEqualTo(4);
         assertThat(result.getGroups().get(2).getGroupName()).isEqualTo("서울 모임");
         assertThat(result.getGroups().get(2).getGroupImageUrl()).isNull();
         verify(eventGroupService).getGroupList(any(EventGroupCommand.GetList.class));
@@ -193,6 +205,64 @@ class EventGroupFacadeTest {
         assertThrows(IllegalStateException.class, () -> eventGroupFacade.getGroupList(criteria));
     }
 
+    @Test
+    @DisplayName("그룹 삭제 - 이벤트를 먼저 지운 뒤 그룹을 삭제한다")
+    void deleteGroup_deletesEventsBeforeGroup() {
+        // given
+        Member leader = createTestMember();
+        EventGroup eventGroup = EventGroup.create("소모임", "설명", null, leader);
+        given(authService.getAuthenticatedMember()).willReturn(leader);
+        given(eventGroupService.getGroupForDeletion(any(EventGroupCommand.Delete.class))).willReturn(eventGroup);
+
+        // when
+        eventGroupFacade.deleteGroup(EventGroupCriteria.Delete.create(1L));
+
+        // then
+        InOrder order = inOrder(eventGroupService, eventFacade);
+        order.verify(eventGroupService).getGroupForDeletion(any(EventGroupCommand.Delete.class));
+        order.verify(eventFacade).deleteGroupEvents(1L);
+        order.verify(eventGroupService).deleteGroup(eventGroup);
+        order.verify(eventGroupService).evictJoinCode(eventGroup.getJoinCode());
+    }
+
+    @Test
+    @DisplayName("그룹 삭제 - 이벤트를 지우는 사이 그룹이 바뀌어 충돌하면 그룹을 다시 읽고 남은 이벤트부터 다시 지운다")
+    void deleteGroup_conflict_restartsFromEvents() {
+        // given
+        Member leader = createTestMember();
+        EventGroup stale = EventGroup.create("소모임", "설명", null, leader);
+        EventGroup fresh = EventGroup.create("소모임", "설명", null, leader);
+        given(authService.getAuthenticatedMember()).willReturn(leader);
+        given(eventGroupService.getGroupForDeletion(any(EventGroupCommand.Delete.class))).willReturn(stale, fresh);
+        willThrow(new OptimisticLockingFailureException("version changed"))
+                .willDoNothing()
+                .given(eventGroupService).deleteGroup(any(EventGroup.class));
+
+        // when
+        eventGroupFacade.deleteGroup(EventGroupCriteria.Delete.create(1L));
+
+        // then
+        verify(eventFacade, times(2)).deleteGroupEvents(1L);
+        verify(eventGroupService).deleteGroup(stale);
+        verify(eventGroupService).deleteGroup(fresh);
+        verify(eventGroupService).evictJoinCode(fresh.getJoinCode());
+    }
+
+    @Test
+    @DisplayName("그룹 삭제 - 그룹장이 아니면 이벤트를 지우지 않는다")
+    void deleteGroup_nonLeader_doesNotDeleteEvents() {
+        // given
+        Member member = createTestMember();
+        given(authService.getAuthenticatedMember()).willReturn(member);
+        willThrow(new IllegalArgumentException("그룹장만이 그룹을 삭제할 수 있습니다"))
+                .given(eventGroupService).getGroupForDeletion(any(EventGroupCommand.Delete.class));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> eventGroupFacade.deleteGroup(EventGroupCriteria.Delete.create(1L)));
+        verify(eventFacade, never()).deleteGroupEvents(any());
+    }
+
     private Member createTestMember() {
         return Member.create("test@example.com", "password", "테스터", passwordEncoder);
     }
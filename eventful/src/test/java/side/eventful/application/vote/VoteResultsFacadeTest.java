@@ -0,0 +1,154 @@
+package side.eventful.application.vote;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import side.eventful.domain.fixture.MemberFixture;
+import side.eventful.domain.member.Member;
+import side.eventful.domain.vote.VoteParticipantLeft;
+import side.eventful.domain.vote.VoteResults;
+import side.eventful.domain.vote.VoteResultsChanged;
+import side.eventful.domain.vote.VoteResultsHub;
+import side.eventful.domain.vote.VoteResultsSubscriber;
+import side.eventful.domain.vote.VoteResultsSubscription;
+import side.eventful.domain.vote.VoteService;
+import side.eventful.domain.vote.VoteStatus;
+import side.eventful.infrastructure.security.config.TestPasswordEncoder;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class VoteResultsFacadeTest {
+
+    @Mock
+    private VoteService voteService;
+
+    @Mock
+    private VoteResultsHub resultsHub;
+
+    @Mock
+    private VoteResultsSubscriber subscriber;
+
+    @Mock
+    private VoteResultsSubscription subscription;
+
+    @InjectMocks
+    private VoteResultsFacade voteResultsFacade;
+
+    private final Member member = MemberFixture.createWithId(7L, "voter@test.com", "password", "voter", new TestPasswordEncoder());
+
+    @Test
+    @DisplayName("구독자를 먼저 등록한 뒤 현재 결과를 읽어 보낸다")
+    void subscribe_registersBeforeReadingResults() {
+        // given
+        VoteResults results = new VoteResults(1L, VoteStatus.IN_PROGRESS, List.of());
+        given(voteService.validateResultsViewer(1L, member)).willReturn(100L);
+        given(resultsHub.subscribe(subscriber, 1L, 100L, 7L)).willReturn(subscription);
+        given(voteService.findVoteResults(1L)).willReturn(Optional.of(results));
+
+        // when
+        voteResultsFacade.subscribe(1L, member, subscriber);
+
+        // then
+        InOrder inOrder = inOrder(resultsHub, voteService, subscription);
+        inOrder.verify(resultsHub).subscribe(subscriber, 1L, 100L, 7L);
+        inOrder.verify(voteService).findVoteResults(1L);
+        inOrder.verify(subscription).sendInitial(results);
+    }
+
+    @Test
+    @DisplayName("등록 뒤 투표가 사라졌으면 구독을 취소한다")
+    void subscribe_voteDeleted_cancelsSubscription() {
+        // given
+        given(voteService.validateResultsViewer(1L, member)).willReturn(100L);
+        given(resultsHub.subscribe(subscriber, 1L, 100L, 7L)).willReturn(subscription);
+        given(voteService.findVoteResults(1L)).willReturn(Optional.empty());
+
+        // when
+        voteResultsFacade.subscribe(1L, member, subscriber);
+
+        // then
+        verify(subscription).cancel();
+        verify(subscription, never()).sendInitial(any());
+    }
+
+    @Test
+    @DisplayName("조회 권한이 없으면 구독자를 등록하지 않는다")
+    void subscribe_notViewer_doesNotRegister() {
+        // given
+        given(voteService.validateResultsViewer(1L, member))
+            .willThrow(new IllegalArgumentException("이벤트 참여자만 투표 결과를 볼 수 있습니다."));
+
+        // when & then
+        assertThatThrownBy(() -> voteResultsFacade.subscribe(1L, member, subscriber))
+            .isInstanceOf(IllegalArgumentException.class);
+        verify(resultsHub, never()).subscribe(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("참여를 취소한 회원의 구독을 닫는다")
+    void onVoteParticipantLeft_closesMemberSubscriptions() {
+        // when
+        voteResultsFacade.onVoteParticipantLeft(new VoteParticipantLeft(100L, 7L));
+
+        // then
+        verify(resultsHub).closeMember(100L, 7L);
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 투표는 결과를 다시 읽지 않는다")
+    void onVoteResultsChanged_noSubscribers_skipsQuery() {
+        // given
+        given(resultsHub.hasSubscribers(1L)).willReturn(false);
+
+        // when
+        voteResultsFacade.onVoteResultsChanged(new VoteResultsChanged(1L));
+
+        // then
+        verify(voteService, never()).findVoteResults(anyLong());
+        verify(resultsHub, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("구독자가 있으면 최신 결과를 한 번 읽어 보낸다")
+    void onVoteResultsChanged_withSubscribers_publishesResults() {
+        // given
+        VoteResults results = new VoteResults(1L, VoteStatus.IN_PROGRESS, List.of());
+        given(resultsHub.hasSubscribers(1L)).willReturn(true);
+        given(voteService.findVoteResults(1L)).willReturn(Optional.of(results));
+
+        // when
+        voteResultsFacade.onVoteResultsChanged(new VoteResultsChanged(1L));
+
+        // then
+        verify(resultsHub).publish(results);
+    }
+
+    @Test
+    @DisplayName("삭제된 투표면 구독을 닫는다")
+    void onVoteResultsChanged_deletedVote_closesSubscriptions() {
+        // given
+        given(resultsHub.hasSubscribers(1L)).willReturn(true);
+        given(voteService.findVoteResults(1L)).willReturn(Optional.empty());
+
+        // when
+        voteResultsFacade.onVoteResultsChanged(new VoteResultsChanged(1L));
+
+        // then
+        verify(resultsHub).close(1L);
+        verify(resultsHub, never()).publish(any());
+    }
+}
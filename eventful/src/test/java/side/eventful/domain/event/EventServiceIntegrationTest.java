@@ -0,0 +1,235 @@
+package side.eventful.domain.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import side.eventful.PostgresIntegrationTestSupport;
+import side.eventful.domain.eventgroup.EventGroup;
+import side.eventful.domain.member.Member;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * EventService 통합 테스트 (PostgreSQL)
+ *
+ * <p>정원 조건부 UPDATE, 참여/취소 행 잠금, 참여자 JDBC 배치 INSERT, 타임라인/캘린더 조회를 실제 DB에서 확인합니다.</p>
+ */
+class EventServiceIntegrationTest extends PostgresIntegrationTestSupport {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Test
+    @DisplayName("동시에 참여해도 정원을 넘지 않고 나머지는 대기열에 들어간다")
+    void participate_concurrently_neverExceedsCapacity() throws Exception {
+        // given
+        Member creator = saveMember("creator");
+        Event event = saveEvent(saveGroup(creator), creator, 3, LocalDate.of(2025, 3, 15));
+        List<Callable<ParticipationStatus>> tasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Member member = saveMember("member" + i);
+            tasks.add(() -> eventService.participate(event, member));
+        }
+
+        // when
+        List<ParticipationStatus> statuses = runConcurrently(tasks);
+
+        // then
+        assertThat(statuses).filteredOn(ParticipationStatus.PARTICIPATING::equals).hasSize(2);
+        assertThat(statuses).filteredOn(ParticipationStatus.WAITLISTED::equals).hasSize(6);
+        assertThat(participantCount(event)).isEqualTo(3);
+        assertThat(countRows("event_participant", event)).isEqualTo(3);
+        assertThat(countRows("event_waitlist", event)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("취소와 참여가 동시에 들어와도 빈자리는 맨 앞 대기자에게 가고 새 참여자는 대기열에 선다")
+    void cancelAndParticipate_concurrently_promotesHeadFirst() throws Exception {
+        for (int round = 0; round < 5; round++) {
+            // given
+            Member creator = saveMember("creator" + round);
+            Member leaving = saveMember("leaving" + round);
+            Member waiting = saveMember("waiting" + round);
+            Member joining = saveMember("joining" + round);
+            Event event = saveEvent(saveGroup(creator), creator, 2, LocalDate.of(2025, 3, 15));
+            eventService.participate(event, leaving);
+            eventService.participate(event, waiting);
+            List<Callable<Void>> tasks = List.of(
+                () -> {
+                    eventService.cancelParticipation(event, leaving);
+                    return null;
+                },
+                () -> {
+                    eventService.participate(event, joining);
+                    return null;
+                }
+            );
+
+            // when
+            runConcurrently(tasks);
+
+            // then
+            assertThat(participantCount(event)).isEqualTo(2);
+            assertThat(memberIds("event_participant", event)).containsExactlyInAnyOrder(creator.getId(), waiting.getId());
+            assertThat(memberIds("event_waitlist", event)).containsExactly(joining.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("맨 앞 대기 항목의 회원이 이미 참여 중이면 그 항목을 지우고 다음 대기자를 승격한다")
+    void cancelParticipation_withStaleHead_promotesNext() {
+        // given
+        Member creator = saveMember("creator");
+        Member leaving = saveMember("leaving");
+        Member waiting = saveMember("waiting");
+        Event event = saveEvent(saveGroup(creator), creator, 2, LocalDate.of(2025, 3, 15));
+        eventService.participate(event, leaving);
+        eventRepository.addWaitlistEntry(EventWaitlistEntry.of(event, creator, LocalDateTime.now()));
+        eventService.participate(event, waiting);
+
+        // when
+        eventService.cancelParticipation(event, leaving);
+
+        // then
+        assertThat(participantCount(event)).isEqualTo(2);
+        assertThat(memberIds("event_participant", event)).containsExactlyInAnyOrder(creator.getId(), waiting.getId());
+        assertThat(countRows("event_waitlist", event)).isZero();
+    }
+
+    @Test
+    @DisplayName("대기자가 있으면 빈자리가 있어도 맨 앞 대기자만 바로 참여한다")
+    void participate_withWaitlist_onlyHeadTakesFreeSeat() {
+        // given
+        Member creator = saveMember("creator");
+        Member participant = saveMember("participant");
+        Member waiting = saveMember("waiting");
+        Member member = saveMember("member");
+        Event event = saveEvent(saveGroup(creator), creator, 2, LocalDate.of(2025, 3, 15));
+        eventService.participate(event, participant);
+        eventService.participate(event, waiting);
+        jdbcTemplate.update("UPDATE event SET max_participants = 3 WHERE id = ?", event.getId());
+
+        // when
+        ParticipationStatus memberStatus = eventService.participate(event, member);
+        ParticipationStatus waitingStatus = eventService.participate(event, waiting);
+
+        // then
+        assertThat(memberStatus).isEqualTo(ParticipationStatus.WAITLISTED);
+        assertThat(waitingStatus).isEqualTo(ParticipationStatus.PARTICIPATING);
+        assertThat(participantCount(event)).isEqualTo(3);
+        assertThat(memberIds("event_waitlist", event)).containsExactly(member.getId());
+    }
+
+    @Test
+    @DisplayName("일괄 등록은 참여 행을 한 번에 넣고 인원을 그만큼 올린다")
+    void addParticipants_insertsRowsAndIncreasesCount() {
+        // given
+        Member creator = saveMember("creator");
+        Event event = saveEvent(saveGroup(creator), creator, 10, LocalDate.of(2025, 3, 15));
+        List<Long> memberIds = IntStream.range(0, 4).mapToObj(i -> saveMember("member" + i).getId()).toList();
+        eventService.addParticipants(event, creator, memberIds.subList(0, 2));
+
+        // when
+        List<Long> added = eventService.addParticipants(event, creator, memberIds);
+
+        // then
+        assertThat(added).containsExactlyElementsOf(memberIds.subList(2, 4));
+        assertThat(participantCount(event)).isEqualTo(5);
+        assertThat(countRows("event_participant", event)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("대기 항목이 남아 있으면 자리가 있어도 일괄 등록하지 않고 인원도 그대로 둔다")
+    void addParticipants_withWaitlistEntry_keepsCount() {
+        // given
+        Member creator = saveMember("creator");
+        Member waiting = saveMember("waiting");
+        Member member = saveMember("member");
+        Event event = saveEvent(saveGroup(creator), creator, 10, LocalDate.of(2025, 3, 15));
+        eventRepository.addWaitlistEntry(EventWaitlistEntry.of(event, waiting, LocalDateTime.now()));
+
+        // when & then
+        assertThatThrownBy(() -> eventService.addParticipants(event, creator, List.of(member.getId())))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("대기 중인 회원이 있어 일괄 등록할 수 없습니다.");
+
+        assertThat(participantCount(event)).isEqualTo(1);
+        assertThat(countRows("event_participant", event)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("타임라인을 (날짜, ID) 순서로 빠짐없이 앞뒤로 넘긴다")
+    void getTimeline_pagesByDateAndId() {
+        // given
+        Member creator = saveMember("creator");
+        EventGroup eventGroup = saveGroup(creator);
+        Event third = saveEvent(eventGroup, creator, null, LocalDate.of(2025, 3, 20));
+        Event first = saveEvent(eventGroup, creator, null, LocalDate.of(2025, 3, 10));
+        Event second = saveEvent(eventGroup, creator, null, LocalDate.of(2025, 3, 10));
+        Event fourth = saveEvent(eventGroup, creator, null, LocalDate.of(2025, 3, 25));
+        saveEvent(saveGroup(creator), creator, null, LocalDate.of(2025, 3, 15));
+
+        // when
+        EventTimeline firstPage = eventService.getTimeline(
+            EventCommand.GetTimeline.of(eventGroup.getId(), null, null, null, null, 3));
+        EventTimeline lastPage = eventService.getTimeline(
+            EventCommand.GetTimeline.of(eventGroup.getId(), firstPage.nextCursor(), null, null, null, 3));
+        EventTimeline previousPage = eventService.getTimeline(
+            EventCommand.GetTimeline.of(eventGroup.getId(), null, lastPage.prevCursor(), null, null, 3));
+
+        // then
+        assertThat(firstPage.events()).extracting(EventSummary::eventId)
+            .containsExactly(first.getId(), second.getId(), third.getId());
+        assertThat(lastPage.events()).extracting(EventSummary::eventId).containsExactly(fourth.getId());
+        assertThat(lastPage.nextCursor()).isNull();
+        assertThat(previousPage.events()).extracting(EventSummary::eventId)
+            .containsExactly(first.getId(), second.getId(), third.getId());
+        assertThat(previousPage.prevCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("캘린더는 여러 그룹에서 참여 중인 이벤트를 기간 안에서만 날짜순으로 돌려준다")
+    void getCalendar_acrossGroupsWithinRange() {
+        // given
+        Member creator = saveMember("creator");
+        Member member = saveMember("member");
+        Event later = saveEvent(saveGroup(creator), creator, null, LocalDate.of(2025, 3, 20));
+        Event earlier = saveEvent(saveGroup(creator), creator, null, LocalDate.of(2025, 3, 5));
+        Event outOfRange = saveEvent(saveGroup(creator), creator, null, LocalDate.of(2025, 5, 1));
+        saveEvent(saveGroup(creator), creator, null, LocalDate.of(2025, 3, 10));
+        eventService.participate(later, member);
+        eventService.participate(earlier, member);
+        eventService.participate(outOfRange, member);
+
+        // when
+        List<EventCalendarEntry> calendar = eventService.getCalendar(
+            EventCommand.GetCalendar.of(member.getId(), LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31)));
+
+        // then
+        assertThat(calendar).extracting(EventCalendarEntry::eventId).containsExactly(earlier.getId(), later.getId());
+        assertThat(calendar).extracting(EventCalendarEntry::role).containsOnly(ParticipantRole.PARTICIPANT);
+    }
+
+    private int participantCount(Event event) {
+        return jdbcTemplate.queryForObject("SELECT participant_count FROM event WHERE id = ?", Integer.class, event.getId());
+    }
+
+    private List<Long> memberIds(String table, Event event) {
+        return jdbcTemplate.queryForList("SELECT member_id FROM " + table + " WHERE event_id = ? ORDER BY id", Long.class, event.getId());
+    }
+
+    private int countRows(String table, Event event) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE event_id = ?", Integer.class, event.getId());
+    }
+}
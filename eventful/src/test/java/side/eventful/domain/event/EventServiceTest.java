@@ -5,9 +5,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import side.eventful.domain.eventgroup.EventGroup;
 import side.eventful.domain.fixture.MemberFixture;
@@ -15,10 +17,17 @@ import side.eventful.domain.member.Member;
 import side.eventful.infrastructure.security.config.TestPasswordEncoder;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -33,14 +42,26 @@ class EventServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EventParticipantLookup participantLookup;
+
     @InjectMocks
     private EventService eventService;
 
     private final PasswordEncoder passwordEncoder = new TestPasswordEncoder();
+    private Member creator;
+    private Member member;
+    private Member waiting;
 
     @BeforeEach
     void setUp() {
         MemberFixture.resetSequence();
+        creator = MemberFixture.createWithId("creator@test.com", "password", "creator", passwordEncoder);
+        member = MemberFixture.createWithId("member@test.com", "password", "member", passwordEncoder);
+        waiting = MemberFixture.createWithId("waiting@test.com", "password", "waiting", passwordEncoder);
     }
 
     @Nested
@@ -160,5 +181,425 @@ class EventServiceTest {
             assertThat(result.getPlaceId()).isNull();
         }
     }
+
+    @Nested
+    @DisplayName("이벤트 참여")
+    class Participate {
+
+        @Test
+        @DisplayName("정원이 남아 있으면 인원을 증가시키고 참여 행을 넣는다")
+        void participate_withRemainingCapacity_success() {
+            // given
+            Event event = createEvent(creator, 10);
+
+            given(eventRepository.findByIdForUpdate(event.getId())).willReturn(Optional.of(event));
+            given(eventRepository.existsParticipant(event.getId(), member.getId())).willReturn(false);
+            given(eventRepository.increaseParticipantCountFor(event.getId(), member.getId())).willReturn(1);
+            given(eventRepository.addParticipant(any(EventParticipant.class))).willReturn(true);
+
+            // when
+            ParticipationStatus status = eventService.participate(event, member);
+
+            // then
+            assertThat(status).isEqualTo(ParticipationStatus.PARTICIPATING);
+            verify(eventRepository).addParticipant(any(EventParticipant.class));
+            verify(eventRepository, never()).addWaitlistEntry(any());
+        }
+
+        @Test
+        @DisplayName("이미 참여 중이면 인원을 증가시키지 않고 예외가 발생한다")
+        void participate_alreadyParticipating_throwsException() {
+            // given
+            Event event = createEvent(creator, 10);
+
+            given(eventRepository.findByIdForUpdate(event.getId())).willReturn(Optional.of(event));
+            given(eventRepository.existsParticipant(event.getId(), member.getId())).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> eventService.participate(event, member))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 참여 중인 회원입니다.");
+
+            verify(eventRepository, never()).increaseParticipantCountFor(any(), any());
+        }
+
+        @Test
+        @DisplayName("정원이 찼으면 대기열에 등록한다")
+        void participate_whenFull_joinsWaitlist() {
+            // given
+            Event event = createEvent(creator, 1);
+
+            given(eventRepository.findByIdForUpdate(event.getId())).willReturn(Optional.of(event));
+            given(eventRepository.existsParticipant(event.getId(), member.getId())).willReturn(false);
+            given(eventRepository.increaseParticipantCountFor(event.getId(), member.getId())).willReturn(0);
+            given(eventRepository.addWaitlistEntry(any(EventWaitlistEntry.class))).willReturn(true);
+
+            // when
+            ParticipationStatus status = eventService.participate(event, member);
+
+            // then
+            assertThat(status).isEqualTo(ParticipationStatus.WAITLISTED);
+            verify(eventRepository, never()).addParticipant(any());
+        }
+
+        @Test
+        @DisplayName("이미 대기 중인 회원이 다시 요청하면 예외가 발생한다")
+        void participate_alreadyWaitlisted_throwsException() {
+            // given
+            Event event = createEvent(creator, 1);
+
+            given(eventRepository.findByIdForUpdate(event.getId())).willReturn(Optional.of(event));
+            given(eventRepository.existsParticipant(event.getId(), member.getId())).willReturn(false);
+            given(eventRepository.increaseParticipantCountFor(event.getId(), member.getId())).willReturn(0);
+            given(eventRepository.addWaitlistEntry(any(EventWaitlistEntry.class))).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> eventService.participate(event, member))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 대기 중인 회원입니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("참여자 일괄 등록")
+    class AddParticipants {
+
+        @Test
+        @DisplayName("이미 참여 중인 회원을 빼고 한 번에 등록한다")
+        void addParticipants_skipsExistingParticipants() {
+            // given
+            Event event = createEvent(creator, 10);
+
+            given(eventRepository.findByIdForUpdate(event.getId())).willReturn(Optional.of(event));
+            given(eventRepository.findParticipantMemberIds(event.getId(), List.of(2L, 3L, 4L))).willReturn(Set.of(3L));
+            given(eventRepository.increaseParticipantCount(event.getId(), 2)).willReturn(1);
+            given(eventRepository.addParticipants(any(), any(), any(), any())).willReturn(true);
+
+            // when
+            List<Long> added = eventService.addParticipants(event, creator, List.of(2L, 3L, 4L));
+
+            // then
+            assertThat(added).containsExactly(2L, 4L);
+            verify(eventRepository).addParticipants(any(), any(), any(), any());
+            verify(eventRepository).deleteWaitlistEntries(event.getId(), List.of(2L, 4L));
+        }
+
+        @Test
+        @DisplayName("남은 자리가 모자라면 한 명도 등록하지 않는다")
+        void addParticipants_overCapacity_throwsException() {
+            // given
+            Event event = createEvent(creator, 2);
+
+            given(eventRepository.findByIdForUpdate(event.getId())).willReturn(Optional.of(event));
+            given(eventRepository.findParticipantMemberIds(event.getId(), List.of(2L, 3L))).willReturn(Set.of());
+            given(eventRepository.increaseParticipantCount(event.getId(), 2)).willReturn(0);
+            given(eventRepository.findWaitlistHead(event.getId())).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> eventService.addParticipants(event, creator, List.of(2L, 3L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("남은 자리보다 많은 회원을 등록할 수 없습니다.");
+
+            verify(eventRepository, never()).addParticipants(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("대기 중인 회원이 있으면 대기열을 앞지르지 않도록 한 명도 등록하지 않는다")
+        void addParticipants_withWaitlist_throwsException() {
+            // given
+            Event event = createEvent(creator, 10);
+
+            given(eventRepository.findByIdForUpdate(event.getId())).willReturn(Optional.of(event));
+            given(eventRepository.findParticipantMemberIds(event.getId(), List.of(2L))).willReturn(Set.of());
+            given(eventRepository.increaseParticipantCount(event.getId(), 1)).willReturn(0);
+            given(eventRepository.findWaitlistHead(event.getId()))
+                .willReturn(Optional.of(EventWaitlistEntry.of(event, waiting, LocalDateTime.now())));
+
+            // when & then
+            assertThatThrownBy(() -> eventService.addParticipants(event, creator, List.of(2L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("대기 중인 회원이 있어 일괄 등록할 수 없습니다.");
+
+            verify(eventRepository, never()).addParticipants(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("이벤트 생성자가 아니면 예외가 발생한다")
+        void addParticipants_byNonCreator_throwsException() {
+            // given
+            Event event = createEvent(creator, 10);
+
+            // when & then
+            assertThatThrownBy(() -> eventService.addParticipants(event, member, List.of(3L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이벤트 생성자만 참여자를 일괄 등록할 수 있습니다.");
+
+            verify(eventRepository, never()).increaseParticipantCount(any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("이벤트 참여 취소")
+    class CancelParticipation {
+
+        @Test
+        @DisplayName("대기자가 없으면 참여 행을 지우고 인원을 감소시킨다")
+        void cancelParticipation_withoutWaitlist_decreasesCount() {
+            // given
+            Event event = createEvent(creator, 10);
+
+            given(eventRepository.findByIdForUpdate(event.getId())).willReturn(Optional.of(event));
+            given(eventRepository.deleteParticipant(event.getId(), member.getId())).willReturn(1);
+            given(eventRepository.findWaitlistHead(event.getId())).willReturn(Optional.empty());
+
+            // when
+            eventService.cancelParticipation(event, member);
+
+            // then
+            verify(eventRepository).decreaseParticipantCount(event.getId());
+            verify(participantLookup).evict(event.getId());
+        }
+
+        @Test
+        @DisplayName("대기자가 있으면 맨 앞 대기자를 승격하고 인원은 그대로 둔다")
+        void cancelParticipation_withWaitlist_promotesHead() {
+            // given
+            Event event = createEvent(creator, 2);
+            EventWaitlistEntry head = EventWaitlistEntry.of(event, waiting, LocalDateTime.now());
+
+            given(eventRepository.findByIdForUpdate(event.getId())).willReturn(Optional.of(event));
+            given(eventRepository.deleteParticipant(event.getId(), member.getId())).willReturn(1);
+            given(eventRepository.findWaitlistHead(event.getId())).willReturn(Optional.of(head));
+            given(eventRepository.existsParticipant(event.getId(), waiting.getId())).willReturn(false);
+            given(eventRepository.addParticipant(any(EventParticipant.class))).willReturn(true);
+
+            // when
+            eventService.cancelParticipation(event, member);
+
+            // then
+            ArgumentCaptor<EventParticipant> captor = ArgumentCaptor.forClass(EventParticipant.class);
+            verify(eventRepository).addParticipant(captor.capture());
+            assertThat(captor.getValue().getMember()).isEqualTo(waiting);
+            verify(eventRepository).removeWaitlistEntry(head.getId());
+            verify(eventRepository, never()).decreaseParticipantCount(any());
+        }
+
+        @Test
+        @DisplayName("맨 앞 대기자가 이미 참여 중이면 그 항목만 지우고 다음 대기자를 승격한다")
+        void cancelParticipation_withStaleHead_promotesNext() {
+            // given
+            Event event = createEvent(creator, 2);
+            Member next = MemberFixture.createWithId("next@test.com", "password", "next", passwordEncoder);
+            EventWaitlistEntry stale = EventWaitlistEntry.of(event, waiting, LocalDateTime.now());
+            EventWaitlistEntry nextEntry = EventWaitlistEntry.of(event, next, LocalDateTime.now());
+
+            given(eventRepository.findByIdForUpdate(event.getId())).willReturn(Optional.of(event));
+            given(eventRepository.deleteParticipant(event.getId(), member.getId())).willReturn(1);
+            given(eventRepository.findWaitlistHead(event.getId())).willReturn(Optional.of(stale), Optional.of(nextEntry));
+            given(eventRepository.existsParticipant(event.getId(), waiting.getId())).willReturn(true);
+            given(eventRepository.existsParticipant(event.getId(), next.getId())).willReturn(false);
+            given(eventRepository.addParticipant(any(EventParticipant.class))).willReturn(true);
+
+            // when
+            eventService.cancelParticipation(event, member);
+
+            // then
+            ArgumentCaptor<EventParticipant> captor = ArgumentCaptor.forClass(EventParticipant.class);
+            verify(eventRepository).addParticipant(captor.capture());
+            assertThat(captor.getValue().getMember()).isEqualTo(next);
+            verify(eventRepository, never()).decreaseParticipantCount(any());
+        }
+
+        @Test
+        @DisplayName("대기 중인 회원이 취소하면 대기열에서만 빠진다")
+        void cancelParticipation_byWaitlistedMember_leavesWaitlist() {
+            // given
+            Event event = createEvent(creator, 1);
+
+            given(eventRepository.findByIdForUpdate(event.getId())).willReturn(Optional.of(event));
+            given(eventRepository.deleteParticipant(event.getId(), member.getId())).willReturn(0);
+            given(eventRepository.deleteWaitlistEntry(event.getId(), member.getId())).willReturn(1);
+
+            // when
+            eventService.cancelParticipation(event, member);
+
+            // then
+            verify(eventRepository, never()).findWaitlistHead(any());
+            verify(eventRepository, never()).decreaseParticipantCount(any());
+        }
+
+        @Test
+        @DisplayName("참여하지 않은 회원이 취소하면 예외가 발생한다")
+        void cancelParticipation_withNonParticipant_throwsException() {
+            // given
+            Event event = createEvent(creator, 10);
+
+            given(eventRepository.findByIdForUpdate(event.getId())).willReturn(Optional.of(event));
+            given(eventRepository.deleteParticipant(event.getId(), member.getId())).willReturn(0);
+            given(eventRepository.deleteWaitlistEntry(event.getId(), member.getId())).willReturn(0);
+
+            // when & then
+            assertThatThrownBy(() -> eventService.cancelParticipation(event, member))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("참여하지 않은 회원입니다.");
+
+            verify(eventRepository, never()).decreaseParticipantCount(any());
+        }
+
+        @Test
+        @DisplayName("이벤트 생성자는 참여를 취소할 수 없다")
+        void cancelParticipation_byCreator_throwsException() {
+            // given
+            Event event = createEvent(creator, 10);
+
+            // when & then
+            assertThatThrownBy(() -> eventService.cancelParticipation(event, creator))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이벤트 생성자는 참여를 취소할 수 없습니다.");
+
+            verify(eventRepository, never()).deleteParticipant(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("내 일정 조회")
+    class GetCalendar {
+
+        @Test
+        @DisplayName("날짜 범위로 참여 중인 이벤트를 한 번에 조회한다")
+        void getCalendar_withRange_queriesOnce() {
+            // given
+            LocalDate from = LocalDate.of(2025, 3, 1);
+            LocalDate to = LocalDate.of(2025, 3, 31);
+            EventCalendarEntry entry = new EventCalendarEntry(
+                1L, 10L, "여행 모임", "제주도 여행", LocalDate.of(2025, 3, 15), null, ParticipantRole.PARTICIPANT);
+            given(eventRepository.findCalendar(7L, from, to)).willReturn(List.of(entry));
+
+            // when
+            List<EventCalendarEntry> result = eventService.getCalendar(EventCommand.GetCalendar.of(7L, from, to));
+
+            // then
+            assertThat(result).containsExactly(entry);
+        }
+
+        @Test
+        @DisplayName("종료일이 없으면 시작일로부터 한 달을 조회한다")
+        void getCalendar_withoutTo_defaultsToOneMonth() {
+            // given
+            LocalDate from = LocalDate.of(2025, 3, 1);
+            given(eventRepository.findCalendar(7L, from, LocalDate.of(2025, 4, 1))).willReturn(List.of());
+
+            // when
+            List<EventCalendarEntry> result = eventService.getCalendar(EventCommand.GetCalendar.of(7L, from, null));
+
+            // then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("조회 기간이 366일을 넘으면 예외가 발생한다")
+        void getCalendar_tooLongRange_throwsException() {
+            // when & then
+            assertThatThrownBy(() -> eventService.getCalendar(EventCommand.GetCalendar.of(
+                7L, LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 3))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("조회 기간은 최대 366일입니다");
+
+            verify(eventRepository, never()).findCalendar(any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("이벤트 타임라인 조회")
+    class GetTimeline {
+
+        private static final LocalDate MIN = LocalDate.of(1, 1, 1);
+        private static final LocalDate MAX = LocalDate.of(9999, 12, 31);
+
+        @Test
+        @DisplayName("첫 페이지에서 한 개를 더 읽으면 다음 커서를 돌려준다")
+        void getTimeline_firstPage_returnsNextCursor() {
+            // given
+            given(eventRepository.findTimelineFirst(10L, MIN, MAX, 3))
+                .willReturn(List.of(summary(1L, 1), summary(2L, 2), summary(3L, 3)));
+
+            // when
+            EventTimeline result = eventService.getTimeline(EventCommand.GetTimeline.of(10L, null, null, null, null, 2));
+
+            // then
+            assertThat(result.events()).extracting(EventSummary::eventId).containsExactly(1L, 2L);
+            assertThat(result.prevCursor()).isNull();
+            assertThat(result.nextCursor()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("after 커서로 마지막 페이지를 읽으면 다음 커서 없이 이전 커서만 돌려준다")
+        void getTimeline_afterCursor_lastPage() {
+            // given
+            EventSummary cursor = summary(2L, 2);
+            given(eventRepository.findSummary(2L)).willReturn(Optional.of(cursor));
+            given(eventRepository.findTimelineAfter(10L, MIN, MAX, cursor, 3))
+                .willReturn(List.of(summary(3L, 3)));
+
+            // when
+            EventTimeline result = eventService.getTimeline(EventCommand.GetTimeline.of(10L, 2L, null, null, null, 2));
+
+            // then
+            assertThat(result.events()).extracting(EventSummary::eventId).containsExactly(3L);
+            assertThat(result.prevCursor()).isEqualTo(3L);
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("before 커서로 읽으면 커서 바로 앞 이벤트를 날짜순으로 돌려준다")
+        void getTimeline_beforeCursor_returnsPrecedingPage() {
+            // given
+            EventSummary cursor = summary(4L, 4);
+            given(eventRepository.findSummary(4L)).willReturn(Optional.of(cursor));
+            given(eventRepository.findTimelineBefore(10L, MIN, MAX, cursor, 3))
+                .willReturn(List.of(summary(1L, 1), summary(2L, 2), summary(3L, 3)));
+
+            // when
+            EventTimeline result = eventService.getTimeline(EventCommand.GetTimeline.of(10L, null, 4L, null, null, 2));
+
+            // then
+            assertThat(result.events()).extracting(EventSummary::eventId).containsExactly(2L, 3L);
+            assertThat(result.prevCursor()).isEqualTo(2L);
+            assertThat(result.nextCursor()).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("다른 그룹의 이벤트를 커서로 쓰면 예외가 발생한다")
+        void getTimeline_cursorFromOtherGroup_throwsException() {
+            // given
+            given(eventRepository.findSummary(99L)).willReturn(Optional.of(
+                new EventSummary(99L, 20L, "다른 그룹", "설명", null, 1, LocalDate.of(2025, 1, 1), null)));
+
+            // when & then
+            assertThatThrownBy(() -> eventService.getTimeline(EventCommand.GetTimeline.of(10L, 99L, null, null, null, 20)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다");
+        }
+
+        @Test
+        @DisplayName("시작일이 종료일보다 늦으면 예외가 발생한다")
+        void getTimeline_invalidDateRange_throwsException() {
+            assertThatThrownBy(() -> eventService.getTimeline(EventCommand.GetTimeline.of(
+                10L, null, null, LocalDate.of(2025, 5, 1), LocalDate.of(2025, 4, 1), 20)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("조회 시작일은 종료일보다 늦을 수 없습니다");
+        }
+
+        private EventSummary summary(Long eventId, int dayOfMonth) {
+            return new EventSummary(eventId, 10L, "이벤트 " + eventId, "설명", null, 1,
+                LocalDate.of(2025, 3, dayOfMonth), null);
+        }
+    }
+
+    private Event createEvent(Member creator, Integer maxParticipants) {
+        EventGroup eventGroup = EventGroup.create("테스트 그룹", "설명", null, creator);
+        return Event.create(eventGroup, "제주도 여행", "2박 3일 제주도 여행", maxParticipants,
+            LocalDate.of(2025, 3, 15), null, creator);
+    }
 }
 
@@ -5,10 +5,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import side.eventful.domain.member.Member;
 import side.eventful.domain.member.MemberRepository;
+import side.eventful.global.transaction.RetryOnConflictExecutor;
+import side.eventful.global.transaction.TestRetryOnConflictExecutor;
 import side.eventful.infrastructure.security.config.TestPasswordEncoder;
 
 import java.util.Optional;
@@ -29,6 +32,9 @@ class EventGroupRemoveMemberTest {
 
     private PasswordEncoder passwordEncoder = new TestPasswordEncoder();
 
+    @Spy
+    private RetryOnConflictExecutor retryExecutor = new TestRetryOnConflictExecutor();
+
     @InjectMocks
     private EventGroupService eventGroupService;
 
@@ -41,7 +47,7 @@ class EventGroupRemoveMemberTest {
         EventGroup eventGroup = EventGroup.create("소모임", "설명", "https://example.com/image.jpg", leader);
         eventGroup.joinMember(targetMember, eventGroup.getJoinPassword());
 
-        given(eventGroupRepository.findById(1L))
+        given(eventGroupRepository.findByIdWithVersionIncrement(1L))
                 .willReturn(Optional.of(eventGroup));
         given(memberRepository.findById(2L))
                 .willReturn(Optional.of(targetMember));
@@ -54,7 +60,7 @@ class EventGroupRemoveMemberTest {
         eventGroupService.removeMember(command);
 
         // then
-        verify(eventGroupRepository).findById(1L);
+        verify(eventGroupRepository).findByIdWithVersionIncrement(1L);
         verify(memberRepository).findById(2L);
         verify(eventGroupRepository).save(eventGroup);
     }
@@ -66,12 +72,12 @@ class EventGroupRemoveMemberTest {
         Member leader = Member.create("leader@test.com", "password", "그룹장", passwordEncoder);
         EventGroupCommand.RemoveMember command = EventGroupCommand.RemoveMember.create(999L, 2L, leader);
 
-        given(eventGroupRepository.findById(999L))
+        given(eventGroupRepository.findByIdWithVersionIncrement(999L))
                 .willReturn(Optional.empty());
 
         // when, then
         assertThrows(IllegalArgumentException.class, () -> eventGroupService.removeMember(command));
-        verify(eventGroupRepository).findById(999L);
+        verify(eventGroupRepository).findByIdWithVersionIncrement(999L);
     }
 
     @Test
@@ -81,7 +87,7 @@ class EventGroupRemoveMemberTest {
         Member leader = Member.create("leader@test.com", "password", "그룹장", passwordEncoder);
         EventGroup eventGroup = EventGroup.create("소모임", "설명", "https://example.com/image.jpg", leader);
 
-        given(eventGroupRepository.findById(1L))
+        given(eventGroupRepository.findByIdWithVersionIncrement(1L))
                 .willReturn(Optional.of(eventGroup));
         given(memberRepository.findById(999L))
                 .willReturn(Optional.empty());
@@ -90,7 +96,7 @@ class EventGroupRemoveMemberTest {
 
         // when, then
         assertThrows(IllegalArgumentException.class, () -> eventGroupService.removeMember(command));
-        verify(eventGroupRepository).findById(1L);
+        verify(eventGroupRepository).findByIdWithVersionIncrement(1L);
         verify(memberRepository).findById(999L);
     }
 
@@ -105,7 +111,7 @@ class EventGroupRemoveMemberTest {
         eventGroup.joinMember(normalMember, eventGroup.getJoinPassword());
         eventGroup.joinMember(targetMember, eventGroup.getJoinPassword());
 
-        given(eventGroupRepository.findById(1L))
+        given(eventGroupRepository.findByIdWithVersionIncrement(1L))
                 .willReturn(Optional.of(eventGroup));
         given(memberRepository.findById(3L))
                 .willReturn(Optional.of(targetMember));
@@ -123,7 +129,7 @@ class EventGroupRemoveMemberTest {
         Member leader = Member.create("leader@test.com", "password", "그룹장", passwordEncoder);
         EventGroup eventGroup = EventGroup.create("소모임", "설명", "https://example.com/image.jpg", leader);
 
-        given(eventGroupRepository.findById(1L))
+        given(eventGroupRepository.findByIdWithVersionIncrement(1L))
                 .willReturn(Optional.of(eventGroup));
         given(memberRepository.findById(1L))
                 .willReturn(Optional.of(leader));
@@ -5,17 +5,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import side.eventful.domain.fixture.MemberFixture;
 import side.eventful.domain.member.Member;
+import side.eventful.global.transaction.RetryOnConflictExecutor;
+import side.eventful.global.transaction.TestRetryOnConflictExecutor;
 import side.eventful.infrastructure.security.config.TestPasswordEncoder;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,8 +37,17 @@ class EventGroupServiceTest {
     @Mock
     private side.eventful.domain.member.MemberRepository memberRepository;
 
+    @Mock
+    private JoinCodeAllocator joinCodeAllocator;
+
+    @Mock
+    private JoinCodeCache joinCodeCache;
+
     private PasswordEncoder passwordEncoder = new TestPasswordEncoder();
 
+    @Spy
+    private RetryOnConflictExecutor retryExecutor = new TestRetryOnConflictExecutor();
+
     @InjectMocks
     private EventGroupService eventGroupService;
 
@@ -75,6 +94,63 @@ class EventGroupServiceTest {
         assertThrows(RuntimeException.class, () -> eventGroupService.create(command));
     }
 
+    @Test
+    @DisplayName("그룹 생성 - 초대 코드가 다른 그룹과 겹치면 새 코드로 다시 저장한다")
+    void create_withJoinCodeCollision_retriesWithNewCode() {
+        // given
+        Member leader = Member.create("test@test.com", "password", "nickname", passwordEncoder);
+        EventGroupCommand.Create command = EventGroupCommand.Create.create("제주도 여행", "2박 3일 여행", "https://example.com/image.jpg", leader);
+
+        given(joinCodeAllocator.allocate()).willReturn("AAAA1111", "BBBB2222");
+        given(eventGroupRepository.save(any(EventGroup.class)))
+                .willThrow(new DataIntegrityViolationException("join_code 중복"))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        given(eventGroupRepository.findExistingJoinCodes(Set.of("AAAA1111"))).willReturn(Set.of("AAAA1111"));
+
+        // when
+        EventGroup result = eventGroupService.create(command);
+
+        // then
+        assertThat(result.getJoinCode()).isEqualTo("BBBB2222");
+        verify(joinCodeCache).evict("BBBB2222");
+        verify(joinCodeCache, never()).evict("AAAA1111");
+    }
+
+    @Test
+    @DisplayName("그룹 생성 - 초대 코드와 무관한 무결성 위반은 다시 시도하지 않고 던진다")
+    void create_withOtherIntegrityViolation_throwsException() {
+        // given
+        Member leader = Member.create("test@test.com", "password", "nickname", passwordEncoder);
+        EventGroupCommand.Create command = EventGroupCommand.Create.create("제주도 여행", "2박 3일 여행", "https://example.com/image.jpg", leader);
+
+        given(joinCodeAllocator.allocate()).willReturn("AAAA1111");
+        given(eventGroupRepository.save(any(EventGroup.class)))
+                .willThrow(new DataIntegrityViolationException("FK 위반"));
+        given(eventGroupRepository.findExistingJoinCodes(Set.of("AAAA1111"))).willReturn(Set.of());
+
+        // when, then
+        assertThrows(DataIntegrityViolationException.class, () -> eventGroupService.create(command));
+        verify(joinCodeAllocator).allocate();
+    }
+
+    @Test
+    @DisplayName("그룹 생성 - 초대 코드가 계속 겹치면 정해진 횟수 뒤에 실패한다")
+    void create_withRepeatedJoinCodeCollisions_throwsException() {
+        // given
+        Member leader = Member.create("test@test.com", "password", "nickname", passwordEncoder);
+        EventGroupCommand.Create command = EventGroupCommand.Create.create("제주도 여행", "2박 3일 여행", "https://example.com/image.jpg", leader);
+
+        given(joinCodeAllocator.allocate()).willReturn("AAAA1111");
+        given(eventGroupRepository.save(any(EventGroup.class)))
+                .willThrow(new DataIntegrityViolationException("join_code 중복"));
+        given(eventGroupRepository.findExistingJoinCodes(Set.of("AAAA1111"))).willReturn(Set.of("AAAA1111"));
+
+        // when, then
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> eventGroupService.create(command));
+        assertThat(exception.getMessage()).isEqualTo("초대 코드 발급에 실패했습니다. 잠시 후 다시 시도해주세요.");
+        verify(eventGroupRepository, times(3)).save(any(EventGroup.class));
+    }
+
     @Test
     @DisplayName("그룹 생성 - 유효하지 않은 그룹 이름으로 도메인 오류")
     void create_withInvalidGroupName_throwsException() {
@@ -135,15 +211,14 @@ class EventGroupServiceTest {
     @DisplayName("그룹 참여 - 정상 케이스")
     void joinGroup_withValidInput_success() {
         // given
-        Member leader = Member.create("leader@test.com", "password", "그룹장", passwordEncoder);
-        Member member = Member.create("member@test.com", "password", "참여자", passwordEncoder);
+        Member leader = MemberFixture.createWithId(1L, "leader@test.com", "password", "그룹장", passwordEncoder);
+        Member member = MemberFixture.createWithId(2L, "member@test.com", "password", "참여자", passwordEncoder);
         EventGroup eventGroup = EventGroup.create("소모임", "설명", "https://example.com/image.jpg", leader);
 
         given(eventGroupRepository.findById(1L))
                 .willReturn(Optional.of(eventGroup));
-        given(eventGroupRepository.save(any(EventGroup.class)))
-                .willReturn(eventGroup);
-
+        given(eventGroupRepository.existsMembership(1L, 2L))
+                .willReturn(false);
         EventGroupCommand.Join command = EventGroupCommand.Join.create(1L, member, eventGroup.getJoinPassword());
 
         // when
@@ -151,7 +226,32 @@ class EventGroupServiceTest {
 
         // then
         verify(eventGroupRepository).findById(1L);
-        verify(eventGroupRepository).save(eventGroup);
+        verify(eventGroupRepository).addMembership(any(EventGroupMember.class));
+        verify(eventGroupRepository, org.mockito.Mockito.never()).save(any(EventGroup.class));
+    }
+
+    @Test
+    @DisplayName("그룹 참여 - 이미 가입된 회원이면 예외가 발생한다")
+    void joinGroup_withAlreadyJoinedMember_throwsException() {
+        // given
+        Member leader = MemberFixture.createWithId(1L, "leader@test.com", "password", "그룹장", passwordEncoder);
+        Member member = MemberFixture.createWithId(2L, "member@test.com", "password", "참여자", passwordEncoder);
+        EventGroup eventGroup = EventGroup.create("소모임", "설명", "https://example.com/image.jpg", leader);
+
+        given(eventGroupRepository.findById(1L))
+                .willReturn(Optional.of(eventGroup));
+        given(eventGroupRepository.existsMembership(1L, 2L))
+                .willReturn(true);
+
+        EventGroupCommand.Join command = EventGroupCommand.Join.create(1L, member, eventGroup.getJoinPassword());
+
+        // when, then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> eventGroupService.joinGroup(command)
+        );
+        assertThat(exception.getMessage()).isEqualTo("이미 그룹에 가입된 회원입니다");
+        verify(eventGroupRepository, org.mockito.Mockito.never()).addMembership(any(EventGroupMember.class));
     }
 
     @Test
@@ -191,22 +291,20 @@ class EventGroupServiceTest {
     void verifyJoinCode_WithValidCode_ShouldReturnEventGroup() {
         // given
         String joinCode = "ABC12345";
-        Member leader = Member.create("test@example.com", "password", "TestUser", passwordEncoder);
-        EventGroup eventGroup = EventGroup.create("TestGroup", "Test Description", null, leader);
-
         EventGroupCommand.VerifyCode command = EventGroupCommand.VerifyCode.create(joinCode);
 
-        given(eventGroupRepository.findByJoinCode(joinCode)).willReturn(Optional.of(eventGroup));
+        givenJoinCodeCacheMiss(joinCode);
+        given(eventGroupRepository.findJoinCodeGroup(joinCode))
+                .willReturn(Optional.of(new JoinCodeGroup(1L, "TestGroup", "Test Description")));
 
         // when
-        EventGroup result = eventGroupService.verifyJoinCode(command);
+        JoinCodeGroup result = eventGroupService.verifyJoinCode(command);
 
         // then
         assertThat(result).isNotNull();
-        assertThat(result.getName()).isEqualTo("TestGroup");
-        assertThat(result.getDescription()).isEqualTo("Test Description");
-        assertThat(result.getJoinCode()).isNotNull();
-        assertThat(result.getJoinCode()).hasSize(8);
+        assertThat(result.groupId()).isEqualTo(1L);
+        assertThat(result.name()).isEqualTo("TestGroup");
+        assertThat(result.description()).isEqualTo("Test Description");
     }
 
     @Test
@@ -217,7 +315,8 @@ class EventGroupServiceTest {
 
         EventGroupCommand.VerifyCode command = EventGroupCommand.VerifyCode.create(invalidJoinCode);
 
-        given(eventGroupRepository.findByJoinCode(invalidJoinCode)).willReturn(Optional.empty());
+        givenJoinCodeCacheMiss(invalidJoinCode);
+        given(eventGroupRepository.findJoinCodeGroup(invalidJoinCode)).willReturn(Optional.empty());
 
         // when & then
         IllegalArgumentException exception = assertThrows(
@@ -229,14 +328,14 @@ class EventGroupServiceTest {
     }
 
     @Test
-    @DisplayName("존재하지 않는 그룹 ID로 joinCode 검증 시 예외가 발생한다")
-    void verifyJoinCode_WithNonExistentGroup_ShouldThrowException() {
+    @DisplayName("캐시에 없는 코드로 기록된 joinCode는 DB 조회 없이 예외가 발생한다")
+    void verifyJoinCode_WithNegativelyCachedCode_ShouldThrowWithoutQuery() {
         // given
         String nonExistentJoinCode = "NOGROUP1";
 
         EventGroupCommand.VerifyCode command = EventGroupCommand.VerifyCode.create(nonExistentJoinCode);
 
-        given(eventGroupRepository.findByJoinCode(nonExistentJoinCode)).willReturn(Optional.empty());
+        given(joinCodeCache.get(eq(nonExistentJoinCode), any())).willReturn(Optional.empty());
 
         // when & then
         IllegalArgumentException exception = assertThrows(
@@ -245,111 +344,111 @@ class EventGroupServiceTest {
         );
 
         assertThat(exception.getMessage()).isEqualTo("유효하지 않은 참가 코드입니다");
+        verify(eventGroupRepository, org.mockito.Mockito.never()).findJoinCodeGroup(any());
     }
 
     @Test
-    @DisplayName("그룹 생성 - joinCode 중복 체크 후 유니크한 코드로 생성")
-    void create_withDuplicateJoinCode_shouldRetryAndCreateWithUniqueCode() {
+    @DisplayName("그룹 수정 후 해당 joinCode 캐시를 무효화한다")
+    void updateGroup_evictsJoinCodeCache() {
+        // given
+        Member leader = Member.create("leader@test.com", "password", "그룹장", passwordEncoder);
+        EventGroup eventGroup = EventGroup.createWithJoinCode("소모임", "설명", null, leader, "CODE1234");
+
+        given(eventGroupRepository.findById(1L)).willReturn(Optional.of(eventGroup));
+
+        EventGroupCommand.Update command = EventGroupCommand.Update.create(1L, "새 이름", "새 설명", null, leader);
+
+        // when
+        eventGroupService.updateGroup(command);
+
+        // then
+        verify(joinCodeCache).evict("CODE1234");
+    }
+
+    @Test
+    @DisplayName("그룹 생성 - 할당기에서 받은 joinCode로 그룹을 생성한다")
+    void create_withAllocatedJoinCode_createsGroupWithThatCode() {
         // given
         Member leader = Member.create("test@test.com", "password", "nickname", passwordEncoder);
         EventGroupCommand.Create command = EventGroupCommand.Create.create("제주도 여행", "2박 3일 여행", "https://example.com/image.jpg", leader);
 
-        // 첫 번째 joinCode는 중복, 두 번째는 유니크하다고 가정
-        given(eventGroupRepository.existsByJoinCode(any(String.class)))
-                .willReturn(true)   // 첫 번째 시도 - 중복
-                .willReturn(false); // 두 번째 시도 - 유니크
-
-        EventGroup expectedEventGroup = EventGroup.createWithJoinCode(
-            command.getName(), command.getDescription(), command.getImageUrl(), command.getLeader(), "UNIQUE12"
-        );
+        given(joinCodeAllocator.allocate()).willReturn("UNIQUE12");
         given(eventGroupRepository.save(any(EventGroup.class)))
-                .willReturn(expectedEventGroup);
+                .willAnswer(invocation -> invocation.getArgument(0));
 
         // when
         EventGroup result = eventGroupService.create(command);
 
         // then
-        assertThat(result).isEqualTo(expectedEventGroup);
-        verify(eventGroupRepository, org.mockito.Mockito.times(2)).existsByJoinCode(any(String.class));
-        verify(eventGroupRepository).save(any(EventGroup.class));
+        assertThat(result.getJoinCode()).isEqualTo("UNIQUE12");
+        verify(joinCodeAllocator).allocate();
     }
 
     @Test
-    @DisplayName("그룹 생성 - joinCode 생성 최대 재시도 횟수 초과 시 예외 발생")
-    void create_withMaxAttemptsExceeded_shouldThrowException() {
+    @DisplayName("그룹 생성 - joinCode 할당 실패 시 예외가 발생하고 저장하지 않는다")
+    void create_withAllocationFailure_shouldThrowException() {
         // given
         Member leader = Member.create("test@test.com", "password", "nickname", passwordEncoder);
         EventGroupCommand.Create command = EventGroupCommand.Create.create("제주도 여행", "2박 3일 여행", "https://example.com/image.jpg", leader);
 
-        // 모든 시도에서 중복이라고 가정 (11번 호출: 10번 재시도 + 1번 초기 시도)
-        given(eventGroupRepository.existsByJoinCode(any(String.class)))
-                .willReturn(true);
+        given(joinCodeAllocator.allocate())
+                .willThrow(new IllegalStateException("joinCode 생성에 실패했습니다. 잠시 후 다시 시도해주세요."));
 
         // when & then
-        RuntimeException exception = assertThrows(
-                RuntimeException.class,
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
                 () -> eventGroupService.create(command)
         );
 
         assertThat(exception.getMessage()).isEqualTo("joinCode 생성에 실패했습니다. 잠시 후 다시 시도해주세요.");
-        verify(eventGroupRepository, org.mockito.Mockito.times(10)).existsByJoinCode(any(String.class));
         verify(eventGroupRepository, org.mockito.Mockito.never()).save(any(EventGroup.class));
     }
 
     @Test
-    @DisplayName("그룹 생성 - 첫 번째 시도에서 유니크한 joinCode 생성 성공")
-    void create_withFirstAttemptSuccess_shouldCreateWithoutRetry() {
+    @DisplayName("그룹 생성 - joinCode 중복 확인 쿼리 없이 할당 후 저장한다")
+    void create_shouldAllocateJoinCodeBeforeSavingWithoutProbing() {
         // given
         Member leader = Member.create("test@test.com", "password", "nickname", passwordEncoder);
         EventGroupCommand.Create command = EventGroupCommand.Create.create("제주도 여행", "2박 3일 여행", "https://example.com/image.jpg", leader);
 
-        // 첫 번째 시도에서 바로 유니크한 코드 생성
-        given(eventGroupRepository.existsByJoinCode(any(String.class)))
-                .willReturn(false);
-
+        given(joinCodeAllocator.allocate()).willReturn("TEST1234");
         EventGroup expectedEventGroup = EventGroup.createWithJoinCode(
-            command.getName(), command.getDescription(), command.getImageUrl(), command.getLeader(), "UNIQUE01"
+            command.getName(), command.getDescription(), command.getImageUrl(), command.getLeader(), "TEST1234"
         );
         given(eventGroupRepository.save(any(EventGroup.class)))
                 .willReturn(expectedEventGroup);
 
         // when
-        EventGroup result = eventGroupService.create(command);
+        eventGroupService.create(command);
 
         // then
-        assertThat(result).isEqualTo(expectedEventGroup);
-        verify(eventGroupRepository, org.mockito.Mockito.times(1)).existsByJoinCode(any(String.class));
-        verify(eventGroupRepository).save(any(EventGroup.class));
+        org.mockito.InOrder inOrder = org.mockito.Mockito.inOrder(joinCodeAllocator, eventGroupRepository);
+        inOrder.verify(joinCodeAllocator).allocate();
+        inOrder.verify(eventGroupRepository).save(any(EventGroup.class));
+        org.mockito.Mockito.verifyNoMoreInteractions(eventGroupRepository);
     }
 
     @Test
-    @DisplayName("그룹 생성 - existsByJoinCode 메서드 호출 확인")
-    void create_shouldCallExistsByJoinCodeBeforeSaving() {
+    @DisplayName("그룹 목록 조회 - 회원 ID로 그룹 요약을 조회한다")
+    void getGroupList_returnsSummariesOfMember() {
         // given
-        Member leader = Member.create("test@test.com", "password", "nickname", passwordEncoder);
-        EventGroupCommand.Create command = EventGroupCommand.Create.create("제주도 여행", "2박 3일 여행", "https://example.com/image.jpg", leader);
-
-        given(eventGroupRepository.existsByJoinCode(any(String.class)))
-                .willReturn(false);
-
-        EventGroup expectedEventGroup = EventGroup.createWithJoinCode(
-            command.getName(), command.getDescription(), command.getImageUrl(), command.getLeader(), "TEST1234"
+        Member member = MemberFixture.createWithId(1L, "member@test.com", "password", "참여자", passwordEncoder);
+        java.util.List<EventGroupSummary> summaries = java.util.List.of(
+                new EventGroupSummary(10L, "소모임", "설명", null, 3L)
         );
-        given(eventGroupRepository.save(any(EventGroup.class)))
-                .willReturn(expectedEventGroup);
+
+        given(eventGroupRepository.findSummariesByMemberId(1L))
+                .willReturn(summaries);
 
         // when
-        eventGroupService.create(command);
+        java.util.List<EventGroupSummary> result = eventGroupService.getGroupList(EventGroupCommand.GetList.create(member));
 
         // then
-        // existsByJoinCode가 save 이전에 호출되었는지 확인
-        org.mockito.InOrder inOrder = org.mockito.Mockito.inOrder(eventGroupRepository);
-        inOrder.verify(eventGroupRepository).existsByJoinCode(any(String.class));
-        inOrder.verify(eventGroupRepository).save(any(EventGroup.class));
+        assertThat(result).containsExactlyElementsOf(summaries);
     }
 
     @Test
-    @DisplayName("그룹 삭제 - 정상 케이스")
+    @DisplayName("그룹 삭제 - 그룹장이면 삭제할 그룹을 반환하고, 읽은 그룹 그대로 버전 조건 삭제한다")
     void deleteGroup_withLeaderRequest_success() {
         // given
         Member leader = Member.create("leader@test.com", "password", "그룹장", passwordEncoder);
@@ -361,11 +460,12 @@ class EventGroupServiceTest {
         EventGroupCommand.Delete command = EventGroupCommand.Delete.create(1L, leader);
 
         // when
-        eventGroupService.deleteGroup(command);
+        EventGroup target = eventGroupService.getGroupForDeletion(command);
+        eventGroupService.deleteGroup(target);
 
         // then
-        verify(eventGroupRepository).findById(1L);
-        verify(eventGroupRepository).delete(eventGroup);
+        assertThat(target).isSameAs(eventGroup);
+        verify(eventGroupRepository).deleteWithMembers(eventGroup);
     }
 
     @Test
@@ -379,7 +479,7 @@ class EventGroupServiceTest {
                 .willReturn(Optional.empty());
 
         // when & then
-        assertThrows(IllegalArgumentException.class, () -> eventGroupService.deleteGroup(command));
+        assertThrows(IllegalArgumentException.class, () -> eventGroupService.getGroupForDeletion(command));
         verify(eventGroupRepository).findById(999L);
     }
 
@@ -397,10 +497,154 @@ class EventGroupServiceTest {
         EventGroupCommand.Delete command = EventGroupCommand.Delete.create(1L, nonLeader);
 
         // when & then
-        assertThrows(IllegalArgumentException.class, () -> eventGroupService.deleteGroup(command));
+        assertThrows(IllegalArgumentException.class, () -> eventGroupService.getGroupForDeletion(command));
         verify(eventGroupRepository).findById(1L);
     }
 
+    @Test
+    @DisplayName("이벤트 생성용 그룹 조회 - 그룹원이면 그룹 버전을 올리고 그룹을 반환한다")
+    void getGroupForEventCreation_withGroupMember_returnsGroup() {
+        // given
+        Member leader = Member.create("leader@test.com", "password", "그룹장", passwordEncoder);
+        EventGroup eventGroup = EventGroup.create("소모임", "설명", null, leader);
+
+        given(eventGroupRepository.increaseVersion(1L))
+                .willReturn(true);
+        given(eventGroupRepository.findById(1L))
+                .willReturn(Optional.of(eventGroup));
+        given(eventGroupRepository.existsMembership(1L, leader.getId()))
+                .willReturn(true);
+
+        // when
+        EventGroup result = eventGroupService.getGroupForEventCreation(1L, leader);
+
+        // then
+        assertThat(result).isEqualTo(eventGroup);
+        verify(eventGroupRepository).increaseVersion(1L);
+        verify(eventGroupRepository).existsMembership(1L, leader.getId());
+    }
+
+    @Test
+    @DisplayName("이벤트 생성용 그룹 조회 - 그룹이 없으면 예외가 발생한다")
+    void getGroupForEventCreation_withNonExistentGroup_throwsException() {
+        // given
+        Member leader = Member.create("leader@test.com", "password", "그룹장", passwordEncoder);
+
+        given(eventGroupRepository.increaseVersion(999L))
+                .willReturn(false);
+
+        // when & then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> eventGroupService.getGroupForEventCreation(999L, leader)
+        );
+        assertThat(exception.getMessage()).isEqualTo("존재하지 않는 그룹입니다.");
+    }
+
+    @Test
+    @DisplayName("이벤트 생성용 그룹 조회 - 그룹원이 아니면 예외가 발생한다")
+    void getGroupForEventCreation_withNonMember_throwsException() {
+        // given
+        Member leader = Member.create("leader@test.com", "password", "그룹장", passwordEncoder);
+        Member outsider = Member.create("outsider@test.com", "password", "외부인", passwordEncoder);
+        EventGroup eventGroup = EventGroup.create("소모임", "설명", null, leader);
+
+        given(eventGroupRepository.increaseVersion(1L))
+                .willReturn(true);
+        given(eventGroupRepository.findById(1L))
+                .willReturn(Optional.of(eventGroup));
+        given(eventGroupRepository.existsMembership(1L, outsider.getId()))
+                .willReturn(false);
+
+        // when & then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> eventGroupService.getGroupForEventCreation(1L, outsider)
+        );
+        assertThat(exception.getMessage()).isEqualTo("그룹원만 이벤트를 생성할 수 있습니다.");
+    }
+
+    @Test
+    @DisplayName("그룹 상세 조회 - 그룹원이 아니면 예외가 발생한다")
+    void getGroup_withNonMember_throwsException() {
+        // given
+        Member leader = MemberFixture.createWithId(1L, "leader@test.com", "password", "그룹장", passwordEncoder);
+        Member outsider = MemberFixture.createWithId(2L, "outsider@test.com", "password", "외부인", passwordEncoder);
+        EventGroup eventGroup = EventGroup.create("소모임", "설명", null, leader);
+
+        given(eventGroupRepository.findById(1L))
+                .willReturn(Optional.of(eventGroup));
+        given(eventGroupRepository.existsMembership(1L, 2L))
+                .willReturn(false);
+
+        EventGroupCommand.Get command = EventGroupCommand.Get.create(1L, outsider);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> eventGroupService.getGroup(command));
+    }
+
+    @Test
+    @DisplayName("그룹원 목록 조회 - 커서가 없으면 첫 페이지를 조회한다")
+    void getGroupMembers_withoutCursor_returnsFirstPage() {
+        // given
+        Member leader = MemberFixture.createWithId(1L, "leader@test.com", "password", "그룹장", passwordEncoder);
+        EventGroup eventGroup = EventGroup.create("소모임", "설명", null, leader);
+        List<EventGroupMemberSummary> page = List.of(
+                new EventGroupMemberSummary(1L, "그룹장", true),
+                new EventGroupMemberSummary(3L, "가나다", false)
+        );
+
+        given(eventGroupRepository.findById(10L)).willReturn(Optional.of(eventGroup));
+        given(eventGroupRepository.existsMembership(10L, 1L)).willReturn(true);
+        given(eventGroupRepository.findMemberSummaries(10L, null, 2)).willReturn(page);
+
+        EventGroupCommand.GetMembers command = EventGroupCommand.GetMembers.create(10L, leader, null, 2);
+
+        // when
+        List<EventGroupMemberSummary> result = eventGroupService.getGroupMembers(command);
+
+        // then
+        assertThat(result).isEqualTo(page);
+    }
+
+    @Test
+    @DisplayName("그룹원 목록 조회 - 커서 회원 ID를 그대로 키셋 조회에 넘기고 회원을 따로 조회하지 않는다")
+    void getGroupMembers_withCursor_passesCursorMemberId() {
+        // given
+        Member leader = MemberFixture.createWithId(1L, "leader@test.com", "password", "그룹장", passwordEncoder);
+        EventGroup eventGroup = EventGroup.create("소모임", "설명", null, leader);
+
+        given(eventGroupRepository.findById(10L)).willReturn(Optional.of(eventGroup));
+        given(eventGroupRepository.existsMembership(10L, 1L)).willReturn(true);
+        given(eventGroupRepository.findMemberSummaries(10L, 3L, 20)).willReturn(List.of());
+
+        EventGroupCommand.GetMembers command = EventGroupCommand.GetMembers.create(10L, leader, 3L, 20);
+
+        // when
+        List<EventGroupMemberSummary> result = eventGroupService.getGroupMembers(command);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(memberRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("그룹원 목록 조회 - 페이지 크기가 범위를 벗어나면 예외가 발생한다")
+    void getGroupMembers_withInvalidSize_throwsException() {
+        // given
+        Member leader = MemberFixture.createWithId(1L, "leader@test.com", "password", "그룹장", passwordEncoder);
+        EventGroupCommand.GetMembers command = EventGroupCommand.GetMembers.create(10L, leader, null, 0);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> eventGroupService.getGroupMembers(command));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenJoinCodeCacheMiss(String joinCode) {
+        given(joinCodeCache.get(eq(joinCode), any())).willAnswer(invocation ->
+                ((java.util.function.Function<String, Optional<JoinCodeGroup>>) invocation.getArgument(1)).apply(joinCode));
+    }
+
     private Member createTestMember() {
         return Member.create("test@example.com", "password", "테스터", passwordEncoder);
     }
@@ -3,6 +3,7 @@ package side.eventful.domain.eventgroup;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import side.eventful.domain.fixture.MemberFixture;
 import side.eventful.domain.member.Member;
 import side.eventful.infrastructure.security.config.TestPasswordEncoder;
 
@@ -162,6 +163,37 @@ class EventGroupTest {
             .hasMessage("이미 그룹에 가입된 회원입니다");
     }
 
+    @Test
+    @DisplayName("가입용 멤버십은 그룹원 목록을 변경하지 않고 생성된다")
+    void createMembership_validPassword_doesNotTouchMembers() {
+        // given
+        Member leader = createTestMember();
+        EventGroup eventGroup = EventGroup.create("소모임", "설명", "https://example.com/image.jpg", leader);
+        Member newMember = Member.create("test2@example.com", "password", "참여자", passwordEncoder);
+
+        // when
+        EventGroupMember membership = eventGroup.createMembership(newMember, eventGroup.getJoinPassword());
+
+        // then
+        assertThat(membership.getEventGroup()).isEqualTo(eventGroup);
+        assertThat(membership.getMember()).isEqualTo(newMember);
+        assertThat(eventGroup.getMembers()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("잘못된 비밀번호로는 가입용 멤버십을 만들 수 없다")
+    void createMembership_wrongPassword_throwsException() {
+        // given
+        Member leader = createTestMember();
+        EventGroup eventGroup = EventGroup.create("소모임", "설명", "https://example.com/image.jpg", leader);
+        Member newMember = Member.create("test2@example.com", "password", "참여자", passwordEncoder);
+
+        // when & then
+        assertThatThrownBy(() -> eventGroup.createMembership(newMember, "wrongpwd"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("잘못된 비밀번호입니다");
+    }
+
     @Test
     @DisplayName("그룹 생성 시 그룹장이 첫 번째 멤버로 자동 추가된다")
     void create_validInput_leaderAddedAsMember() {
@@ -302,6 +334,33 @@ class EventGroupTest {
             .hasMessage("그룹에 가입되지 않은 회원입니다");
     }
 
+    @Test
+    @DisplayName("가입, 탈퇴, 추방 후 그룹원 여부가 즉시 반영된다")
+    void isMember_reflectsJoinLeaveAndRemove() {
+        // given
+        Member leader = MemberFixture.createWithId(100L, "leader@example.com", "password", "그룹장", passwordEncoder);
+        Member member1 = MemberFixture.createWithId(101L, "member1@example.com", "password", "멤버1", passwordEncoder);
+        Member member2 = MemberFixture.createWithId(102L, "member2@example.com", "password", "멤버2", passwordEncoder);
+        EventGroup eventGroup = EventGroup.create("소모임", "설명", "https://example.com/image.jpg", leader);
+        String joinPassword = eventGroup.getJoinPassword();
+
+        // when & then
+        assertThat(eventGroup.isMember(leader)).isTrue();
+        assertThat(eventGroup.isMember(member1)).isFalse();
+
+        eventGroup.joinMember(member1, joinPassword);
+        eventGroup.joinMember(member2, joinPassword);
+        assertThat(eventGroup.isMember(member1)).isTrue();
+        assertThat(eventGroup.isMember(member2)).isTrue();
+
+        eventGroup.leaveMember(member1);
+        assertThat(eventGroup.isMember(member1)).isFalse();
+
+        eventGroup.removeMember(member2, leader);
+        assertThat(eventGroup.isMember(member2)).isFalse();
+        assertThat(eventGroup.getMemberCount()).isEqualTo(1);
+    }
+
     private Member createTestMember() {
         return Member.create("test@example.com", "password", "테스터", passwordEncoder);
     }
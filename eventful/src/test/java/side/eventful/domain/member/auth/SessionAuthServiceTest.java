@@ -1,14 +1,19 @@
 package side.eventful.domain.member.auth;
 
 import jakarta.servlet.http.HttpSession;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import side.eventful.domain.member.Member;
+import side.eventful.domain.fixture.MemberFixture;
 import side.eventful.domain.member.MemberRepository;
 
 import java.util.Optional;
@@ -16,6 +21,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +39,11 @@ class SessionAuthServiceTest {
     @InjectMocks
     private SessionAuthService sessionAuthService;
 
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
     @DisplayName("로그인 - 정상 케이스")
     void login_WithValidInput_Complete() {
@@ -155,6 +166,48 @@ class SessionAuthServiceTest {
         assertThrows(ClassCastException.class, () -> sessionAuthService.getAuthenticatedMember());
     }
 
+    @Test
+    @DisplayName("인증된 사용자 조회 - 같은 요청 안에서는 회원을 한 번만 조회한다")
+    void getAuthenticatedMember_calledTwiceInSameRequest_queriesOnce() {
+        // given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        Member member = MemberFixture.createWithId(1L, "test@test.com", "password", "nickname", passwordEncoder);
+
+        given(httpSession.getAttribute("USER_ID"))
+            .willReturn(1L);
+        given(memberRepository.findById(1L))
+            .willReturn(Optional.of(member));
+
+        // when
+        Member first = sessionAuthService.getAuthenticatedMember();
+        Member second = sessionAuthService.getAuthenticatedMember();
+
+        // then
+        assertThat(first).isSameAs(second);
+        verify(memberRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("인증된 사용자 조회 - 요청이 다르면 회원을 다시 조회한다")
+    void getAuthenticatedMember_differentRequests_queriesEachTime() {
+        // given
+        Member member = MemberFixture.createWithId(1L, "test@test.com", "password", "nickname", passwordEncoder);
+
+        given(httpSession.getAttribute("USER_ID"))
+            .willReturn(1L);
+        given(memberRepository.findById(1L))
+            .willReturn(Optional.of(member));
+
+        // when
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        sessionAuthService.getAuthenticatedMember();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        sessionAuthService.getAuthenticatedMember();
+
+        // then
+        verify(memberRepository, times(2)).findById(1L);
+    }
+
     @Test
     @DisplayName("로그인 실패 - null 이메일")
     void login_withNullEmail_throwsException() {
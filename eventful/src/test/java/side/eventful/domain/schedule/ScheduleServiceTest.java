@@ -7,21 +7,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import side.eventful.domain.event.Event;
-import side.eventful.domain.event.ParticipantRole;
+import side.eventful.domain.event.EventContentChanged;
+import side.eventful.domain.event.EventParticipantLookup;
+import side.eventful.domain.event.EventRepository;
 import side.eventful.domain.eventgroup.EventGroup;
 import side.eventful.domain.fixture.MemberFixture;
 import side.eventful.domain.member.Member;
 import side.eventful.domain.vote.VoteRepository;
+import side.eventful.global.transaction.RetryOnConflictExecutor;
+import side.eventful.global.transaction.TestRetryOnConflictExecutor;
 import side.eventful.infrastructure.security.config.TestPasswordEncoder;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -41,6 +47,18 @@ class ScheduleServiceTest {
     @Mock
     private VoteRepository voteRepository;
 
+    @Mock
+    private EventRepository eventRepository;
+
+    @Spy
+    private RetryOnConflictExecutor retryExecutor = new TestRetryOnConflictExecutor();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EventParticipantLookup participantLookup;
+
     @InjectMocks
     private ScheduleService scheduleService;
 
@@ -75,6 +93,9 @@ class ScheduleServiceTest {
                 "성산일출봉"
             );
 
+            given(eventRepository.findByIdWithVersionIncrement(1L))
+                .willReturn(Optional.of(event));
+            given(participantLookup.isParticipant(1L, creator.getId())).willReturn(true);
             given(scheduleRepository.findOverlappingSchedules(any(), any(), any()))
                 .willReturn(Collections.emptyList());
             given(voteRepository.findOverlappingVotes(any(), any(), any()))
@@ -83,7 +104,7 @@ class ScheduleServiceTest {
                 .willAnswer(invocation -> invocation.getArgument(0));
 
             // when
-            Schedule result = scheduleService.createSchedule(event, creator, command);
+            Schedule result = scheduleService.createSchedule(1L, creator, command);
 
             // then
             assertThat(result.getName()).isEqualTo("성산일출봉 관광");
@@ -107,8 +128,11 @@ class ScheduleServiceTest {
                 "성산일출봉"
             );
 
+            given(eventRepository.findByIdWithVersionIncrement(1L))
+                .willReturn(Optional.of(event));
+
             // when & then
-            assertThatThrownBy(() -> scheduleService.createSchedule(event, nonParticipant, command))
+            assertThatThrownBy(() -> scheduleService.createSchedule(1L, nonParticipant, command))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("이벤트 참여자만 일정을 생성할 수 있습니다.");
         }
@@ -139,6 +163,7 @@ class ScheduleServiceTest {
 
             // then
             assertThat(schedule.getAmount()).isEqualByComparingTo(new BigDecimal("50000"));
+            verify(eventPublisher).publishEvent(any(EventContentChanged.class));
         }
 
         @Test
@@ -159,7 +184,6 @@ class ScheduleServiceTest {
         void setAmount_byOtherParticipant_throwsException() {
             // given
             Member otherParticipant = MemberFixture.createWithId("other@test.com", "password", "other", passwordEncoder);
-            event.addParticipant(otherParticipant, ParticipantRole.PARTICIPANT, LocalDateTime.now());
             ScheduleCommand.SetAmount command = new ScheduleCommand.SetAmount(new BigDecimal("50000"));
 
             // when & then
@@ -0,0 +1,226 @@
+package side.eventful.domain.vote;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import side.eventful.PostgresIntegrationTestSupport;
+import side.eventful.domain.event.Event;
+import side.eventful.domain.event.EventService;
+import side.eventful.domain.member.Member;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * VoteService 통합 테스트 (PostgreSQL)
+ *
+ * <p>득표수 UPDATE, (투표, 회원) 유니크 키로 막는 중복 투표, 표 JDBC 배치 반영,
+ * SKIP LOCKED로 나눠 가지는 자동 마감을 실제 DB에서 확인합니다.</p>
+ */
+class VoteServiceIntegrationTest extends PostgresIntegrationTestSupport {
+
+    @Autowired
+    private VoteService voteService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Member creator;
+    private Event event;
+
+    @BeforeEach
+    void setUpEvent() {
+        creator = saveMember("creator");
+        event = saveEvent(saveGroup(creator), creator, null, LocalDate.of(2025, 3, 15));
+    }
+
+    @Test
+    @DisplayName("다른 옵션에 다시 투표하면 기록은 한 행으로 두고 득표수를 옮긴다")
+    void castVote_revote_movesCount() {
+        // given
+        Vote vote = createVote(LocalTime.of(12, 0), null);
+        Long first = optionId(vote, 0);
+        Long second = optionId(vote, 1);
+        voteService.castVote(vote.getId(), creator, new VoteCommand.CastVote(first));
+
+        // when
+        voteService.castVote(vote.getId(), creator, new VoteCommand.CastVote(second));
+
+        // then
+        assertThat(voteCounts(vote)).containsExactly(0L, 1L);
+        assertThat(countRecords(vote)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 회원의 첫 투표가 동시에 들어와도 한 표로만 센다")
+    void castVote_sameMemberConcurrently_countsOnce() throws Exception {
+        // given
+        Vote vote = createVote(LocalTime.of(12, 0), null);
+        Long optionId = optionId(vote, 0);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            tasks.add(() -> {
+                voteService.castVote(vote.getId(), creator, new VoteCommand.CastVote(optionId));
+                return null;
+            });
+        }
+
+        // when
+        runConcurrently(tasks);
+
+        // then
+        assertThat(voteCounts(vote)).containsExactly(1L, 0L);
+        assertThat(countRecords(vote)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 회원이 동시에 투표해도 득표수를 잃지 않는다")
+    void castVote_manyMembersConcurrently_countsEveryBallot() throws Exception {
+        // given
+        Vote vote = createVote(LocalTime.of(12, 0), null);
+        Long optionId = optionId(vote, 0);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Member member = saveMember("member" + i);
+            eventService.participate(event, member);
+            tasks.add(() -> {
+                voteService.castVote(vote.getId(), member, new VoteCommand.CastVote(optionId));
+                return null;
+            });
+        }
+
+        // when
+        runConcurrently(tasks);
+
+        // then
+        assertThat(voteCounts(vote)).containsExactly(8L, 0L);
+        assertThat(countRecords(vote)).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("표 묶음은 회원별 마지막 표만 배치로 반영한다")
+    void applyBallots_appliesLatestBallotPerMember() {
+        // given
+        Vote vote = createVote(LocalTime.of(12, 0), null);
+        Long first = optionId(vote, 0);
+        Long second = optionId(vote, 1);
+        Member member = saveMember("member");
+        eventService.participate(event, member);
+        voteService.castVote(vote.getId(), member, new VoteCommand.CastVote(first));
+
+        // when
+        Set<Ballot> rejected = voteService.applyBallots(List.of(
+            new Ballot(vote.getId(), creator.getId(), first),
+            new Ballot(vote.getId(), member.getId(), second),
+            new Ballot(vote.getId(), creator.getId(), second)
+        ));
+
+        // then
+        assertThat(rejected).isEmpty();
+        assertThat(voteCounts(vote)).containsExactly(0L, 2L);
+        assertThat(countRecords(vote)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("참여 취소한 회원의 표를 지우면 그 옵션의 득표수도 내린다")
+    void voidInProgressVotes_decreasesCounts() {
+        // given
+        Vote vote = createVote(LocalTime.of(12, 0), null);
+        Member member = saveMember("member");
+        eventService.participate(event, member);
+        voteService.castVote(vote.getId(), creator, new VoteCommand.CastVote(optionId(vote, 0)));
+        voteService.castVote(vote.getId(), member, new VoteCommand.CastVote(optionId(vote, 0)));
+
+        // when
+        voteService.voidInProgressVotes(event.getId(), member);
+
+        // then
+        assertThat(voteCounts(vote)).containsExactly(1L, 0L);
+        assertThat(countRecords(vote)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 이벤트의 투표 요약을 한 번에 읽는다")
+    void getVoteSummaries_multipleEvents() {
+        // given
+        Event otherEvent = saveEvent(saveGroup(creator), creator, null, LocalDate.of(2025, 4, 1));
+        Vote vote = createVote(LocalTime.of(12, 0), null);
+        Vote otherVote = voteService.createVote(otherEvent.getId(), creator, new VoteCommand.CreateVote(
+            "저녁", null, LocalTime.of(18, 0), LocalTime.of(19, 0), List.of("회", "초밥"), null));
+
+        // when
+        List<VoteSummary> summaries = voteService.getVoteSummaries(List.of(event.getId(), otherEvent.getId()));
+
+        // then
+        assertThat(summaries).extracting(VoteSummary::voteId, VoteSummary::eventId)
+            .containsExactlyInAnyOrder(tuple(vote.getId(), event.getId()), tuple(otherVote.getId(), otherEvent.getId()));
+    }
+
+    @Test
+    @DisplayName("다른 트랜잭션이 잠근 투표는 건너뛰고 나머지만 마감한다")
+    void closeDueVotes_skipsLockedVotes() throws Exception {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Vote locked = createVote(LocalTime.of(12, 0), now.plusHours(1));
+        Vote free = createVote(LocalTime.of(14, 0), now.plusHours(1));
+        jdbcTemplate.update("UPDATE vote SET closes_at = ? WHERE id = ?", now.minusMinutes(2), locked.getId());
+        jdbcTemplate.update("UPDATE vote SET closes_at = ? WHERE id = ?", now.minusMinutes(1), free.getId());
+
+        // when
+        Integer closedWhileLocked = new TransactionTemplate(transactionManager).execute(status -> {
+            List<Vote> lockedVotes = voteRepository.findDueForClosing(now, Limit.of(1));
+            assertThat(lockedVotes).extracting(Vote::getId).containsExactly(locked.getId());
+            // 잠금을 쥔 채로 다른 스레드(다른 커넥션)에서 마감
+            return CompletableFuture.supplyAsync(() -> voteService.closeDueVotes(now, 10))
+                .orTimeout(30, TimeUnit.SECONDS)
+                .join();
+        });
+        int closedAfterRelease = voteService.closeDueVotes(now, 10);
+
+        // then
+        assertThat(closedWhileLocked).isEqualTo(1);
+        assertThat(closedAfterRelease).isEqualTo(1);
+        assertThat(voteRepository.findStatusById(locked.getId())).contains(VoteStatus.CLOSED);
+        assertThat(voteRepository.findStatusById(free.getId())).contains(VoteStatus.CLOSED);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM schedule", Integer.class)).isEqualTo(2);
+    }
+
+    private Vote createVote(LocalTime startTime, LocalDateTime closesAt) {
+        return voteService.createVote(event.getId(), creator, new VoteCommand.CreateVote(
+            "점심", null, startTime, startTime.plusHours(1), List.of("흑돼지", "고기국수"), closesAt));
+    }
+
+    private Long optionId(Vote vote, int index) {
+        return vote.getOptions().get(index).getId();
+    }
+
+    private List<Long> voteCounts(Vote vote) {
+        return voteService.findVoteResults(vote.getId()).orElseThrow().options().stream()
+            .map(VoteOptionTally::voteCount)
+            .toList();
+    }
+
+    private int countRecords(Vote vote) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vote_record WHERE vote_id = ?", Integer.class, vote.getId());
+    }
+}
@@ -0,0 +1,345 @@
+package side.eventful.domain.vote;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import side.eventful.domain.event.Event;
+import side.eventful.domain.event.EventContentChanged;
+import side.eventful.domain.event.EventParticipantLookup;
+import side.eventful.domain.event.EventRepository;
+import side.eventful.domain.eventgroup.EventGroup;
+import side.eventful.domain.fixture.MemberFixture;
+import side.eventful.domain.member.Member;
+import side.eventful.domain.schedule.Schedule;
+import side.eventful.domain.schedule.ScheduleRepository;
+import side.eventful.global.transaction.RetryOnConflictExecutor;
+import side.eventful.global.transaction.TestRetryOnConflictExecutor;
+import side.eventful.infrastructure.security.config.TestPasswordEncoder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * VoteService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class VoteServiceTest {
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @Mock
+    private VoteRecordRepository voteRecordRepository;
+
+    @Mock
+    private BallotBatchWriter ballotBatchWriter;
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Spy
+    private RetryOnConflictExecutor retryExecutor = new TestRetryOnConflictExecutor();
+
+    @Mock
+    private EventParticipantLookup participantLookup;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private VoteService voteService;
+
+    private final PasswordEncoder passwordEncoder = new TestPasswordEncoder();
+    private Member creator;
+    private Member voter;
+    private Vote vote;
+    private VoteOption option;
+
+    @BeforeEach
+    void setUp() {
+        MemberFixture.resetSequence();
+        creator = MemberFixture.createWithId("creator@test.com", "password", "creator", passwordEncoder);
+        voter = MemberFixture.createWithId("voter@test.com", "password", "voter", passwordEncoder);
+        EventGroup eventGroup = EventGroup.create("테스트 그룹", "설명", null, creator);
+        Event event = Event.create(eventGroup, "제주도 여행", "2박 3일", 10, LocalDate.of(2025, 3, 15), null, creator);
+        vote = Vote.create(event, creator, "점심", null, LocalTime.of(12, 0), LocalTime.of(13, 0),
+            List.of("흑돼지", "고기국수"), null);
+        option = vote.getOptions().get(0);
+        ReflectionTestUtils.setField(option, "id", 10L);
+    }
+
+    @Nested
+    @DisplayName("투표하기")
+    class CastVote {
+
+        @Test
+        @DisplayName("처음 투표하면 투표 기록을 한 행 넣고 득표수를 올린다")
+        void castVote_firstBallot_insertsRecord() {
+            // given
+            givenVotableOption();
+            given(voteRecordRepository.findOptionId(vote, voter)).willReturn(Optional.empty());
+
+            // when
+            voteService.castVote(1L, voter, new VoteCommand.CastVote(10L));
+
+            // then
+            verify(voteRecordRepository).saveAndFlush(any(VoteRecord.class));
+            verify(voteRecordRepository).increaseVoteCount(10L);
+        }
+
+        @Test
+        @DisplayName("다른 옵션에 다시 투표하면 기존 행의 옵션을 바꾸고 득표수를 옮긴다")
+        void castVote_revote_updatesRecord() {
+            // given
+            givenVotableOption();
+            given(voteRecordRepository.findOptionId(vote, voter)).willReturn(Optional.of(20L));
+            given(voteRecordRepository.changeOption(vote, voter, 20L, option)).willReturn(1);
+
+            // when
+            voteService.castVote(1L, voter, new VoteCommand.CastVote(10L));
+
+            // then
+            verify(voteRecordRepository, never()).saveAndFlush(any());
+            verify(voteRecordRepository).moveVoteCount(20L, 10L);
+        }
+
+        @Test
+        @DisplayName("같은 옵션에 다시 투표하면 아무것도 바꾸지 않는다")
+        void castVote_sameOption_doesNothing() {
+            // given
+            givenVotableOption();
+            given(voteRecordRepository.findOptionId(vote, voter)).willReturn(Optional.of(10L));
+
+            // when
+            voteService.castVote(1L, voter, new VoteCommand.CastVote(10L));
+
+            // then
+            verify(voteRecordRepository, never()).changeOption(any(), any(), any(), any());
+            verify(voteRecordRepository, never()).increaseVoteCount(any());
+            verify(eventPublisher, never()).publishEvent(any(EventContentChanged.class));
+        }
+
+        @Test
+        @DisplayName("투표에 속하지 않은 옵션이면 예외가 발생한다")
+        void castVote_unknownOption_throwsException() {
+            // given
+            given(voteRepository.findForShareById(1L)).willReturn(Optional.of(vote));
+            given(participantLookup.isParticipant(vote.getEvent().getId(), voter.getId())).willReturn(true);
+            given(voteRecordRepository.findOption(1L, 99L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> voteService.castVote(1L, voter, new VoteCommand.CastVote(99L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 투표 옵션입니다.");
+        }
+
+        @Test
+        @DisplayName("마감된 투표에는 참여할 수 없다")
+        void castVote_closedVote_throwsException() {
+            // given
+            vote.close();
+            given(voteRepository.findForShareById(1L)).willReturn(Optional.of(vote));
+
+            // when & then
+            assertThatThrownBy(() -> voteService.castVote(1L, voter, new VoteCommand.CastVote(10L)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("진행 중인 투표만 참여할 수 있습니다.");
+
+            verify(voteRecordRepository, never()).findOptionId(any(), any());
+        }
+
+        private void givenVotableOption() {
+            given(voteRepository.findForShareById(1L)).willReturn(Optional.of(vote));
+            given(participantLookup.isParticipant(vote.getEvent().getId(), voter.getId())).willReturn(true);
+            given(voteRecordRepository.findOption(1L, 10L)).willReturn(Optional.of(option));
+        }
+    }
+
+    @Nested
+    @DisplayName("투표 결과 조회")
+    class GetVoteResults {
+
+        @Test
+        @DisplayName("저장된 득표수로 결과를 만든다")
+        void findVoteResults_readsStoredCounts() {
+            // given
+            List<VoteOptionTally> tallies = List.of(new VoteOptionTally(1L, 10L, "흑돼지", 3));
+            given(voteRepository.findStatusById(1L)).willReturn(Optional.of(VoteStatus.IN_PROGRESS));
+            given(voteRepository.findOptionTalliesByVoteId(1L)).willReturn(tallies);
+
+            // when
+            VoteResults results = voteService.findVoteResults(1L).orElseThrow();
+
+            // then
+            assertThat(results.status()).isEqualTo(VoteStatus.IN_PROGRESS);
+            assertThat(results.options()).isEqualTo(tallies);
+        }
+
+        @Test
+        @DisplayName("이벤트 참여자면 투표가 속한 이벤트 ID를 반환한다")
+        void validateResultsViewer_participant_returnsEventId() {
+            // given
+            given(voteRepository.findEventIdById(1L)).willReturn(Optional.of(100L));
+            given(participantLookup.isParticipant(100L, voter.getId())).willReturn(true);
+
+            // when & then
+            assertThat(voteService.validateResultsViewer(1L, voter)).isEqualTo(100L);
+        }
+
+        @Test
+        @DisplayName("이벤트 참여자가 아니면 예외가 발생한다")
+        void validateResultsViewer_notParticipant_throwsException() {
+            // given
+            given(voteRepository.findEventIdById(1L)).willReturn(Optional.of(100L));
+            given(participantLookup.isParticipant(100L, voter.getId())).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> voteService.validateResultsViewer(1L, voter))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이벤트 참여자만 투표 결과를 볼 수 있습니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("표 일괄 반영")
+    class ApplyBallots {
+
+        @Test
+        @DisplayName("회원별 마지막 표만 반영하고 득표수를 한 번에 증감한다")
+        void applyBallots_lastWriteWinsPerMember() {
+            // given
+            given(voteRepository.findForShareById(1L)).willReturn(Optional.of(vote));
+            given(voteRecordRepository.findOptionIds(1L)).willReturn(Set.of(10L, 20L, 30L));
+            given(voteRecordRepository.findBallots(eq(1L), anyCollection())).willReturn(List.of(new Ballot(1L, 100L, 30L)));
+            given(ballotBatchWriter.insertRecords(List.of(new Ballot(1L, 200L, 10L)))).willReturn(true);
+            given(ballotBatchWriter.changeOptions(Map.of(new Ballot(1L, 100L, 20L), 30L))).willReturn(true);
+
+            // when
+            Set<Ballot> rejected = voteService.applyBallots(List.of(
+                new Ballot(1L, 100L, 10L),
+                new Ballot(1L, 200L, 10L),
+                new Ballot(1L, 100L, 20L)
+            ));
+
+            // then
+            assertThat(rejected).isEmpty();
+            verify(ballotBatchWriter).adjustVoteCounts(Map.of(10L, 1L, 20L, 1L, 30L, -1L));
+        }
+
+        @Test
+        @DisplayName("그 사이 마감된 투표의 표는 반영하지 않고 돌려준다")
+        void applyBallots_closedVote_rejectsBallots() {
+            // given
+            vote.close();
+            given(voteRepository.findForShareById(1L)).willReturn(Optional.of(vote));
+            Ballot ballot = new Ballot(1L, 100L, 10L);
+
+            // when
+            Set<Ballot> rejected = voteService.applyBallots(List.of(ballot));
+
+            // then
+            assertThat(rejected).containsExactly(ballot);
+            verify(ballotBatchWriter, never()).insertRecords(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("투표 자동 마감")
+    class CloseDueVotes {
+
+        @Test
+        @DisplayName("마감 시각이 지난 투표를 마감하고 일정으로 변환한다")
+        void closeDueVotes_closesAndCreatesSchedule() {
+            // given
+            LocalDateTime now = LocalDateTime.of(2025, 3, 15, 12, 30);
+            given(voteRepository.findDueForClosing(eq(now), any(Limit.class))).willReturn(List.of(vote));
+
+            // when
+            int closed = voteService.closeDueVotes(now, 50);
+
+            // then
+            assertThat(closed).isEqualTo(1);
+            assertThat(vote.getStatus()).isEqualTo(VoteStatus.CLOSED);
+            verify(scheduleRepository).save(any(Schedule.class));
+        }
+
+        @Test
+        @DisplayName("마감 시각이 지난 투표에는 자동 마감 전이라도 참여할 수 없다")
+        void castVote_afterClosesAt_throwsException() {
+            // given
+            Vote dueVote = Vote.create(vote.getEvent(), creator, "저녁", null, LocalTime.of(18, 0), LocalTime.of(19, 0),
+                List.of("흑돼지", "고기국수"), LocalDateTime.now().minusMinutes(1));
+            given(voteRepository.findForShareById(2L)).willReturn(Optional.of(dueVote));
+
+            // when & then
+            assertThatThrownBy(() -> voteService.castVote(2L, voter, new VoteCommand.CastVote(10L)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("마감 시각이 지난 투표입니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("참여 취소 시 투표 무효")
+    class VoidInProgressVotes {
+
+        @Test
+        @DisplayName("잠근 투표 기록의 옵션 득표수를 내리고 같은 기록을 지운다")
+        void voidInProgressVotes_usesLockedRecords() {
+            // given
+            ReflectionTestUtils.setField(vote, "id", 1L);
+            VoteRecord record = VoteRecord.of(vote, option, voter);
+            ReflectionTestUtils.setField(record, "id", 100L);
+            given(voteRepository.findInProgressRecordsForUpdate(5L, voter.getId())).willReturn(List.of(record));
+
+            // when
+            voteService.voidInProgressVotes(5L, voter);
+
+            // then
+            verify(voteRepository).decreaseVoteCounts(List.of(10L));
+            verify(voteRepository).deleteRecordsByIdIn(List.of(100L));
+            verify(eventPublisher).publishEvent(new VoteResultsChanged(1L));
+        }
+
+        @Test
+        @DisplayName("진행 중인 투표에 표가 없으면 득표수와 기록을 건드리지 않는다")
+        void voidInProgressVotes_withoutRecords_doesNothing() {
+            // given
+            given(voteRepository.findInProgressRecordsForUpdate(5L, voter.getId())).willReturn(List.of());
+
+            // when
+            voteService.voidInProgressVotes(5L, voter);
+
+            // then
+            verify(voteRepository, never()).decreaseVoteCounts(anyCollection());
+            verify(voteRepository, never()).deleteRecordsByIdIn(anyCollection());
+            verify(eventPublisher).publishEvent(new VoteParticipantLeft(5L, voter.getId()));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package side.eventful.global.transaction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class RetryOnConflictExecutorTest {
+
+    private final RetryOnConflictExecutor executor = new RetryOnConflictExecutor(
+            mock(PlatformTransactionManager.class), 3, Duration.ZERO, Duration.ZERO);
+
+    @Test
+    @DisplayName("충돌이 없으면 한 번만 실행한다")
+    void execute_withoutConflict_runsOnce() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = executor.execute(() -> {
+            attempts.incrementAndGet();
+            return "ok";
+        });
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("낙관적 락 충돌이 나면 다시 시도한다")
+    void execute_withTransientConflict_retriesUntilSuccess() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = executor.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "ok";
+        });
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수까지 충돌하면 예외를 그대로 던진다")
+    void execute_withPersistentConflict_throwsAfterMaxAttempts() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> executor.run(() -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("충돌이 아닌 예외는 재시도하지 않는다")
+    void execute_withBusinessException_doesNotRetry() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> executor.run(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("잘못된 요청");
+        })).isInstanceOf(IllegalArgumentException.class);
+        assertThat(attempts).hasValue(1);
+    }
+}
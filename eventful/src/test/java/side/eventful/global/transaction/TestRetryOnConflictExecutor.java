@@ -0,0 +1,18 @@
+package side.eventful.global.transaction;
+
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 단위 테스트용 재시도 실행기
+ * 트랜잭션 없이 작업을 바로 실행하고, 재시도 사이에 대기하지 않는다.
+ */
+public class TestRetryOnConflictExecutor extends RetryOnConflictExecutor {
+
+    public TestRetryOnConflictExecutor() {
+        super(mock(PlatformTransactionManager.class), 3, Duration.ZERO, Duration.ZERO);
+    }
+}
@@ -0,0 +1,100 @@
+package side.eventful.infrastructure.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import side.eventful.domain.event.EventRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RequestScopedEventParticipantLookupTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private RequestScopedEventParticipantLookup participantLookup;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("같은 요청 안에서는 같은 참여 여부를 한 번만 조회한다")
+    void isParticipant_sameRequest_queriesOnce() {
+        // given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        given(eventRepository.existsParticipant(1L, 2L)).willReturn(true);
+
+        // when
+        boolean first = participantLookup.isParticipant(1L, 2L);
+        boolean second = participantLookup.isParticipant(1L, 2L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(eventRepository, times(1)).existsParticipant(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("요청이 바뀌면 다시 조회한다")
+    void isParticipant_newRequest_queriesAgain() {
+        // given
+        given(eventRepository.existsParticipant(1L, 2L)).willReturn(true, false);
+
+        // when
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        boolean first = participantLookup.isParticipant(1L, 2L);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        boolean second = participantLookup.isParticipant(1L, 2L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+    }
+
+    @Test
+    @DisplayName("참여자가 바뀐 이벤트의 결과를 버리면 같은 요청 안에서도 다시 조회한다")
+    void evict_sameRequest_queriesAgain() {
+        // given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        given(eventRepository.existsParticipant(1L, 2L)).willReturn(true, false);
+        given(eventRepository.existsParticipant(3L, 2L)).willReturn(true);
+        participantLookup.isParticipant(1L, 2L);
+        participantLookup.isParticipant(3L, 2L);
+
+        // when
+        participantLookup.evict(1L);
+
+        // then
+        assertThat(participantLookup.isParticipant(1L, 2L)).isFalse();
+        assertThat(participantLookup.isParticipant(3L, 2L)).isTrue();
+        verify(eventRepository, times(1)).existsParticipant(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("요청 밖에서는 기억하지 않고 매번 조회한다")
+    void isParticipant_outsideRequest_queriesEachTime() {
+        // given
+        given(eventRepository.existsParticipant(1L, 2L)).willReturn(true);
+
+        // when
+        participantLookup.isParticipant(1L, 2L);
+        participantLookup.isParticipant(1L, 2L);
+
+        // then
+        verify(eventRepository, times(2)).existsParticipant(1L, 2L);
+    }
+}
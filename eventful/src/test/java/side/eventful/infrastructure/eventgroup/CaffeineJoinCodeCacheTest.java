@@ -0,0 +1,73 @@
+package side.eventful.infrastructure.eventgroup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import side.eventful.domain.eventgroup.JoinCodeGroup;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaffeineJoinCodeCacheTest {
+
+    private final CaffeineJoinCodeCache cache = new CaffeineJoinCodeCache(100, Duration.ofMinutes(10), Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("같은 코드는 한 번만 조회하고 이후에는 캐시에서 응답한다")
+    void get_sameCode_loadsOnce() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        JoinCodeGroup group = new JoinCodeGroup(1L, "소모임", "설명");
+
+        // when
+        cache.get("CODE1234", code -> {
+            loads.incrementAndGet();
+            return Optional.of(group);
+        });
+        Optional<JoinCodeGroup> result = cache.get("CODE1234", code -> {
+            loads.incrementAndGet();
+            return Optional.of(group);
+        });
+
+        // then
+        assertThat(result).contains(group);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("없는 코드도 캐시해서 반복 조회 시 다시 조회하지 않는다")
+    void get_unknownCode_isNegativelyCached() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.get("NOPE0000", code -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        Optional<JoinCodeGroup> result = cache.get("NOPE0000", code -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("무효화한 코드는 다음 조회 때 다시 읽는다")
+    void evict_forcesReload() {
+        // given
+        cache.get("CODE1234", code -> Optional.of(new JoinCodeGroup(1L, "이전 이름", "설명")));
+
+        // when
+        cache.evict("CODE1234");
+        Optional<JoinCodeGroup> result = cache.get("CODE1234", code -> Optional.of(new JoinCodeGroup(1L, "새 이름", "설명")));
+
+        // then
+        assertThat(result).map(JoinCodeGroup::name).contains("새 이름");
+    }
+}
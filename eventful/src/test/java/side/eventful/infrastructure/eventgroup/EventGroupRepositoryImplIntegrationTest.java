@@ -0,0 +1,74 @@
+package side.eventful.infrastructure.eventgroup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import side.eventful.PostgresIntegrationTestSupport;
+import side.eventful.domain.eventgroup.EventGroup;
+import side.eventful.domain.eventgroup.EventGroupMember;
+import side.eventful.domain.eventgroup.EventGroupRepository;
+import side.eventful.domain.member.Member;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * EventGroupRepositoryImpl 통합 테스트 (PostgreSQL)
+ *
+ * <p>멤버십 저장에서 (그룹, 회원) 유니크 위반만 삼키고 그 외 무결성 위반은 던지는지 실제 DB에서 확인합니다.</p>
+ */
+class EventGroupRepositoryImplIntegrationTest extends PostgresIntegrationTestSupport {
+
+    @Autowired
+    private EventGroupRepository eventGroupRepository;
+
+    @Test
+    @DisplayName("같은 회원의 가입이 동시에 들어와도 둘 다 성공하고 멤버십은 한 행만 남는다")
+    void addMembership_concurrentDuplicates_keepsOneRow() throws Exception {
+        // given
+        EventGroup eventGroup = saveGroup(saveMember("leader"));
+        Member member = saveMember("member");
+        List<Callable<Void>> tasks = List.of(
+            () -> {
+                eventGroupRepository.addMembership(EventGroupMember.of(eventGroup, member));
+                return null;
+            },
+            () -> {
+                eventGroupRepository.addMembership(EventGroupMember.of(eventGroup, member));
+                return null;
+            }
+        );
+
+        // when
+        runConcurrently(tasks);
+
+        // then
+        assertThat(countMemberships(eventGroup, member)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("그룹이 삭제된 뒤 가입하면 FK 위반을 그대로 던진다")
+    void addMembership_afterGroupDeleted_rethrowsForeignKeyViolation() {
+        // given
+        EventGroup eventGroup = saveGroup(saveMember("leader"));
+        Member member = saveMember("member");
+        jdbcTemplate.update("DELETE FROM event_group_member WHERE event_group_id = ?", eventGroup.getId());
+        jdbcTemplate.update("DELETE FROM event_group WHERE id = ?", eventGroup.getId());
+
+        // when & then
+        assertThatThrownBy(() -> eventGroupRepository.addMembership(EventGroupMember.of(eventGroup, member)))
+            .isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(countMemberships(eventGroup, member)).isZero();
+    }
+
+    private int countMemberships(EventGroup eventGroup, Member member) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM event_group_member WHERE event_group_id = ? AND member_id = ?",
+            Integer.class, eventGroup.getId(), member.getId());
+    }
+}
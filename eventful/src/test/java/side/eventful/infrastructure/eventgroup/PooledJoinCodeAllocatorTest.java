@@ -0,0 +1,85 @@
+package side.eventful.infrastructure.eventgroup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import side.eventful.domain.eventgroup.EventGroupRepository;
+import side.eventful.domain.eventgroup.JoinCode;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PooledJoinCodeAllocatorTest {
+
+    @Mock
+    private EventGroupRepository eventGroupRepository;
+
+    @Test
+    @DisplayName("풀이 채워져 있으면 추가 쿼리 없이 서로 다른 코드를 할당한다")
+    void allocate_fromFilledPool_returnsDistinctCodesWithoutProbing() {
+        // given
+        given(eventGroupRepository.findExistingJoinCodes(anyCollection())).willReturn(Set.of());
+        PooledJoinCodeAllocator allocator = new PooledJoinCodeAllocator(eventGroupRepository, 10, 0, Runnable::run);
+        allocator.warmUp();
+
+        // when
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            codes.add(allocator.allocate());
+        }
+
+        // then
+        assertThat(codes).hasSize(10);
+        assertThat(codes).allMatch(code -> code.matches("[A-Z0-9]{" + JoinCode.LENGTH + "}"));
+        verify(eventGroupRepository, times(1)).findExistingJoinCodes(anyCollection());
+    }
+
+    @Test
+    @DisplayName("이미 사용 중인 코드는 풀에 넣지 않는다")
+    void allocate_skipsCodesAlreadyInUse() {
+        // given
+        Set<String> taken = new HashSet<>();
+        given(eventGroupRepository.findExistingJoinCodes(anyCollection())).willAnswer(invocation -> {
+            Collection<String> candidates = invocation.getArgument(0);
+            // 첫 후보를 이미 사용 중인 코드로 취급
+            String first = candidates.iterator().next();
+            taken.add(first);
+            return Set.of(first);
+        });
+        PooledJoinCodeAllocator allocator = new PooledJoinCodeAllocator(eventGroupRepository, 5, 0, Runnable::run);
+        allocator.warmUp();
+
+        // when
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            codes.add(allocator.allocate());
+        }
+
+        // then
+        assertThat(codes).hasSize(4).doesNotContainAnyElementsOf(taken);
+    }
+
+    @Test
+    @DisplayName("후보가 계속 사용 중이면 예외가 발생한다")
+    void allocate_whenEveryCandidateIsTaken_throwsException() {
+        // given
+        given(eventGroupRepository.findExistingJoinCodes(anyCollection()))
+                .willAnswer(invocation -> new HashSet<>(invocation.<Collection<String>>getArgument(0)));
+        PooledJoinCodeAllocator allocator = new PooledJoinCodeAllocator(eventGroupRepository, 5, 0, Runnable::run);
+
+        // when & then
+        IllegalStateException exception = assertThrows(IllegalStateException.class, allocator::allocate);
+        assertThat(exception.getMessage()).isEqualTo("joinCode 생성에 실패했습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,129 @@
+package side.eventful.infrastructure.vote;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import side.eventful.domain.vote.Ballot;
+import side.eventful.domain.vote.VoteService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BatchingBallotBufferTest {
+
+    @Mock
+    private VoteService voteService;
+
+    @Test
+    @DisplayName("모인 표를 한 번에 반영하고 모두에게 완료를 알린다")
+    void flushPending_appliesBatchOnce() {
+        // given
+        BatchingBallotBuffer buffer = newBuffer(10);
+        Ballot first = new Ballot(1L, 100L, 10L);
+        Ballot second = new Ballot(1L, 200L, 20L);
+        given(voteService.applyBallots(List.of(first, second))).willReturn(Set.of());
+        CompletableFuture<Void> firstResult = buffer.enqueue(first);
+        CompletableFuture<Void> secondResult = buffer.enqueue(second);
+
+        // when
+        int flushed = buffer.flushPending();
+
+        // then
+        assertThat(flushed).isEqualTo(2);
+        verify(voteService).applyBallots(List.of(first, second));
+        assertThat(firstResult).isCompleted();
+        assertThat(secondResult).isCompleted();
+    }
+
+    @Test
+    @DisplayName("마지막 표가 거절된 회원은 같은 묶음의 이전 표도 실패로 알린다")
+    void flushPending_rejectedMember_failsAllTheirBallots() {
+        // given
+        BatchingBallotBuffer buffer = newBuffer(10);
+        Ballot earlier = new Ballot(1L, 100L, 10L);
+        Ballot latest = new Ballot(1L, 100L, 20L);
+        given(voteService.applyBallots(List.of(earlier, latest))).willReturn(Set.of(latest));
+        CompletableFuture<Void> earlierResult = buffer.enqueue(earlier);
+        CompletableFuture<Void> latestResult = buffer.enqueue(latest);
+
+        // when
+        buffer.flushPending();
+
+        // then
+        assertThat(earlierResult).isCompletedExceptionally();
+        assertThat(latestResult).isCompletedExceptionally();
+    }
+
+    @Test
+    @DisplayName("묶음 반영이 실패하면 회원별로 다시 반영해 실패한 회원의 표만 실패로 알린다")
+    void flushPending_batchFails_isolatesFailingMember() {
+        // given
+        BatchingBallotBuffer buffer = newBuffer(10);
+        Ballot failing = new Ballot(1L, 100L, 10L);
+        Ballot other = new Ballot(1L, 200L, 20L);
+        IllegalStateException failure = new IllegalStateException("반영 실패");
+        given(voteService.applyBallots(List.of(failing, other))).willThrow(failure);
+        given(voteService.applyBallots(List.of(failing))).willThrow(failure);
+        given(voteService.applyBallots(List.of(other))).willReturn(Set.of());
+        CompletableFuture<Void> failingResult = buffer.enqueue(failing);
+        CompletableFuture<Void> otherResult = buffer.enqueue(other);
+
+        // when
+        buffer.flushPending();
+
+        // then
+        assertThat(failingResult).isCompletedExceptionally();
+        assertThat(otherResult).isCompleted().isNotCompletedExceptionally();
+    }
+
+    @Test
+    @DisplayName("종료하면 반영 스레드가 끝난 뒤 남은 표를 반영한다")
+    void shutdown_waitsForFlushLoopThenFlushesRemaining() {
+        // given
+        ExecutorService flushExecutor = Executors.newSingleThreadExecutor();
+        BatchingBallotBuffer buffer = new BatchingBallotBuffer(voteService, Duration.ZERO, 500, 10,
+            Duration.ofSeconds(1), flushExecutor);
+        Ballot ballot = new Ballot(1L, 100L, 10L);
+        given(voteService.applyBallots(List.of(ballot))).willReturn(Set.of());
+        CompletableFuture<Void> result = buffer.enqueue(ballot);
+
+        // when
+        buffer.shutdown();
+
+        // then
+        assertThat(flushExecutor.isTerminated()).isTrue();
+        assertThat(result).isCompleted().isNotCompletedExceptionally();
+        assertThatThrownBy(() -> buffer.enqueue(new Ballot(1L, 200L, 10L)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("대기 중인 표가 상한에 닿으면 바로 거절한다")
+    void enqueue_full_throwsException() {
+        // given
+        BatchingBallotBuffer buffer = newBuffer(1);
+        buffer.enqueue(new Ballot(1L, 100L, 10L));
+
+        // when & then
+        assertThatThrownBy(() -> buffer.enqueue(new Ballot(1L, 200L, 10L)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("투표 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    private BatchingBallotBuffer newBuffer(int maxPending) {
+        return new BatchingBallotBuffer(voteService, Duration.ZERO, 500, maxPending, Duration.ofSeconds(1), task -> {
+        });
+    }
+}
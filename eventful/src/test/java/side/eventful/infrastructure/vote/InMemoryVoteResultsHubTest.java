@@ -0,0 +1,139 @@
+package side.eventful.infrastructure.vote;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import side.eventful.domain.vote.VoteOptionTally;
+import side.eventful.domain.vote.VoteResults;
+import side.eventful.domain.vote.VoteResultsSubscriber;
+import side.eventful.domain.vote.VoteResultsSubscription;
+import side.eventful.domain.vote.VoteStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryVoteResultsHubTest {
+
+    @Test
+    @DisplayName("보내기 전에 들어온 결과는 구독자별로 하나의 전송으로 묶는다")
+    void publish_beforeSend_coalescesIntoOneTask() {
+        // given
+        List<Runnable> tasks = new ArrayList<>();
+        InMemoryVoteResultsHub hub = new InMemoryVoteResultsHub(Duration.ZERO, tasks::add);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        hub.subscribe(subscriber, 1L, 100L, 1L);
+
+        // when
+        hub.publish(results(1L, VoteStatus.IN_PROGRESS, 1));
+        hub.publish(results(1L, VoteStatus.IN_PROGRESS, 2));
+
+        // then
+        assertThat(tasks).hasSize(1);
+        tasks.remove(0).run();
+        assertThat(tasks).isEmpty();
+        assertThat(subscriber.sent).containsExactly(results(1L, VoteStatus.IN_PROGRESS, 2));
+        assertThat(hub.hasSubscribers(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("등록 뒤 변경 알림을 먼저 받았으면 등록 직후 읽은 결과는 보내지 않는다")
+    void sendInitial_afterPublish_isIgnored() {
+        // given
+        InMemoryVoteResultsHub hub = new InMemoryVoteResultsHub(Duration.ZERO, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        VoteResultsSubscription subscription = hub.subscribe(subscriber, 1L, 100L, 1L);
+        hub.publish(results(1L, VoteStatus.IN_PROGRESS, 2));
+
+        // when
+        subscription.sendInitial(results(1L, VoteStatus.IN_PROGRESS, 1));
+
+        // then
+        assertThat(subscriber.sent).containsExactly(results(1L, VoteStatus.IN_PROGRESS, 2));
+    }
+
+    @Test
+    @DisplayName("마감된 결과를 보내면 구독을 끝낸다")
+    void publish_closedResults_endsSubscription() {
+        // given
+        InMemoryVoteResultsHub hub = new InMemoryVoteResultsHub(Duration.ZERO, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        hub.subscribe(subscriber, 1L, 100L, 1L).sendInitial(results(1L, VoteStatus.IN_PROGRESS, 0));
+
+        // when
+        hub.publish(results(1L, VoteStatus.CLOSED, 3));
+
+        // then
+        assertThat(subscriber.sent).hasSize(2);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(hub.hasSubscribers(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("투표 구독을 닫으면 해당 투표의 구독자만 사라진다")
+    void close_removesOnlyThatVote() {
+        // given
+        InMemoryVoteResultsHub hub = new InMemoryVoteResultsHub(Duration.ZERO, Runnable::run);
+        hub.subscribe(new RecordingSubscriber(), 1L, 100L, 1L);
+        hub.subscribe(new RecordingSubscriber(), 2L, 100L, 1L);
+
+        // when
+        hub.close(1L);
+
+        // then
+        assertThat(hub.hasSubscribers(1L)).isFalse();
+        assertThat(hub.hasSubscribers(2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("회원 구독을 닫으면 그 이벤트에서 해당 회원의 구독만 끝난다")
+    void closeMember_endsOnlyThatMembersSubscriptions() {
+        // given
+        InMemoryVoteResultsHub hub = new InMemoryVoteResultsHub(Duration.ZERO, Runnable::run);
+        RecordingSubscriber leaving = new RecordingSubscriber();
+        RecordingSubscriber otherMember = new RecordingSubscriber();
+        RecordingSubscriber otherEvent = new RecordingSubscriber();
+        hub.subscribe(leaving, 1L, 100L, 1L);
+        hub.subscribe(otherMember, 1L, 100L, 2L);
+        hub.subscribe(otherEvent, 2L, 200L, 1L);
+
+        // when
+        hub.closeMember(100L, 1L);
+        hub.publish(results(1L, VoteStatus.IN_PROGRESS, 1));
+
+        // then
+        assertThat(leaving.completed).isTrue();
+        assertThat(leaving.sent).isEmpty();
+        assertThat(otherMember.sent).hasSize(1);
+        assertThat(otherEvent.completed).isFalse();
+    }
+
+    private VoteResults results(Long voteId, VoteStatus status, long voteCount) {
+        return new VoteResults(voteId, status, List.of(new VoteOptionTally(voteId, 10L, "흑돼지", voteCount)));
+    }
+
+    private static class RecordingSubscriber implements VoteResultsSubscriber {
+
+        private final List<VoteResults> sent = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public void send(VoteResults results) {
+            sent.add(results);
+        }
+
+        @Override
+        public void ping() {
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void onDisconnect(Runnable callback) {
+        }
+    }
+}